@@ -0,0 +1,64 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 이슈 페이지 제목 추출 비교 (Jsoup 전체 파싱 vs 스트리밍 추출)
+ * <p>
+ * GitHub 이슈 페이지와 비슷한 구조(긴 head, 큰 body)의 합성 HTML 을 사용하므로
+ * 네트워크 비용은 포함되지 않는다. 실행: ./gradlew jmh
+ * -prof gc 옵션으로 요청당 할당량도 함께 비교할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssueTitleExtractionBenchmark {
+
+  // body 크기 (KB) - 실제 이슈 페이지는 대략 200~400KB
+  @Param({"64", "256"})
+  private int bodyKb;
+
+  private byte[] page;
+
+  @Setup
+  public void setUp() {
+    StringBuilder html = new StringBuilder(bodyKb * 1024 + 4096);
+    html.append("<!DOCTYPE html>\n<html lang=\"en\" data-color-mode=\"auto\">\n<head>\n");
+    html.append("<meta charset=\"utf-8\">\n");
+    for (int i = 0; i < 40; i++) {
+      html.append("<link rel=\"stylesheet\" href=\"https://github.githubassets.com/assets/style-")
+          .append(i).append(".css\" crossorigin=\"anonymous\">\n");
+    }
+    html.append("<title>[기능] 로그인 API 응답 개선 &middot; Issue #42 &middot; owner/repo &middot; GitHub</title>\n");
+    html.append("</head>\n<body>\n");
+    int row = 0;
+    while (html.length() < bodyKb * 1024) {
+      html.append("<div class=\"js-timeline-item\"><p>comment ").append(row++)
+          .append(" lorem ipsum dolor sit amet &amp; consectetur</p></div>\n");
+    }
+    html.append("</body>\n</html>\n");
+    page = html.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String jsoupDocument() {
+    return Jsoup.parse(new String(page, StandardCharsets.UTF_8)).select("title").text();
+  }
+
+  @Benchmark
+  public String streamingExtractor() throws IOException {
+    return HtmlTitleExtractor.extract(new ByteArrayInputStream(page), StandardCharsets.UTF_8);
+  }
+}
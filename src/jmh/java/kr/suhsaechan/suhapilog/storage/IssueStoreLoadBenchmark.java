@@ -0,0 +1,104 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 이슈 저장소 로딩 비교 (JSON 전체 파싱 vs 메모리 매핑 이진 파일)
+ * <p>
+ * 저장소를 열고 이슈 하나를 조회하기까지의 시간을 잰다. 실행: ./gradlew jmh
+ * -prof gc 옵션으로 로딩 시 할당량(gc.alloc.rate.norm)도 함께 비교할 수 있다.
+ * 로딩 후 남는 힙 크기는 main 으로 확인한다:
+ * java -cp build/libs/suh-api-log-*-jmh.jar kr.suhsaechan.suhapilog.storage.IssueStoreLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IssueStoreLoadBenchmark {
+
+  @Param({"1000", "10000", "50000"})
+  private int issueCount;
+
+  private Path jsonStorage;
+  private Path binaryStorage;
+
+  @Setup
+  public void setUp() throws IOException {
+    jsonStorage = Files.createTempDirectory("suhapilog-bench-json");
+    binaryStorage = Files.createTempDirectory("suhapilog-bench-binary");
+    populate(jsonStorage, binaryStorage, issueCount);
+  }
+
+  @Benchmark
+  public Optional<GithubIssue> loadJson() {
+    return new JsonIssueRepository(jsonStorage.toString()).findByIssueNumber(issueCount / 2);
+  }
+
+  @Benchmark
+  public Optional<GithubIssue> loadBinary() {
+    return new BinaryIssueRepository(binaryStorage.toString()).findByIssueNumber(issueCount / 2);
+  }
+
+  /**
+   * 로딩 후 남는 힙 크기 비교
+   */
+  public static void main(String[] args) throws IOException {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+    Path json = Files.createTempDirectory("suhapilog-heap-json");
+    Path binary = Files.createTempDirectory("suhapilog-heap-binary");
+    populate(json, binary, count);
+
+    System.out.printf("issues=%d json=%,d bytes binary=%,d bytes%n", count,
+        retainedHeap(path -> new JsonIssueRepository(path.toString()), json),
+        retainedHeap(path -> new BinaryIssueRepository(path.toString()), binary));
+  }
+
+  private static long retainedHeap(Function<Path, IssueRepository> open, Path storage) {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    System.gc();
+    long before = memory.getHeapMemoryUsage().getUsed();
+    IssueRepository repository = open.apply(storage);
+    System.gc();
+    long after = memory.getHeapMemoryUsage().getUsed();
+    // 측정이 끝날 때까지 저장소가 수거되지 않도록 사용
+    repository.findByIssueNumber(1);
+    return Math.max(0, after - before);
+  }
+
+  private static void populate(Path jsonStorage, Path binaryStorage, int count) {
+    JsonIssueRepository json = new JsonIssueRepository(jsonStorage.toString(), Duration.ofHours(1));
+    BinaryIssueRepository binary = new BinaryIssueRepository(binaryStorage.toString(), Duration.ofHours(1));
+    LocalDateTime fetchedAt = LocalDateTime.now();
+    for (int i = 1; i <= count; i++) {
+      GithubIssue issue = GithubIssue.builder()
+          .issueNumber(i)
+          .cleanTitle("로그인 API 응답 형식 변경 " + i)
+          .rawTitle("[기능개선] 로그인 API 응답 형식 변경 " + i + " · Issue #" + i + " · owner/repo")
+          .pageUrl("https://github.com/owner/repo/issues/" + i)
+          .fetchedAt(fetchedAt)
+          .etag("W/\"" + Integer.toHexString(i * 31) + "\"")
+          .build();
+      json.save(issue);
+      binary.save(issue);
+    }
+    json.close();
+    binary.close();
+  }
+}
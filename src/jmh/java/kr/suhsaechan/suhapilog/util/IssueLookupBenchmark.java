@@ -0,0 +1,77 @@
+package kr.suhsaechan.suhapilog.util;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 이슈 번호 조회 비교 (ConcurrentHashMap&lt;Integer, GithubIssue&gt; vs ConcurrentIntObjectMap)
+ * <p>
+ * Swagger 렌더링처럼 여러 스레드가 무작위 이슈 번호를 조회하는 상황을 가정한다.
+ * 이슈 번호는 대부분 Integer 캐시 범위(-128~127)를 벗어나므로 ConcurrentHashMap 은 조회마다 키를 박싱한다.
+ * 실행: ./gradlew jmh, -prof gc 옵션으로 조회당 할당량(gc.alloc.rate.norm)을 함께 비교할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class IssueLookupBenchmark {
+
+  @Param({"300", "10000"})
+  private int issueCount;
+
+  private Map<Integer, GithubIssue> boxedMap;
+  private ConcurrentIntObjectMap<GithubIssue> intMap;
+  private int[] lookups;
+
+  @Setup
+  public void setUp() {
+    boxedMap = new ConcurrentHashMap<>();
+    intMap = new ConcurrentIntObjectMap<>();
+    for (int i = 1; i <= issueCount; i++) {
+      // 실제 저장소처럼 이슈 번호가 128 이상에서 시작
+      int issueNumber = 1000 + i;
+      GithubIssue issue = GithubIssue.builder().issueNumber(issueNumber).cleanTitle("이슈 " + issueNumber).build();
+      boxedMap.put(issueNumber, issue);
+      intMap.put(issueNumber, issue);
+    }
+    Random random = new Random(42);
+    lookups = new int[1024];
+    for (int i = 0; i < lookups.length; i++) {
+      lookups[i] = 1001 + random.nextInt(issueCount);
+    }
+  }
+
+  @Benchmark
+  public int concurrentHashMap() {
+    int found = 0;
+    for (int issueNumber : lookups) {
+      if (boxedMap.get(issueNumber) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int concurrentIntObjectMap() {
+    int found = 0;
+    for (int issueNumber : lookups) {
+      if (intMap.get(issueNumber) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+}
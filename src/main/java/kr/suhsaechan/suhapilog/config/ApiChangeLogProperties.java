@@ -1,10 +1,18 @@
 package kr.suhsaechan.suhapilog.config;
 
+import java.time.Duration;
+
 public class ApiChangeLogProperties {
   private boolean enabled = true;
   private Github github = new Github();
   private Storage storage = new Storage();
+  private Scan scan = new Scan();
+  private Swagger swagger = new Swagger();
+  private CircuitBreaker circuitBreaker = new CircuitBreaker();
+  private Webhook webhook = new Webhook();
   private String defaultAuthor = "";
+  // true 이면 스캔과 이슈 동기화를 백그라운드에서 수행하여 애플리케이션 기동을 지연시키지 않음
+  private boolean asyncInit = false;
 
   public boolean isEnabled() {
     return enabled;
@@ -30,6 +38,38 @@ public class ApiChangeLogProperties {
     this.storage = storage;
   }
 
+  public Scan getScan() {
+    return scan;
+  }
+
+  public void setScan(Scan scan) {
+    this.scan = scan;
+  }
+
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  public Webhook getWebhook() {
+    return webhook;
+  }
+
+  public void setWebhook(Webhook webhook) {
+    this.webhook = webhook;
+  }
+
+  public Swagger getSwagger() {
+    return swagger;
+  }
+
+  public void setSwagger(Swagger swagger) {
+    this.swagger = swagger;
+  }
+
   public String getDefaultAuthor() {
     return defaultAuthor;
   }
@@ -38,8 +78,57 @@ public class ApiChangeLogProperties {
     this.defaultAuthor = defaultAuthor;
   }
 
+  public boolean isAsyncInit() {
+    return asyncInit;
+  }
+
+  public void setAsyncInit(boolean asyncInit) {
+    this.asyncInit = asyncInit;
+  }
+
   public static class Github {
     private String baseUrl;
+    // 시작 시 이슈 동기화의 최대 동시 요청 수 (1이면 순차 처리)
+    private int fetchConcurrency = 1;
+    // 이슈 페이지 조회 방식
+    private Fetcher fetcher = Fetcher.STREAMING;
+    // GRAPHQL 조회 시 사용할 API 주소 (GitHub Enterprise 는 https://{host}/api/graphql)
+    private String apiUrl = "https://api.github.com/graphql";
+    // GRAPHQL 조회 시 사용할 토큰 (공개 저장소도 GraphQL API 는 인증 필요)
+    private String token;
+    // GRAPHQL 조회 시 요청 한 번에 묶을 이슈 수
+    private int batchSize = 100;
+    // 저장된 이슈를 최신으로 보는 기간 (지나면 기존 값을 보여주면서 백그라운드에서 재검증, 0 이하면 만료 없음)
+    private Duration cacheTtl = Duration.ofDays(1);
+    // 이슈 조회 HTTP 연결 제한 시간
+    private Duration connectTimeout = Duration.ofSeconds(30);
+    // 이슈 조회 HTTP 응답 제한 시간 (요청 후 응답 본문을 끝까지 받을 때까지)
+    private Duration readTimeout = Duration.ofSeconds(30);
+    // 이슈 조회에 사용할 HTTP 프록시 (host:port, 없으면 직접 연결)
+    private String proxy;
+    // 이슈 조회 요청의 User-Agent (없으면 브라우저 User-Agent)
+    private String userAgent;
+    // 초당 최대 이슈 조회 요청 수 (0 이하면 제한 없음, GitHub 속도 제한 응답은 항상 반영)
+    private double requestsPerSecond = 5;
+    // 조회에 실패한 이슈의 백그라운드 재시도 횟수 (0이면 재시도 안 함)
+    private int maxRetries = 5;
+    // 첫 재시도까지의 기본 지연 시간 (재시도마다 두 배씩 증가)
+    private Duration retryBaseDelay = Duration.ofSeconds(2);
+    // 재시도 지연 시간의 상한
+    private Duration retryMaxDelay = Duration.ofMinutes(10);
+    // 조회할 수 없는 이슈(404, 반복 실패) 기록을 유지하는 기간 (0 이하면 기록하지 않음)
+    private Duration negativeCacheTtl = Duration.ofHours(1);
+    // 이 횟수만큼 연속으로 조회에 실패하면 조회할 수 없는 이슈로 기록
+    private int negativeCacheFailureThreshold = 3;
+
+    public enum Fetcher {
+      // 응답을 스트림으로 읽다가 </title> 에서 멈춤 (DOM 생성 없음)
+      STREAMING,
+      // 페이지 전체를 Jsoup Document 로 파싱
+      JSOUP,
+      // GitHub GraphQL API 로 여러 이슈를 한 번에 조회 (token 필요)
+      GRAPHQL
+    }
 
     public String getBaseUrl() {
       return baseUrl;
@@ -48,10 +137,420 @@ public class ApiChangeLogProperties {
     public void setBaseUrl(String baseUrl) {
       this.baseUrl = baseUrl;
     }
+
+    public int getFetchConcurrency() {
+      return fetchConcurrency;
+    }
+
+    public void setFetchConcurrency(int fetchConcurrency) {
+      this.fetchConcurrency = fetchConcurrency;
+    }
+
+    public Fetcher getFetcher() {
+      return fetcher;
+    }
+
+    public void setFetcher(Fetcher fetcher) {
+      this.fetcher = fetcher;
+    }
+
+    public String getApiUrl() {
+      return apiUrl;
+    }
+
+    public void setApiUrl(String apiUrl) {
+      this.apiUrl = apiUrl;
+    }
+
+    public String getToken() {
+      return token;
+    }
+
+    public void setToken(String token) {
+      this.token = token;
+    }
+
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+    }
+
+    public Duration getCacheTtl() {
+      return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtl) {
+      this.cacheTtl = cacheTtl;
+    }
+
+    public Duration getConnectTimeout() {
+      return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+      this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+      return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+      this.readTimeout = readTimeout;
+    }
+
+    public String getProxy() {
+      return proxy;
+    }
+
+    public void setProxy(String proxy) {
+      this.proxy = proxy;
+    }
+
+    public String getUserAgent() {
+      return userAgent;
+    }
+
+    public void setUserAgent(String userAgent) {
+      this.userAgent = userAgent;
+    }
+
+    public double getRequestsPerSecond() {
+      return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+      this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public int getMaxRetries() {
+      return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+      this.maxRetries = maxRetries;
+    }
+
+    public Duration getRetryBaseDelay() {
+      return retryBaseDelay;
+    }
+
+    public void setRetryBaseDelay(Duration retryBaseDelay) {
+      this.retryBaseDelay = retryBaseDelay;
+    }
+
+    public Duration getRetryMaxDelay() {
+      return retryMaxDelay;
+    }
+
+    public void setRetryMaxDelay(Duration retryMaxDelay) {
+      this.retryMaxDelay = retryMaxDelay;
+    }
+
+    public Duration getNegativeCacheTtl() {
+      return negativeCacheTtl;
+    }
+
+    public void setNegativeCacheTtl(Duration negativeCacheTtl) {
+      this.negativeCacheTtl = negativeCacheTtl;
+    }
+
+    public int getNegativeCacheFailureThreshold() {
+      return negativeCacheFailureThreshold;
+    }
+
+    public void setNegativeCacheFailureThreshold(int negativeCacheFailureThreshold) {
+      this.negativeCacheFailureThreshold = negativeCacheFailureThreshold;
+    }
   }
 
   public static class Storage {
     private String path = "./github-issues";
+    // 이슈 저장 방식
+    private Type type = Type.JSON;
+    // JSON / BINARY 방식의 이슈 파일 지연 쓰기 간격 (이 간격마다 최대 한 번 기록, 종료 시 남은 변경 기록, 0 이면 저장할 때마다 기록)
+    private Duration flushInterval = Duration.ofSeconds(1);
+    // JOURNAL 방식에서 저널이 이 건수를 넘으면 스냅샷으로 압축
+    private int journalCompactThreshold = 1000;
+    // 0 보다 크면 자주 조회되는 이슈만 이 수만큼 메모리에 두고 나머지는 저장소에서 읽음 (BINARY 와 함께 사용)
+    private int cacheMaximumSize = 0;
+    // JDBC 방식에서 이슈를 저장할 테이블 이름
+    private String jdbcTableName = "suhapilog_issue";
+    // JDBC 방식에서 테이블이 없으면 생성
+    private boolean jdbcInitializeSchema = true;
+    // JDBC / REDIS 방식에서 조회한 이슈를 메모리에 보관하는 시간 (다른 인스턴스의 갱신은 이 시간이 지나면 반영, 0 이면 매번 조회)
+    private Duration sharedCacheTtl = Duration.ofSeconds(5);
+    // REDIS 방식에서 연결할 서버 주소 (redis://[[사용자]:비밀번호@]호스트[:포트][/DB 번호], TLS 는 rediss://)
+    private String redisUrl = "redis://localhost:6379";
+    // REDIS 방식에서 이슈 키 접두사 (뒤에 저장소 주소와 이슈 번호가 붙음)
+    private String redisKeyPrefix = "suhapilog:issue:";
+    // REDIS 방식에서 저장한 이슈의 만료 시간 (0 이면 만료 없음)
+    private Duration redisTtl = Duration.ofDays(7);
+    // REDIS 방식에서 연결과 응답 대기 제한 시간
+    private Duration redisTimeout = Duration.ofSeconds(2);
+
+    public enum Type {
+      // 이슈 전체를 github-issues.json 에 기록
+      JSON,
+      // 변경을 github-issues.journal 에 추가 기록하고 주기적으로 스냅샷으로 압축
+      JOURNAL,
+      // 메모리 매핑한 이진 파일 github-issues.bin 에서 조회할 때만 디코딩 (이슈가 많을 때)
+      BINARY,
+      // 애플리케이션의 DataSource 테이블에 저장하여 여러 인스턴스가 공유
+      JDBC,
+      // Redis 호환 서버에 이슈별 해시로 저장하여 여러 인스턴스가 공유
+      REDIS
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public void setPath(String path) {
+      this.path = path;
+    }
+
+    public Duration getFlushInterval() {
+      return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+      this.flushInterval = flushInterval;
+    }
+
+    public Type getType() {
+      return type;
+    }
+
+    public void setType(Type type) {
+      this.type = type;
+    }
+
+    public int getJournalCompactThreshold() {
+      return journalCompactThreshold;
+    }
+
+    public void setJournalCompactThreshold(int journalCompactThreshold) {
+      this.journalCompactThreshold = journalCompactThreshold;
+    }
+
+    public int getCacheMaximumSize() {
+      return cacheMaximumSize;
+    }
+
+    public void setCacheMaximumSize(int cacheMaximumSize) {
+      this.cacheMaximumSize = cacheMaximumSize;
+    }
+
+    public String getJdbcTableName() {
+      return jdbcTableName;
+    }
+
+    public void setJdbcTableName(String jdbcTableName) {
+      this.jdbcTableName = jdbcTableName;
+    }
+
+    public boolean isJdbcInitializeSchema() {
+      return jdbcInitializeSchema;
+    }
+
+    public void setJdbcInitializeSchema(boolean jdbcInitializeSchema) {
+      this.jdbcInitializeSchema = jdbcInitializeSchema;
+    }
+
+    public Duration getSharedCacheTtl() {
+      return sharedCacheTtl;
+    }
+
+    public void setSharedCacheTtl(Duration sharedCacheTtl) {
+      this.sharedCacheTtl = sharedCacheTtl;
+    }
+
+    public String getRedisUrl() {
+      return redisUrl;
+    }
+
+    public void setRedisUrl(String redisUrl) {
+      this.redisUrl = redisUrl;
+    }
+
+    public String getRedisKeyPrefix() {
+      return redisKeyPrefix;
+    }
+
+    public void setRedisKeyPrefix(String redisKeyPrefix) {
+      this.redisKeyPrefix = redisKeyPrefix;
+    }
+
+    public Duration getRedisTtl() {
+      return redisTtl;
+    }
+
+    public void setRedisTtl(Duration redisTtl) {
+      this.redisTtl = redisTtl;
+    }
+
+    public Duration getRedisTimeout() {
+      return redisTimeout;
+    }
+
+    public void setRedisTimeout(Duration redisTimeout) {
+      this.redisTimeout = redisTimeout;
+    }
+  }
+
+  public static class Scan {
+    // suh-api-log-processor 가 생성한 META-INF/suhapilog/index 가 있으면 리플렉션 스캔 대신 사용
+    private boolean indexEnabled = true;
+    // 인덱스가 없을 때 사용할 스캔 방식
+    private Strategy strategy = Strategy.HANDLER_MAPPING;
+
+    public enum Strategy {
+      // RequestMappingHandlerMapping 에 등록된 핸들러 메서드만 검사 (Spring MVC 가 없으면 BEAN 으로 대체)
+      HANDLER_MAPPING,
+      // @Controller / @RestController 빈의 모든 public 메서드 검사
+      BEAN
+    }
+
+    public boolean isIndexEnabled() {
+      return indexEnabled;
+    }
+
+    public void setIndexEnabled(boolean indexEnabled) {
+      this.indexEnabled = indexEnabled;
+    }
+
+    public Strategy getStrategy() {
+      return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+      this.strategy = strategy;
+    }
+  }
+
+  public static class Swagger {
+    // 문서 생성 시 모든 Operation 의 이슈를 모아 한 번에 조회한 뒤 변경 이력을 추가
+    private boolean batchPrefetch = true;
+    // 문서 생성 한 번에 캐시에 없는 이슈 조회를 기다리는 최대 시간 (넘으면 플레이스홀더 표시 후 백그라운드 조회)
+    private Duration renderDeadline = Duration.ofSeconds(2);
+
+    public boolean isBatchPrefetch() {
+      return batchPrefetch;
+    }
+
+    public void setBatchPrefetch(boolean batchPrefetch) {
+      this.batchPrefetch = batchPrefetch;
+    }
+
+    public Duration getRenderDeadline() {
+      return renderDeadline;
+    }
+
+    public void setRenderDeadline(Duration renderDeadline) {
+      this.renderDeadline = renderDeadline;
+    }
+  }
+
+  public static class CircuitBreaker {
+    // GitHub 이슈 조회 회로 차단기 사용 여부
+    private boolean enabled = true;
+    // 최근 요청 중 실패 비율(%)이 이 값 이상이면 회로를 엶
+    private int failureRateThreshold = 50;
+    // 최근 요청 중 느린 요청 비율(%)이 이 값 이상이면 회로를 엶
+    private int slowCallRateThreshold = 80;
+    // 이 시간 이상 걸린 요청은 느린 요청으로 봄
+    private Duration slowCallDuration = Duration.ofSeconds(5);
+    // 비율을 계산하기 위한 최소 요청 수
+    private int minimumCalls = 10;
+    // 비율 계산에 사용하는 최근 요청 수
+    private int windowSize = 20;
+    // 회로를 연 뒤 시험 요청을 보내기까지의 시간
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getFailureRateThreshold() {
+      return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getSlowCallRateThreshold() {
+      return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(int slowCallRateThreshold) {
+      this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+      return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(Duration slowCallDuration) {
+      this.slowCallDuration = slowCallDuration;
+    }
+
+    public int getMinimumCalls() {
+      return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+      this.minimumCalls = minimumCalls;
+    }
+
+    public int getWindowSize() {
+      return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+      this.windowSize = windowSize;
+    }
+
+    public Duration getOpenDuration() {
+      return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+      this.openDuration = openDuration;
+    }
+  }
+
+  public static class Webhook {
+    // GitHub issues 웹훅 수신 엔드포인트 사용 여부 (Spring MVC 환경에서만 등록)
+    private boolean enabled = false;
+    // 웹훅 설정의 Secret (X-Hub-Signature-256 검증에 사용, 필수)
+    private String secret;
+    // 웹훅 수신 경로
+    private String path = "/suhapilog/webhook/github";
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getSecret() {
+      return secret;
+    }
+
+    public void setSecret(String secret) {
+      this.secret = secret;
+    }
 
     public String getPath() {
       return path;
@@ -61,4 +560,4 @@ public class ApiChangeLogProperties {
       this.path = path;
     }
   }
-}
\ No newline at end of file
+}
@@ -1,14 +1,39 @@
 package kr.suhsaechan.suhapilog.config;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import kr.suhsaechan.suhapilog.fetch.IssueCircuitBreaker;
+import kr.suhsaechan.suhapilog.model.ApiLogIndexEntry;
+import kr.suhsaechan.suhapilog.service.ApiLogIndexLoader;
+import kr.suhsaechan.suhapilog.service.ApiLogOpenApiCustomizer;
+import kr.suhsaechan.suhapilog.service.ApiLogOperationCustomizer;
 import kr.suhsaechan.suhapilog.service.ChangelogProcessor;
+import kr.suhsaechan.suhapilog.service.ChangelogSyncStatus;
+import kr.suhsaechan.suhapilog.service.DeferredChangelogRenderer;
 import kr.suhsaechan.suhapilog.service.GithubIssueService;
+import kr.suhsaechan.suhapilog.service.HandlerMethodScanner;
+import kr.suhsaechan.suhapilog.storage.BinaryIssueRepository;
+import kr.suhsaechan.suhapilog.storage.CachingIssueRepository;
 import kr.suhsaechan.suhapilog.storage.IssueRepository;
+import kr.suhsaechan.suhapilog.storage.JdbcIssueRepository;
+import kr.suhsaechan.suhapilog.storage.JournalIssueRepository;
 import kr.suhsaechan.suhapilog.storage.JsonIssueRepository;
+import kr.suhsaechan.suhapilog.storage.RedisIssueRepository;
 import kr.suhsaechan.suhapilog.util.ProjectRootResolver;
+import kr.suhsaechan.suhapilog.util.SuhExecutors;
+import kr.suhsaechan.suhapilog.webhook.GithubWebhookController;
+import kr.suhsaechan.suhapilog.webhook.GithubWebhookHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -16,6 +41,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.bind.annotation.RestController;
 import kr.suhsaechan.suhapilog.util.SuhApiLogger;
 
@@ -25,10 +52,15 @@ import kr.suhsaechan.suhapilog.util.SuhApiLogger;
 @Configuration
 @EnableConfigurationProperties
 @ConditionalOnProperty(prefix = "suhapilog", name = "enabled", havingValue = "true", matchIfMissing = true)
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration")
 public class SuhApiLogAutoConfiguration {
   private static final SuhApiLogger log = SuhApiLogger.getLogger(SuhApiLogAutoConfiguration.class);
 
+  private static final String SPRINGDOC_GLOBAL_OPERATION_CUSTOMIZER =
+      "org.springdoc.core.customizers.GlobalOperationCustomizer";
+  private static final String SPRINGDOC_GLOBAL_OPENAPI_CUSTOMIZER =
+      "org.springdoc.core.customizers.GlobalOpenApiCustomizer";
+
   @Bean
   @ConfigurationProperties(prefix = "suhapilog")
   public ApiChangeLogProperties apiChangeLogProperties() {
@@ -41,7 +73,60 @@ public class SuhApiLogAutoConfiguration {
     String resolvedPath = ProjectRootResolver
         .resolveStoragePath(properties.getStorage().getPath())
         .toString();
-    return new JsonIssueRepository(resolvedPath);
+    IssueRepository repository;
+    switch (properties.getStorage().getType()) {
+      case JOURNAL:
+        repository = new JournalIssueRepository(resolvedPath, properties.getStorage().getJournalCompactThreshold());
+        break;
+      case BINARY:
+        repository = new BinaryIssueRepository(resolvedPath, properties.getStorage().getFlushInterval());
+        break;
+      case REDIS:
+        log.info("Redis 이슈 저장소 사용");
+        repository = new RedisIssueRepository(properties.getStorage().getRedisUrl(),
+            properties.getStorage().getRedisKeyPrefix(), properties.getGithub().getBaseUrl(),
+            properties.getStorage().getRedisTtl(), properties.getStorage().getRedisTimeout(),
+            properties.getStorage().getSharedCacheTtl());
+        break;
+      case JDBC:
+        // DataSource 빈이 있으면 JdbcStorageConfiguration 이 먼저 등록됨
+        throw new IllegalStateException("suhapilog.storage.type=JDBC 를 사용하려면 DataSource 빈이 필요합니다");
+      default:
+        repository = new JsonIssueRepository(resolvedPath, properties.getStorage().getFlushInterval());
+        break;
+    }
+    return withCache(repository, properties);
+  }
+
+  /**
+   * suhapilog.storage.cache-maximum-size 가 설정되면 메모리 캐시로 감쌈
+   */
+  static IssueRepository withCache(IssueRepository repository, ApiChangeLogProperties properties) {
+    int cacheMaximumSize = properties.getStorage().getCacheMaximumSize();
+    if (cacheMaximumSize > 0) {
+      log.info("이슈 메모리 캐시 사용 - 최대 {}개", cacheMaximumSize);
+      return new CachingIssueRepository(repository, cacheMaximumSize);
+    }
+    return repository;
+  }
+
+  /**
+   * 데이터베이스 이슈 저장소 (suhapilog.storage.type=JDBC, DataSource 빈이 있을 때)
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBean(DataSource.class)
+  @ConditionalOnProperty(prefix = "suhapilog.storage", name = "type", havingValue = "JDBC")
+  static class JdbcStorageConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IssueRepository issueRepository(DataSource dataSource, ApiChangeLogProperties properties) {
+      ApiChangeLogProperties.Storage storage = properties.getStorage();
+      log.info("데이터베이스 이슈 저장소 사용 - 테이블 {}", storage.getJdbcTableName());
+      JdbcIssueRepository repository = new JdbcIssueRepository(dataSource, storage.getJdbcTableName(),
+          properties.getGithub().getBaseUrl(), storage.isJdbcInitializeSchema(), storage.getSharedCacheTtl());
+      return withCache(repository, properties);
+    }
   }
 
   @Bean
@@ -63,7 +148,69 @@ public class SuhApiLogAutoConfiguration {
     return new ChangelogProcessor(githubIssueService);
   }
 
+  /**
+   * GitHub issues 웹훅 수신 (suhapilog.webhook.enabled=true, Spring MVC 환경)
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "org.springframework.web.servlet.DispatcherServlet")
+  @ConditionalOnProperty(prefix = "suhapilog.webhook", name = "enabled", havingValue = "true")
+  static class GithubWebhookConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GithubWebhookHandler githubWebhookHandler(
+        GithubIssueService githubIssueService,
+        ApiChangeLogProperties properties) {
+      return new GithubWebhookHandler(githubIssueService, properties.getWebhook().getSecret());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GithubWebhookController githubWebhookController(GithubWebhookHandler githubWebhookHandler) {
+      log.info("GitHub 웹훅 수신 경로 등록됨");
+      return new GithubWebhookController(githubWebhookHandler);
+    }
+  }
+
+  /**
+   * SpringDoc 2.x 환경: Operation 을 직접 다루는 타입 기반 커스터마이저 등록
+   * (GlobalOperationCustomizer 만 있으면 등록되며, 없으면 아래 프록시 기반 구현이 대신 등록됨)
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = SPRINGDOC_GLOBAL_OPERATION_CUSTOMIZER)
+  static class SpringDocOperationCustomizerConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ApiLogOperationCustomizer apiLogOperationCustomizer(
+        ChangelogProcessor processor,
+        ObjectProvider<DeferredChangelogRenderer> batchCustomizer) {
+      log.info("Swagger OperationCustomizer 생성됨 - API 변경 이력이 Swagger UI에 표시됩니다");
+      return new ApiLogOperationCustomizer(processor.getSwaggerIntegration(), batchCustomizer.getIfAvailable());
+    }
+  }
+
+  /**
+   * 문서 전체의 이슈를 한 번에 조회하는 후처리 커스터마이저 (suhapilog.swagger.batch-prefetch)
+   * GlobalOpenApiCustomizer 가 없는 SpringDoc 버전에서는 Operation 마다 즉시 렌더링함
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = SPRINGDOC_GLOBAL_OPENAPI_CUSTOMIZER)
+  @ConditionalOnProperty(prefix = "suhapilog.swagger", name = "batch-prefetch", havingValue = "true", matchIfMissing = true)
+  static class SpringDocOpenApiCustomizerConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ApiLogOpenApiCustomizer apiLogOpenApiCustomizer(ChangelogProcessor processor) {
+      return new ApiLogOpenApiCustomizer(processor.getSwaggerIntegration());
+    }
+  }
+
+  /**
+   * 타입 기반 커스터마이저를 사용할 수 없는 SpringDoc 버전을 위한 프록시 기반 대체 구현
+   */
   @Bean
+  @ConditionalOnMissingClass(SPRINGDOC_GLOBAL_OPERATION_CUSTOMIZER)
   public Object operationCustomizer(final ChangelogProcessor processor) {
     // SpringDoc 통합 시도 중...
     try {
@@ -119,11 +266,29 @@ public class SuhApiLogAutoConfiguration {
     }
   }
 
+  /**
+   * 변경 이력 초기화 진행 상태 (async-init 사용 시 진행률 확인용)
+   */
+  @Bean
+  public ChangelogSyncStatus changelogSyncStatus(GithubIssueService githubIssueService) {
+    return githubIssueService.getSyncStatus();
+  }
+
+  /**
+   * GitHub 이슈 조회 회로 차단기 (상태 확인용: getState(), getFailureRate(), getSlowCallRate())
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "suhapilog.circuit-breaker", name = "enabled", havingValue = "true", matchIfMissing = true)
+  public IssueCircuitBreaker issueCircuitBreaker(GithubIssueService githubIssueService) {
+    return githubIssueService.getCircuitBreaker();
+  }
+
   @Bean
   public ApplicationRunner apiChangelogInitializer(
       final ChangelogProcessor changelogProcessor,
       final ApplicationContext context,
-      final ApiChangeLogProperties properties) {
+      final ApiChangeLogProperties properties,
+      final ChangelogSyncStatus syncStatus) {
 
     return args -> {
 
@@ -136,29 +301,89 @@ public class SuhApiLogAutoConfiguration {
                 "suhapilog.github.base-url=https://github.com/YourUsername/YourRepo/issues/");
       }
 
-      log.info("API 변경 이력 정보 초기화 시작...");
-      try {
-        Map<String, Object> controllers = context.getBeansWithAnnotation(RestController.class);
-        controllers.putAll(context.getBeansWithAnnotation(Controller.class));
-
-        // 원본 컨트롤러 클래스 수집 (CGLIB 프록시가 아닌)
-        Class<?>[] sourceClasses = controllers.values().stream()
-            .map(controller -> {
-              Class<?> clazz = controller.getClass();
-              // CGLIB 프록시라면 원본 클래스 사용
-              if (clazz.getName().contains("$$")) {
-                clazz = clazz.getSuperclass();
-              }
-              // log.debug("원본 컨트롤러 클래스: {}", clazz.getName());
-              return clazz;
-            })
-            .toArray(Class<?>[]::new);
-
-        changelogProcessor.syncIssuesFromSource(sourceClasses);
-        log.info("API 변경 이력 정보 초기화 완료");
-      } catch (Exception e) {
-        log.error("API 변경 이력 초기화 중 오류 발생: {}", e.getMessage(), e);
+      if (properties.isAsyncInit()) {
+        // 스캔과 이슈 동기화를 백그라운드에서 수행 (진행 상태는 ChangelogSyncStatus 로 확인)
+        syncStatus.start();
+        Thread initThread = SuhExecutors.daemonThreadFactory("suhapilog-init").newThread(
+            () -> initializeChangelog(changelogProcessor, context, properties, syncStatus));
+        initThread.start();
+        log.info("API 변경 이력 정보 백그라운드 초기화 시작");
+        return;
       }
+
+      syncStatus.start();
+      initializeChangelog(changelogProcessor, context, properties, syncStatus);
     };
   }
-}
\ No newline at end of file
+
+  /**
+   * 인덱스, 핸들러 매핑, 컨트롤러 빈 순서로 스캔하여 이슈 정보를 동기화
+   */
+  private void initializeChangelog(
+      ChangelogProcessor changelogProcessor,
+      ApplicationContext context,
+      ApiChangeLogProperties properties,
+      ChangelogSyncStatus syncStatus) {
+
+    log.info("API 변경 이력 정보 초기화 시작...");
+    try {
+      // 컴파일 타임 인덱스가 애플리케이션 패키지를 모두 포함하면 리플렉션 스캔 생략
+      Set<Integer> indexIssueNumbers = Collections.emptySet();
+      if (properties.getScan().isIndexEnabled()) {
+        List<ApiLogIndexEntry> indexEntries = ApiLogIndexLoader.load(context.getClassLoader());
+        if (!indexEntries.isEmpty()) {
+          List<String> scanPackages = AutoConfigurationPackages.has(context)
+              ? AutoConfigurationPackages.get(context) : Collections.emptyList();
+          List<String> uncoveredPackages = ApiLogIndexLoader.uncoveredPackages(context.getClassLoader(), scanPackages);
+          if (!scanPackages.isEmpty() && uncoveredPackages.isEmpty()) {
+            log.info("@ApiLog 인덱스 사용 - {}개 항목", indexEntries.size());
+            changelogProcessor.syncIssuesFromIndex(indexEntries);
+            syncStatus.complete();
+            log.info("API 변경 이력 정보 초기화 완료 - {}", syncStatus);
+            return;
+          }
+          // 의존성 jar 의 인덱스만 있거나 프로세서를 적용하지 않은 모듈이 있는 경우 등: 인덱스 항목과 스캔 결과를 합침
+          log.info("@ApiLog 인덱스가 애플리케이션 패키지 {}를 포함하지 않아 스캔 결과와 합칩니다",
+              scanPackages.isEmpty() ? "(알 수 없음)" : uncoveredPackages);
+          indexIssueNumbers = changelogProcessor.collectIssueNumbersFromIndex(indexEntries);
+        }
+      }
+
+      // 핸들러 매핑 기반 스캔 (Spring MVC 환경에서만 가능)
+      if (properties.getScan().getStrategy() == ApiChangeLogProperties.Scan.Strategy.HANDLER_MAPPING
+          && ClassUtils.isPresent(HandlerMethodScanner.HANDLER_MAPPING_CLASS, context.getClassLoader())) {
+        List<HandlerMethod> handlerMethods = HandlerMethodScanner.collect(context);
+        if (!handlerMethods.isEmpty()) {
+          changelogProcessor.syncIssuesFromHandlerMethods(handlerMethods, indexIssueNumbers);
+          syncStatus.complete();
+          log.info("API 변경 이력 정보 초기화 완료 - {}", syncStatus);
+          return;
+        }
+        log.debug("등록된 핸들러 메서드가 없어 컨트롤러 빈 스캔으로 대체합니다");
+      }
+
+      Map<String, Object> controllers = context.getBeansWithAnnotation(RestController.class);
+      controllers.putAll(context.getBeansWithAnnotation(Controller.class));
+
+      // 원본 컨트롤러 클래스 수집 (CGLIB 프록시가 아닌)
+      Class<?>[] sourceClasses = controllers.values().stream()
+          .map(controller -> {
+            Class<?> clazz = controller.getClass();
+            // CGLIB 프록시라면 원본 클래스 사용
+            if (clazz.getName().contains("$$")) {
+              clazz = clazz.getSuperclass();
+            }
+            // log.debug("원본 컨트롤러 클래스: {}", clazz.getName());
+            return clazz;
+          })
+          .toArray(Class<?>[]::new);
+
+      changelogProcessor.syncIssuesFromSource(sourceClasses, indexIssueNumbers);
+      syncStatus.complete();
+      log.info("API 변경 이력 정보 초기화 완료 - {}", syncStatus);
+    } catch (Exception e) {
+      syncStatus.fail(e);
+      log.error("API 변경 이력 초기화 중 오류 발생: {}", e.getMessage(), e);
+    }
+  }
+}
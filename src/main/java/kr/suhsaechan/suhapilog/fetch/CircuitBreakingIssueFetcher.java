@@ -0,0 +1,76 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 회로 차단기를 거쳐 이슈를 조회하는 방식 (다른 조회 방식을 감쌈)
+ * 회로가 열려 있으면 요청을 보내지 않고 바로 {@link IssueFetchException}(상태 코드 0)을 던짐
+ */
+public class CircuitBreakingIssueFetcher implements IssueFetcher {
+
+  private final IssueFetcher delegate;
+  private final IssueCircuitBreaker circuitBreaker;
+
+  public CircuitBreakingIssueFetcher(IssueFetcher delegate, IssueCircuitBreaker circuitBreaker) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public IssueFetchResult fetch(Integer issueNumber, String issueUrl) throws IOException {
+    return call(issueUrl, () -> delegate.fetch(issueNumber, issueUrl));
+  }
+
+  @Override
+  public IssueFetchResult revalidate(Integer issueNumber, String issueUrl, String etag, String lastModified)
+      throws IOException {
+    return call(issueUrl, () -> delegate.revalidate(issueNumber, issueUrl, etag, lastModified));
+  }
+
+  @Override
+  public int getBatchSize() {
+    return delegate.getBatchSize();
+  }
+
+  @Override
+  public Map<Integer, IssueFetchResult> fetchAll(Map<Integer, String> issueUrls) throws IOException {
+    return call("일괄 조회 " + issueUrls.size() + "건", () -> delegate.fetchAll(issueUrls));
+  }
+
+  public IssueFetcher getDelegate() {
+    return delegate;
+  }
+
+  private interface FetchCall<T> {
+    T call() throws IOException;
+  }
+
+  private <T> T call(String target, FetchCall<T> fetchCall) throws IOException {
+    long generation = circuitBreaker.tryAcquire();
+    if (generation == IssueCircuitBreaker.REJECTED) {
+      throw new IssueFetchException("GitHub 이슈 조회 회로가 열려 있어 요청하지 않습니다 - " + target, 0,
+          circuitBreaker.getRemainingOpenDuration());
+    }
+
+    long start = System.nanoTime();
+    try {
+      T result = fetchCall.call();
+      circuitBreaker.onSuccess(generation, System.nanoTime() - start);
+      return result;
+    } catch (IssueFetchException e) {
+      // 이슈가 없거나(404) 요청을 보내지 않은 경우(속도 제한 대기)는 GitHub 장애가 아님
+      if (!e.isRetryable()) {
+        circuitBreaker.onSuccess(generation, System.nanoTime() - start);
+      } else if (e.getStatusCode() == 0 || e.isRateLimited()) {
+        circuitBreaker.onIgnored(generation);
+      } else {
+        circuitBreaker.onFailure(generation, System.nanoTime() - start);
+      }
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      circuitBreaker.onFailure(generation, System.nanoTime() - start);
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * GitHub GraphQL API 로 여러 이슈를 한 번에 조회하는 방식
+ *
+ * <p>이슈마다 별칭(i12: issueOrPullRequest(number: 12))을 붙여 하나의 쿼리로 묶으므로
+ * batchSize 개의 이슈를 요청 한 번으로 가져옴. GraphQL API 는 인증이 필요하므로 토큰이 있어야 함</p>
+ */
+public class GithubGraphQlIssueFetcher implements IssueFetcher {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(GithubGraphQlIssueFetcher.class);
+
+  public static final String DEFAULT_API_URL = "https://api.github.com/graphql";
+  private static final String NOT_FOUND_ERROR_TYPE = "NOT_FOUND";
+  private static final String ISSUE_FIELDS = "{ ... on Issue { number title url } ... on PullRequest { number title url } }";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final IssueHttpClient httpClient;
+  private final String apiUrl;
+  private final String token;
+  private final String owner;
+  private final String repository;
+  private final int batchSize;
+
+  public GithubGraphQlIssueFetcher(String apiUrl, String token, String owner, String repository, int batchSize) {
+    this(IssueHttpClient.defaults(), apiUrl, token, owner, repository, batchSize);
+  }
+
+  public GithubGraphQlIssueFetcher(IssueHttpClient httpClient, String apiUrl, String token, String owner,
+      String repository, int batchSize) {
+    this.httpClient = httpClient;
+    this.apiUrl = apiUrl;
+    this.token = token;
+    this.owner = owner;
+    this.repository = repository;
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  /**
+   * 이슈 기본 URL(https://github.com/{owner}/{repo}/issues)에서 저장소를 추출하여 생성
+   *
+   * @throws IllegalArgumentException URL 에서 owner/repo 를 찾을 수 없는 경우
+   */
+  public static GithubGraphQlIssueFetcher forIssueBaseUrl(String issueBaseUrl, String apiUrl, String token,
+      int batchSize) {
+    return forIssueBaseUrl(IssueHttpClient.defaults(), issueBaseUrl, apiUrl, token, batchSize);
+  }
+
+  public static GithubGraphQlIssueFetcher forIssueBaseUrl(IssueHttpClient httpClient, String issueBaseUrl,
+      String apiUrl, String token, int batchSize) {
+    String[] ownerAndRepository = parseRepository(issueBaseUrl);
+    return new GithubGraphQlIssueFetcher(httpClient, apiUrl, token, ownerAndRepository[0], ownerAndRepository[1],
+        batchSize);
+  }
+
+  /**
+   * 이슈 기본 URL 에서 {owner, repo} 추출
+   */
+  static String[] parseRepository(String issueBaseUrl) {
+    String path = issueBaseUrl == null ? null : URI.create(issueBaseUrl.trim()).getPath();
+    if (path != null) {
+      String[] segments = path.replaceAll("^/+|/+$", "").split("/+");
+      if (segments.length >= 2 && !segments[0].isEmpty()) {
+        return new String[]{segments[0], segments[1]};
+      }
+    }
+    throw new IllegalArgumentException("GitHub 저장소를 찾을 수 없는 URL 입니다: " + issueBaseUrl);
+  }
+
+  @Override
+  public IssueFetchResult fetch(Integer issueNumber, String issueUrl) throws IOException {
+    IssueFetchResult result = fetchBatch(Collections.singletonList(issueNumber)).get(issueNumber);
+    if (result == null) {
+      throw new IOException("GraphQL 로 이슈 " + issueNumber + " 를 조회하지 못했습니다 (" + owner + "/" + repository + ")");
+    }
+    if (result.isNotFound()) {
+      throw new IssueFetchException("이슈 " + issueNumber + " 를 찾을 수 없습니다 (" + owner + "/" + repository + ")",
+          404, null);
+    }
+    return result;
+  }
+
+  @Override
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public Map<Integer, IssueFetchResult> fetchAll(Map<Integer, String> issueUrls) throws IOException {
+    Map<Integer, IssueFetchResult> results = new LinkedHashMap<>();
+    List<Integer> issueNumbers = new ArrayList<>(issueUrls.keySet());
+    for (int from = 0; from < issueNumbers.size(); from += batchSize) {
+      List<Integer> batch = issueNumbers.subList(from, Math.min(from + batchSize, issueNumbers.size()));
+      results.putAll(fetchBatch(batch));
+    }
+    return results;
+  }
+
+  /**
+   * 이슈 목록을 하나의 GraphQL 쿼리로 조회
+   */
+  private Map<Integer, IssueFetchResult> fetchBatch(List<Integer> issueNumbers) throws IOException {
+    ObjectNode request = objectMapper.createObjectNode();
+    request.put("query", buildQuery(issueNumbers));
+    ObjectNode variables = request.putObject("variables");
+    variables.put("owner", owner);
+    variables.put("name", repository);
+
+    JsonNode response = post(objectMapper.writeValueAsBytes(request));
+    JsonNode repositoryNode = response.path("data").path("repository");
+    JsonNode errors = response.path("errors");
+    if (repositoryNode.isMissingNode() || repositoryNode.isNull()) {
+      throw new IOException("GraphQL 응답에 저장소 정보가 없습니다: " + firstErrorMessage(errors));
+    }
+    Map<String, String> errorTypes = errorTypesByAlias(errors);
+    if (errors.isArray() && errors.size() > 0) {
+      // 조회하지 못한 이슈는 null 과 함께 오류로 보고되고 나머지 이슈는 정상 반환됨
+      log.debug("GraphQL 부분 오류 {}건: {}", errors.size(), firstErrorMessage(errors));
+    }
+
+    Map<Integer, IssueFetchResult> results = new LinkedHashMap<>();
+    for (Integer issueNumber : issueNumbers) {
+      JsonNode issueNode = repositoryNode.path(alias(issueNumber));
+      if (!issueNode.isMissingNode() && !issueNode.isNull() && issueNode.has("title")) {
+        results.put(issueNumber, new IssueFetchResult(issueNumber, issueNode.path("title").asText(),
+            issueNode.path("url").asText(null)));
+      } else if (NOT_FOUND_ERROR_TYPE.equals(errorTypes.get(alias(issueNumber)))) {
+        results.put(issueNumber, IssueFetchResult.notFound(issueNumber));
+      }
+      // 그 외 오류(권한, 시간 초과 등)는 다시 시도할 수 있도록 결과에서 제외
+    }
+    log.debug("GraphQL 로 이슈 {}개 중 {}개 조회", issueNumbers.size(), results.size());
+    return results;
+  }
+
+  String buildQuery(List<Integer> issueNumbers) {
+    StringBuilder query = new StringBuilder(64 + issueNumbers.size() * (ISSUE_FIELDS.length() + 48));
+    query.append("query($owner: String!, $name: String!) { repository(owner: $owner, name: $name) {");
+    for (Integer issueNumber : issueNumbers) {
+      query.append(' ').append(alias(issueNumber))
+          .append(": issueOrPullRequest(number: ").append(issueNumber).append(") ")
+          .append(ISSUE_FIELDS);
+    }
+    return query.append(" } }").toString();
+  }
+
+  private static String alias(Integer issueNumber) {
+    return "i" + issueNumber;
+  }
+
+  private JsonNode post(byte[] body) throws IOException {
+    HttpRequest.Builder request = httpClient.newRequest(apiUrl)
+        .header("Content-Type", "application/json")
+        .header("Accept", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+    if (token != null && !token.isBlank()) {
+      request.header("Authorization", "bearer " + token);
+    }
+
+    HttpResponse<InputStream> response = httpClient.send(request.build());
+    try (InputStream in = response.body()) {
+      if (response.statusCode() != 200) {
+        throw new IssueFetchException("HTTP " + response.statusCode() + " - " + apiUrl, response.statusCode(), null);
+      }
+      return objectMapper.readTree(in);
+    }
+  }
+
+  /**
+   * 오류 목록에서 별칭별 오류 유형 추출 (path: ["repository", "i12"])
+   */
+  private static Map<String, String> errorTypesByAlias(JsonNode errors) {
+    Map<String, String> errorTypes = new HashMap<>();
+    if (!errors.isArray()) {
+      return errorTypes;
+    }
+    for (JsonNode error : errors) {
+      JsonNode path = error.path("path");
+      if (path.isArray() && path.size() >= 2) {
+        errorTypes.putIfAbsent(path.path(1).asText(), error.path("type").asText(""));
+      }
+    }
+    return errorTypes;
+  }
+
+  private static String firstErrorMessage(JsonNode errors) {
+    if (errors.isArray() && errors.size() > 0) {
+      return errors.path(0).path("message").asText("");
+    }
+    return "";
+  }
+}
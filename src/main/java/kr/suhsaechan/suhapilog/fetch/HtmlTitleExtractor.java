@@ -0,0 +1,96 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import org.jsoup.parser.Parser;
+
+/**
+ * HTML 스트림에서 &lt;title&gt; 내용만 읽어내는 추출기
+ *
+ * <p>DOM 을 만들지 않고 스트림을 순차적으로 읽다가 &lt;/title&gt; 을 만나면 바로 멈추므로
+ * 페이지 크기와 관계없이 사용하는 메모리가 작고 일정함</p>
+ */
+public class HtmlTitleExtractor {
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+  // <title> 을 찾기 위해 읽을 최대 문자 수 (GitHub 이슈 페이지는 <head> 앞부분에 제목이 있음)
+  private static final int MAX_SCAN_CHARS = 512 * 1024;
+  private static final int MAX_TITLE_CHARS = 4 * 1024;
+
+  private static final char[] OPEN_TAG = "<title".toCharArray();
+  private static final char[] CLOSE_TAG = "</title".toCharArray();
+
+  private HtmlTitleExtractor() {
+    // 유틸리티 클래스
+  }
+
+  /**
+   * 스트림에서 제목 추출 (엔티티 디코딩 및 공백 정리, 제목이 없으면 빈 문자열)
+   * 스트림은 닫지 않으므로 호출 측에서 닫아야 함
+   */
+  public static String extract(InputStream inputStream, Charset charset) throws IOException {
+    Reader reader = new InputStreamReader(inputStream, charset);
+    char[] buffer = new char[BUFFER_SIZE];
+    StringBuilder title = null;
+
+    // 0: <title 탐색, 1: 여는 태그의 '>' 탐색, 2: 제목 수집 (</title 탐색)
+    int state = 0;
+    int matched = 0;
+    int scanned = 0;
+
+    int read;
+    while ((read = reader.read(buffer)) != -1) {
+      for (int i = 0; i < read; i++) {
+        char c = buffer[i];
+        if (state == 0) {
+          matched = matchNext(OPEN_TAG, matched, c);
+          if (matched == OPEN_TAG.length) {
+            state = 1;
+            matched = 0;
+          }
+        } else if (state == 1) {
+          if (c == '>') {
+            state = 2;
+            title = new StringBuilder();
+          }
+        } else {
+          title.append(c);
+          matched = matchNext(CLOSE_TAG, matched, c);
+          if (matched == CLOSE_TAG.length) {
+            title.setLength(title.length() - CLOSE_TAG.length);
+            return normalize(title);
+          }
+          if (title.length() > MAX_TITLE_CHARS) {
+            return normalize(title);
+          }
+        }
+      }
+      scanned += read;
+      if (state != 2 && scanned > MAX_SCAN_CHARS) {
+        break;
+      }
+    }
+    return title != null ? normalize(title) : "";
+  }
+
+  /**
+   * 대소문자를 구분하지 않고 태그 문자열을 한 글자씩 비교
+   */
+  private static int matchNext(char[] tag, int matched, char c) {
+    if (Character.toLowerCase(c) == tag[matched]) {
+      return matched + 1;
+    }
+    return Character.toLowerCase(c) == tag[0] ? 1 : 0;
+  }
+
+  /**
+   * HTML 엔티티 디코딩 후 연속 공백을 하나로 정리 (Jsoup 의 text() 와 같은 결과)
+   */
+  private static String normalize(StringBuilder title) {
+    String decoded = Parser.unescapeEntities(title.toString(), false);
+    return decoded.replaceAll("\\s+", " ").trim();
+  }
+}
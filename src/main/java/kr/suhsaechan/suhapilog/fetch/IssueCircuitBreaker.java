@@ -0,0 +1,232 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * GitHub 이슈 조회 회로 차단기
+ *
+ * <p>최근 windowSize 개 요청 중 실패 비율 또는 느린 요청 비율이 기준 이상이면 회로를 열고(OPEN)
+ * openDuration 동안 요청을 보내지 않음. 이후 한 번의 시험 요청(HALF_OPEN)이 빠르게 성공하면 다시 닫고(CLOSED),
+ * 실패하거나 느리면 다시 엶. 회로가 열려 있는 동안 호출 측은 타임아웃까지 기다리지 않고 바로 실패함</p>
+ *
+ * <p>상태가 바뀔 때마다 세대가 증가하며, 요청은 허용된 세대와 함께 결과를 알림. 이전 세대에 허용된 요청의
+ * 늦은 결과(예: 닫혀 있을 때 보낸 요청이 시험 요청 중에 끝난 경우)는 현재 상태에 반영하지 않음</p>
+ */
+public class IssueCircuitBreaker {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(IssueCircuitBreaker.class);
+
+  public enum State {
+    // 정상: 모든 요청 허용
+    CLOSED,
+    // 차단: 요청을 보내지 않음
+    OPEN,
+    // 시험: 한 번의 시험 요청만 허용
+    HALF_OPEN
+  }
+
+  // 요청을 허용하지 않을 때 tryAcquire 가 반환하는 값
+  public static final long REJECTED = -1;
+
+  private static final byte OUTCOME_FAILURE = 1;
+  private static final byte OUTCOME_SLOW = 2;
+
+  private final int failureRateThreshold;
+  private final int slowCallRateThreshold;
+  private final long slowCallNanos;
+  private final int minimumCalls;
+  private final long openNanos;
+
+  // 최근 요청 결과 (원형 버퍼, 비트 플래그)
+  private final byte[] outcomes;
+  private int nextIndex;
+  private int recordedCalls;
+  private int failedCalls;
+  private int slowCalls;
+
+  private State state = State.CLOSED;
+  private long openedAtNanos;
+  private boolean probeInFlight;
+  // 상태가 바뀔 때마다 증가 (이전 상태에서 허용된 요청의 결과를 가려냄)
+  private long generation;
+
+  /**
+   * @param failureRateThreshold  회로를 여는 실패 비율 (%)
+   * @param slowCallRateThreshold 회로를 여는 느린 요청 비율 (%)
+   * @param slowCallDuration      이 시간 이상 걸린 요청은 느린 요청으로 봄
+   * @param minimumCalls          비율을 계산하기 위한 최소 요청 수
+   * @param windowSize            비율 계산에 사용하는 최근 요청 수
+   * @param openDuration          회로를 연 뒤 시험 요청을 보내기까지의 시간
+   */
+  public IssueCircuitBreaker(int failureRateThreshold, int slowCallRateThreshold, Duration slowCallDuration,
+      int minimumCalls, int windowSize, Duration openDuration) {
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallRateThreshold = slowCallRateThreshold;
+    this.slowCallNanos = slowCallDuration.toNanos();
+    this.outcomes = new byte[Math.max(1, windowSize)];
+    this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+    this.openNanos = openDuration.toNanos();
+  }
+
+  /**
+   * 요청을 보내도 되는지 확인
+   *
+   * @return 요청이 허용된 세대 (결과를 반드시 이 세대와 함께 on* 메서드로 알려야 함), 허용하지 않으면 {@link #REJECTED}
+   */
+  public synchronized long tryAcquire() {
+    switch (state) {
+      case CLOSED:
+        return generation;
+      case OPEN:
+        if (System.nanoTime() - openedAtNanos < openNanos) {
+          return REJECTED;
+        }
+        transitionTo(State.HALF_OPEN);
+        probeInFlight = true;
+        return generation;
+      default:
+        if (probeInFlight) {
+          return REJECTED;
+        }
+        probeInFlight = true;
+        return generation;
+    }
+  }
+
+  /**
+   * 요청 성공 기록
+   *
+   * @param admittedGeneration 요청이 허용된 세대 ({@link #tryAcquire()} 의 반환 값)
+   */
+  public synchronized void onSuccess(long admittedGeneration, long elapsedNanos) {
+    if (admittedGeneration != generation) {
+      return;
+    }
+    boolean slow = elapsedNanos >= slowCallNanos;
+    if (state == State.HALF_OPEN) {
+      probeInFlight = false;
+      if (slow) {
+        open("시험 요청이 느림 (" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms)");
+      } else {
+        resetWindow();
+        transitionTo(State.CLOSED);
+      }
+      return;
+    }
+    record(slow ? OUTCOME_SLOW : 0);
+  }
+
+  /**
+   * 요청 실패 기록
+   *
+   * @param admittedGeneration 요청이 허용된 세대 ({@link #tryAcquire()} 의 반환 값)
+   */
+  public synchronized void onFailure(long admittedGeneration, long elapsedNanos) {
+    if (admittedGeneration != generation) {
+      return;
+    }
+    if (state == State.HALF_OPEN) {
+      probeInFlight = false;
+      open("시험 요청 실패");
+      return;
+    }
+    record((byte) (OUTCOME_FAILURE | (elapsedNanos >= slowCallNanos ? OUTCOME_SLOW : 0)));
+  }
+
+  /**
+   * GitHub 상태와 관계없는 결과 (요청을 보내지 않았거나 속도 제한 등) - 통계에 포함하지 않음
+   */
+  public synchronized void onIgnored(long admittedGeneration) {
+    if (admittedGeneration == generation && state == State.HALF_OPEN) {
+      probeInFlight = false;
+    }
+  }
+
+  public synchronized State getState() {
+    // 차단 시간이 지났으면 다음 요청이 시험 요청이 됨
+    if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+      return State.HALF_OPEN;
+    }
+    return state;
+  }
+
+  /**
+   * 회로가 열려 있어 요청을 보낼 수 없는 상태인지 확인
+   */
+  public boolean isOpen() {
+    return getState() == State.OPEN;
+  }
+
+  /**
+   * 시험 요청까지 남은 시간 (열려 있지 않으면 0)
+   */
+  public synchronized Duration getRemainingOpenDuration() {
+    if (state != State.OPEN) {
+      return Duration.ZERO;
+    }
+    return Duration.ofNanos(Math.max(0, openNanos - (System.nanoTime() - openedAtNanos)));
+  }
+
+  public synchronized int getFailureRate() {
+    return recordedCalls == 0 ? 0 : failedCalls * 100 / recordedCalls;
+  }
+
+  public synchronized int getSlowCallRate() {
+    return recordedCalls == 0 ? 0 : slowCalls * 100 / recordedCalls;
+  }
+
+  private void record(byte outcome) {
+    if (recordedCalls == outcomes.length) {
+      byte evicted = outcomes[nextIndex];
+      failedCalls -= evicted & OUTCOME_FAILURE;
+      slowCalls -= (evicted & OUTCOME_SLOW) >> 1;
+    } else {
+      recordedCalls++;
+    }
+    outcomes[nextIndex] = outcome;
+    nextIndex = (nextIndex + 1) % outcomes.length;
+    failedCalls += outcome & OUTCOME_FAILURE;
+    slowCalls += (outcome & OUTCOME_SLOW) >> 1;
+
+    if (state == State.CLOSED && recordedCalls >= minimumCalls) {
+      int failureRate = failedCalls * 100 / recordedCalls;
+      int slowCallRate = slowCalls * 100 / recordedCalls;
+      if (failureRate >= failureRateThreshold) {
+        open("실패 비율 " + failureRate + "%");
+      } else if (slowCallRate >= slowCallRateThreshold) {
+        open("느린 요청 비율 " + slowCallRate + "%");
+      }
+    }
+  }
+
+  private void open(String reason) {
+    openedAtNanos = System.nanoTime();
+    transitionTo(State.OPEN);
+    log.warn("GitHub 이슈 조회 회로를 엽니다 ({}), {}초 동안 캐시된 정보만 사용합니다", reason,
+        TimeUnit.NANOSECONDS.toSeconds(openNanos));
+  }
+
+  private void resetWindow() {
+    nextIndex = 0;
+    recordedCalls = 0;
+    failedCalls = 0;
+    slowCalls = 0;
+  }
+
+  private void transitionTo(State next) {
+    if (state != next) {
+      if (next != State.OPEN) {
+        log.info("GitHub 이슈 조회 회로 상태 변경: {} -> {}", state, next);
+      }
+      state = next;
+      generation++;
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "IssueCircuitBreaker{state=" + getState() + ", failureRate=" + getFailureRate() + "%, slowCallRate="
+        + getSlowCallRate() + "%, calls=" + recordedCalls + "}";
+  }
+}
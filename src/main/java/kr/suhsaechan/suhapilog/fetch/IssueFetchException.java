@@ -0,0 +1,48 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 이슈 조회 요청이 성공 응답을 받지 못한 경우 (HTTP 상태 코드와 재시도 가능 시점 포함)
+ */
+public class IssueFetchException extends IOException {
+  private static final long serialVersionUID = 1L;
+
+  private final int statusCode;
+  private final Duration retryAfter;
+
+  public IssueFetchException(String message, int statusCode, Duration retryAfter) {
+    super(message);
+    this.statusCode = statusCode;
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * HTTP 상태 코드 (요청을 보내기 전에 실패했으면 0)
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * 서버 또는 속도 제한기가 알려준 재시도 가능 시점까지의 시간 (없으면 null)
+   */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+
+  /**
+   * GitHub 속도 제한(429, 또는 Retry-After 가 있는 403)에 걸린 경우
+   */
+  public boolean isRateLimited() {
+    return statusCode == 429 || (statusCode == 403 && retryAfter != null);
+  }
+
+  /**
+   * 다시 시도해도 결과가 같은 경우(이슈 없음 등)가 아니면 재시도 대상
+   */
+  public boolean isRetryable() {
+    return statusCode != 404 && statusCode != 410;
+  }
+}
@@ -0,0 +1,77 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+/**
+ * 이슈 조회 결과 (가공 전 제목과 페이지 URL)
+ * 조건부 재검증에서 변경이 없으면(304) 제목 없이 notModified 로,
+ * 일괄 조회에서 존재하지 않는 것으로 확인된 이슈는 제목 없이 notFound 로 표시됨
+ */
+public class IssueFetchResult {
+  private final Integer issueNumber;
+  private final String rawTitle;
+  private final String pageUrl;
+  private final String etag;
+  private final String lastModified;
+  private final boolean notModified;
+  private final boolean notFound;
+
+  public IssueFetchResult(Integer issueNumber, String rawTitle, String pageUrl) {
+    this(issueNumber, rawTitle, pageUrl, null, null, false, false);
+  }
+
+  public IssueFetchResult(Integer issueNumber, String rawTitle, String pageUrl, String etag, String lastModified) {
+    this(issueNumber, rawTitle, pageUrl, etag, lastModified, false, false);
+  }
+
+  private IssueFetchResult(Integer issueNumber, String rawTitle, String pageUrl, String etag, String lastModified,
+      boolean notModified, boolean notFound) {
+    this.issueNumber = issueNumber;
+    this.rawTitle = rawTitle;
+    this.pageUrl = pageUrl;
+    this.etag = etag;
+    this.lastModified = lastModified;
+    this.notModified = notModified;
+    this.notFound = notFound;
+  }
+
+  /**
+   * 저장된 이슈가 최신임을 나타내는 결과 (304 Not Modified)
+   */
+  public static IssueFetchResult notModified(Integer issueNumber, String etag, String lastModified) {
+    return new IssueFetchResult(issueNumber, null, null, etag, lastModified, true, false);
+  }
+
+  /**
+   * 이슈가 존재하지 않음을 나타내는 결과 (일괄 조회 전용, 404 와 같은 의미)
+   */
+  public static IssueFetchResult notFound(Integer issueNumber) {
+    return new IssueFetchResult(issueNumber, null, null, null, null, false, true);
+  }
+
+  public Integer getIssueNumber() {
+    return issueNumber;
+  }
+
+  public String getRawTitle() {
+    return rawTitle;
+  }
+
+  public String getPageUrl() {
+    return pageUrl;
+  }
+
+  public String getEtag() {
+    return etag;
+  }
+
+  public String getLastModified() {
+    return lastModified;
+  }
+
+  public boolean isNotModified() {
+    return notModified;
+  }
+
+  public boolean isNotFound() {
+    return notFound;
+  }
+}
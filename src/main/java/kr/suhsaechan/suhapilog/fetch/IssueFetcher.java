@@ -0,0 +1,64 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GitHub 이슈 페이지에서 이슈 정보를 가져오는 전략 인터페이스
+ */
+public interface IssueFetcher {
+
+  /**
+   * 이슈 하나를 조회
+   *
+   * @param issueNumber 이슈 번호
+   * @param issueUrl    이슈 페이지 URL
+   */
+  IssueFetchResult fetch(Integer issueNumber, String issueUrl) throws IOException;
+
+  /**
+   * 저장된 검증 값(ETag / Last-Modified)으로 조건부 조회
+   * 변경이 없으면 {@link IssueFetchResult#isNotModified()} 결과를 반환
+   * 기본 구현은 조건부 요청을 지원하지 않으므로 전체 조회
+   *
+   * @param etag         저장된 ETag (없으면 null)
+   * @param lastModified 저장된 Last-Modified (없으면 null)
+   */
+  default IssueFetchResult revalidate(Integer issueNumber, String issueUrl, String etag, String lastModified)
+      throws IOException {
+    return fetch(issueNumber, issueUrl);
+  }
+
+  /**
+   * 한 번의 요청으로 조회할 수 있는 최대 이슈 수 (1이면 일괄 조회 미지원)
+   */
+  default int getBatchSize() {
+    return 1;
+  }
+
+  /**
+   * 여러 이슈를 조회
+   * 존재하지 않는 것으로 확인된 이슈는 {@link IssueFetchResult#notFound(Integer)} 결과로,
+   * 그 외 이유로 조회하지 못한 이슈(다시 시도할 수 있는 실패)는 결과에서 제외됨
+   * 기본 구현은 이슈마다 {@link #fetch(Integer, String)} 호출
+   *
+   * @param issueUrls 이슈 번호별 이슈 페이지 URL
+   * @throws IOException 요청 자체가 실패한 경우 (일괄 조회 구현)
+   */
+  default Map<Integer, IssueFetchResult> fetchAll(Map<Integer, String> issueUrls) throws IOException {
+    Map<Integer, IssueFetchResult> results = new LinkedHashMap<>();
+    for (Map.Entry<Integer, String> entry : issueUrls.entrySet()) {
+      try {
+        results.put(entry.getKey(), fetch(entry.getKey(), entry.getValue()));
+      } catch (IssueFetchException e) {
+        if (!e.isRetryable()) {
+          results.put(entry.getKey(), IssueFetchResult.notFound(entry.getKey()));
+        }
+      } catch (IOException e) {
+        // 개별 실패는 결과에서 제외
+      }
+    }
+    return results;
+  }
+}
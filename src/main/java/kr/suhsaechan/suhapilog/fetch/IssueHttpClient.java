@@ -0,0 +1,304 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.suhapilog.util.SuhExecutors;
+
+/**
+ * 이슈 조회에 공유되는 HTTP 클라이언트
+ *
+ * <p>java.net.http.HttpClient 하나를 재사용하므로 같은 호스트로의 요청은 연결 풀을 공유하고,
+ * HTTP/2 를 지원하는 서버(github.com, api.github.com)에서는 하나의 연결에 요청을 다중화함.
+ * 이슈마다 새 연결과 TLS 핸드셰이크를 만들지 않음</p>
+ */
+public class IssueHttpClient {
+
+  public static final String DEFAULT_USER_AGENT =
+      "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36";
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+  // 속도 제한 응답에 재시도 시점이 없을 때 요청을 멈추는 시간
+  private static final Duration DEFAULT_RATE_LIMIT_PAUSE = Duration.ofSeconds(60);
+
+  private final HttpClient httpClient;
+  private final Duration readTimeout;
+  private final String userAgent;
+  private final InetSocketAddress proxyAddress;
+  private final RequestRateLimiter rateLimiter;
+  // 응답 본문 마감 시각을 감시하는 스레드 (모든 클라이언트가 공유)
+  private static volatile ScheduledExecutorService watchdog;
+
+  /**
+   * @param connectTimeout 연결 제한 시간
+   * @param readTimeout    요청별 응답 제한 시간 (요청을 보낸 뒤 응답 본문을 끝까지 받을 때까지)
+   * @param proxy          프록시 주소 (host:port, 없으면 null)
+   * @param userAgent      User-Agent 헤더 (없으면 기본값)
+   */
+  public IssueHttpClient(Duration connectTimeout, Duration readTimeout, String proxy, String userAgent) {
+    this(connectTimeout, readTimeout, proxy, userAgent, new RequestRateLimiter(0, 1));
+  }
+
+  /**
+   * @param rateLimiter 모든 요청이 공유하는 속도 제한기
+   */
+  public IssueHttpClient(Duration connectTimeout, Duration readTimeout, String proxy, String userAgent,
+      RequestRateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+    this.readTimeout = readTimeout != null ? readTimeout : DEFAULT_TIMEOUT;
+    this.userAgent = userAgent != null && !userAgent.isBlank() ? userAgent : DEFAULT_USER_AGENT;
+    this.proxyAddress = parseProxy(proxy);
+
+    HttpClient.Builder builder = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .connectTimeout(connectTimeout != null ? connectTimeout : DEFAULT_TIMEOUT);
+    if (proxyAddress != null) {
+      builder.proxy(ProxySelector.of(proxyAddress));
+    }
+    this.httpClient = builder.build();
+  }
+
+  /**
+   * 기본 설정(30초 제한 시간, 프록시 없음, 속도 제한 없음)의 클라이언트
+   */
+  public static IssueHttpClient defaults() {
+    return new IssueHttpClient(null, null, null, null);
+  }
+
+  /**
+   * User-Agent 와 응답 제한 시간이 적용된 요청 빌더
+   */
+  public HttpRequest.Builder newRequest(String url) {
+    return HttpRequest.newBuilder(URI.create(url))
+        .timeout(readTimeout)
+        .header("User-Agent", userAgent);
+  }
+
+  /**
+   * 요청을 보내고 응답 본문을 스트림으로 받음 (호출 측에서 닫아야 함)
+   * 본문을 끝까지 읽지 않고 닫으면 남은 응답은 받지 않음.
+   * HttpRequest.timeout 은 응답 헤더까지만 적용되므로 본문 읽기에도 같은 마감 시각을 적용하여,
+   * 요청 후 응답 제한 시간이 지나면 본문 읽기가 HttpTimeoutException 으로 실패함
+   *
+   * @throws IssueFetchException 속도 제한에 걸렸거나 제한이 풀릴 때까지 응답 제한 시간보다 오래 기다려야 하는 경우
+   */
+  public HttpResponse<InputStream> send(HttpRequest request) throws IOException {
+    awaitPermit(request.uri().toString());
+    long deadlineNanos = System.nanoTime() + readTimeout.toNanos();
+    HttpResponse.BodyHandler<InputStream> bodyHandler = responseInfo -> HttpResponse.BodySubscribers.mapping(
+        HttpResponse.BodySubscribers.ofInputStream(), body -> new DeadlineInputStream(body, deadlineNanos, request.uri()));
+    HttpResponse<InputStream> response;
+    try {
+      response = httpClient.send(request, bodyHandler);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("요청이 중단되었습니다: " + request.uri(), e);
+    }
+    checkRateLimit(response);
+    return response;
+  }
+
+  /**
+   * 속도 제한기에서 요청 허가를 얻음 (응답 제한 시간까지만 대기)
+   */
+  public void awaitPermit(String url) throws IOException {
+    long remainingNanos;
+    try {
+      remainingNanos = rateLimiter.acquire(readTimeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("요청이 중단되었습니다: " + url, e);
+    }
+    if (remainingNanos > 0) {
+      throw new IssueFetchException("속도 제한으로 요청을 보류합니다 - " + url, 0, Duration.ofNanos(remainingNanos));
+    }
+  }
+
+  /**
+   * GitHub 속도 제한 헤더 확인
+   * 제한에 걸렸으면(429, Retry-After 또는 남은 요청 0 인 403) 재시도 시점까지 모든 요청을 멈추고 예외 발생,
+   * 성공 응답이라도 남은 요청이 0 이면 초기화 시각까지 이후 요청을 멈춤
+   */
+  private void checkRateLimit(HttpResponse<InputStream> response) throws IOException {
+    int status = response.statusCode();
+    Duration retryAfter = parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null));
+    boolean exhausted = "0".equals(response.headers().firstValue("X-RateLimit-Remaining").orElse(null));
+    Duration untilReset = exhausted
+        ? untilReset(response.headers().firstValue("X-RateLimit-Reset").orElse(null)) : null;
+
+    if (status == 429 || (status == 403 && (retryAfter != null || exhausted))) {
+      Duration pause = retryAfter != null ? retryAfter : untilReset != null ? untilReset : DEFAULT_RATE_LIMIT_PAUSE;
+      rateLimiter.pauseFor(pause);
+      response.body().close();
+      throw new IssueFetchException("GitHub 속도 제한 (HTTP " + status + ", " + pause.toSeconds() + "초 후 재시도) - "
+          + response.uri(), status, pause);
+    }
+    if (untilReset != null) {
+      rateLimiter.pauseFor(untilReset);
+    }
+  }
+
+  /**
+   * Retry-After 헤더 (초 또는 HTTP 날짜) 파싱
+   */
+  static Duration parseRetryAfter(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+    } catch (NumberFormatException e) {
+      try {
+        Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        return positiveDurationUntil(at);
+      } catch (DateTimeParseException ignored) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * X-RateLimit-Reset 헤더 (epoch 초) 까지 남은 시간
+   */
+  private static Duration untilReset(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return positiveDurationUntil(Instant.ofEpochSecond(Long.parseLong(value.trim())));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Duration positiveDurationUntil(Instant at) {
+    Duration duration = Duration.between(Instant.now(), at);
+    return duration.isNegative() ? Duration.ZERO : duration;
+  }
+
+  private static ScheduledExecutorService watchdog() {
+    ScheduledExecutorService executor = watchdog;
+    if (executor == null) {
+      synchronized (IssueHttpClient.class) {
+        executor = watchdog;
+        if (executor == null) {
+          ScheduledThreadPoolExecutor created =
+              new ScheduledThreadPoolExecutor(1, SuhExecutors.daemonThreadFactory("suhapilog-http-watchdog"));
+          created.setRemoveOnCancelPolicy(true);
+          executor = created;
+          watchdog = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * 마감 시각이 지나면 본문 스트림을 닫아 멈춘 읽기를 깨우고, 이후 읽기를 시간 초과로 실패시키는 스트림
+   * (시간 초과로 닫힌 스트림이 본문 끝(-1)처럼 보이지 않도록 함)
+   */
+  static final class DeadlineInputStream extends FilterInputStream {
+    private final URI uri;
+    private final ScheduledFuture<?> expiry;
+    private volatile boolean expired;
+
+    DeadlineInputStream(InputStream in, long deadlineNanos, URI uri) {
+      super(in);
+      this.uri = uri;
+      this.expiry = watchdog().schedule(this::expire, Math.max(0, deadlineNanos - System.nanoTime()),
+          TimeUnit.NANOSECONDS);
+    }
+
+    private void expire() {
+      expired = true;
+      try {
+        in.close();
+      } catch (IOException ignored) {
+        // 닫으면서 난 오류는 읽는 쪽에서 시간 초과로 알림
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      try {
+        int b = super.read();
+        checkExpired();
+        return b;
+      } catch (IOException e) {
+        checkExpired();
+        throw e;
+      }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      try {
+        int n = super.read(b, off, len);
+        checkExpired();
+        return n;
+      } catch (IOException e) {
+        checkExpired();
+        throw e;
+      }
+    }
+
+    private void checkExpired() throws HttpTimeoutException {
+      if (expired) {
+        throw new HttpTimeoutException("응답 본문 수신 제한 시간 초과 - " + uri);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      expiry.cancel(false);
+      super.close();
+    }
+  }
+
+  public Duration getReadTimeout() {
+    return readTimeout;
+  }
+
+  public String getUserAgent() {
+    return userAgent;
+  }
+
+  /**
+   * 설정된 프록시 (없으면 null)
+   */
+  public Proxy getProxy() {
+    return proxyAddress != null ? new Proxy(Proxy.Type.HTTP, proxyAddress) : null;
+  }
+
+  /**
+   * "host:port" 또는 "http://host:port" 형식의 프록시 주소 파싱
+   */
+  static InetSocketAddress parseProxy(String proxy) {
+    if (proxy == null || proxy.isBlank()) {
+      return null;
+    }
+    String value = proxy.trim();
+    URI uri = URI.create(value.contains("://") ? value : "http://" + value);
+    if (uri.getHost() == null) {
+      throw new IllegalArgumentException("프록시 주소 형식이 올바르지 않습니다 (host:port): " + proxy);
+    }
+    return InetSocketAddress.createUnresolved(uri.getHost(), uri.getPort() > 0 ? uri.getPort() : 80);
+  }
+}
@@ -0,0 +1,45 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.io.IOException;
+import java.net.Proxy;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+/**
+ * 이슈 페이지 전체를 Jsoup 으로 파싱하여 제목을 읽는 조회 방식
+ * Jsoup 은 자체 연결을 사용하므로 공유 클라이언트의 설정(User-Agent, 제한 시간, 프록시, 요청 속도)만 적용됨
+ */
+public class JsoupIssueFetcher implements IssueFetcher {
+
+  private final IssueHttpClient settings;
+
+  public JsoupIssueFetcher() {
+    this(IssueHttpClient.defaults());
+  }
+
+  public JsoupIssueFetcher(IssueHttpClient settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public IssueFetchResult fetch(Integer issueNumber, String issueUrl) throws IOException {
+    Connection connection = Jsoup.connect(issueUrl)
+        .userAgent(settings.getUserAgent())
+        .timeout((int) settings.getReadTimeout().toMillis());
+    Proxy proxy = settings.getProxy();
+    if (proxy != null) {
+      connection.proxy(proxy);
+    }
+
+    settings.awaitPermit(issueUrl);
+    try {
+      // GitHub 페이지에서 이슈 제목 파싱
+      Document doc = connection.get();
+      return new IssueFetchResult(issueNumber, doc.select("title").text(), issueUrl);
+    } catch (HttpStatusException e) {
+      throw new IssueFetchException("HTTP " + e.getStatusCode() + " - " + issueUrl, e.getStatusCode(), null);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이슈 조회 요청 속도 제한기 (토큰 버킷)
+ *
+ * <p>초당 permitsPerSecond 개의 토큰이 채워지고 최대 burst 개까지 쌓임. 요청마다 토큰 하나를 사용하므로
+ * 순간적으로 요청이 몰려도 설정한 속도를 넘지 않음. GitHub 가 속도 제한을 알려오면
+ * {@link #pauseFor(Duration)} 로 지정된 시점까지 모든 요청을 멈춤</p>
+ */
+public class RequestRateLimiter {
+
+  private final double permitsPerSecond;
+  private final double burst;
+
+  private double tokens;
+  private long lastRefillNanos;
+  private long pausedUntilNanos;
+
+  /**
+   * @param permitsPerSecond 초당 허용 요청 수 (0 이하면 속도 제한 없음, GitHub 가 알려온 일시 정지만 적용)
+   * @param burst            한 번에 연속으로 보낼 수 있는 최대 요청 수
+   */
+  public RequestRateLimiter(double permitsPerSecond, int burst) {
+    this.permitsPerSecond = permitsPerSecond;
+    this.burst = Math.max(1, burst);
+    this.tokens = this.burst;
+    this.lastRefillNanos = System.nanoTime();
+    this.pausedUntilNanos = lastRefillNanos;
+  }
+
+  /**
+   * 토큰을 얻을 때까지 대기
+   *
+   * @param maxWait 최대 대기 시간
+   * @return 대기 없이 또는 maxWait 안에 토큰을 얻었으면 0, 얻지 못했으면 토큰을 얻을 수 있을 때까지 남은 시간(나노초)
+   */
+  public long acquire(Duration maxWait) throws InterruptedException {
+    long deadline = System.nanoTime() + maxWait.toNanos();
+    while (true) {
+      long waitNanos;
+      synchronized (this) {
+        long now = System.nanoTime();
+        refill(now);
+        if (pausedUntilNanos - now > 0) {
+          waitNanos = pausedUntilNanos - now;
+        } else if (permitsPerSecond <= 0) {
+          // 속도 제한이 없으면 토큰을 사용하지 않음
+          return 0;
+        } else if (tokens >= 1) {
+          tokens -= 1;
+          return 0;
+        } else {
+          waitNanos = (long) Math.ceil((1 - tokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+        }
+        if (now + waitNanos - deadline > 0) {
+          return waitNanos;
+        }
+      }
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /**
+   * 지정된 시간 동안 모든 요청을 멈춤 (이미 더 긴 정지가 설정되어 있으면 유지)
+   */
+  public synchronized void pauseFor(Duration duration) {
+    long until = System.nanoTime() + duration.toNanos();
+    if (until - pausedUntilNanos > 0) {
+      pausedUntilNanos = until;
+    }
+    // 정지가 풀린 직후 요청이 한꺼번에 몰리지 않도록 쌓인 토큰을 비움
+    tokens = 0;
+  }
+
+  private void refill(long now) {
+    // 정지 중에는 토큰을 채우지 않음
+    long from = pausedUntilNanos - lastRefillNanos > 0 ? pausedUntilNanos : lastRefillNanos;
+    if (permitsPerSecond > 0 && now - from > 0) {
+      double elapsedSeconds = (now - from) / (double) TimeUnit.SECONDS.toNanos(1);
+      tokens = Math.min(burst, tokens + elapsedSeconds * permitsPerSecond);
+    }
+    lastRefillNanos = now;
+  }
+}
@@ -0,0 +1,87 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이슈 페이지를 스트림으로 읽다가 &lt;/title&gt; 에서 멈추는 조회 방식
+ * 페이지 전체를 내려받거나 DOM 을 만들지 않음
+ */
+public class StreamingIssueFetcher implements IssueFetcher {
+
+  private static final int HTTP_OK = 200;
+  private static final int HTTP_NOT_MODIFIED = 304;
+
+  private final IssueHttpClient httpClient;
+
+  public StreamingIssueFetcher() {
+    this(IssueHttpClient.defaults());
+  }
+
+  public StreamingIssueFetcher(IssueHttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  @Override
+  public IssueFetchResult fetch(Integer issueNumber, String issueUrl) throws IOException {
+    return revalidate(issueNumber, issueUrl, null, null);
+  }
+
+  @Override
+  public IssueFetchResult revalidate(Integer issueNumber, String issueUrl, String etag, String lastModified)
+      throws IOException {
+    HttpRequest.Builder request = httpClient.newRequest(issueUrl)
+        .header("Accept", "text/html")
+        .GET();
+    if (etag != null) {
+      request.header("If-None-Match", etag);
+    }
+    if (lastModified != null) {
+      request.header("If-Modified-Since", lastModified);
+    }
+
+    HttpResponse<InputStream> response = httpClient.send(request.build());
+    // 제목 이후의 본문은 읽지 않고 스트림을 닫음 (HTTP/2 에서는 해당 스트림만 취소되고 연결은 재사용됨)
+    try (InputStream body = response.body()) {
+      int status = response.statusCode();
+      if (status == HTTP_NOT_MODIFIED) {
+        // 본문 없이 변경 없음만 확인 (새 검증 값이 오면 갱신)
+        return IssueFetchResult.notModified(issueNumber,
+            header(response, "ETag", etag), header(response, "Last-Modified", lastModified));
+      }
+      if (status != HTTP_OK) {
+        throw new IssueFetchException("HTTP " + status + " - " + issueUrl, status, null);
+      }
+      String title = HtmlTitleExtractor.extract(body, charsetOf(header(response, "Content-Type", null)));
+      return new IssueFetchResult(issueNumber, title, issueUrl,
+          header(response, "ETag", null), header(response, "Last-Modified", null));
+    }
+  }
+
+  private static String header(HttpResponse<?> response, String name, String defaultValue) {
+    return response.headers().firstValue(name).orElse(defaultValue);
+  }
+
+  /**
+   * Content-Type 헤더의 charset (없으면 UTF-8)
+   */
+  static Charset charsetOf(String contentType) {
+    if (contentType != null) {
+      for (String part : contentType.split(";")) {
+        String trimmed = part.trim();
+        if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+          try {
+            return Charset.forName(trimmed.substring(8).replace("\"", "").trim());
+          } catch (RuntimeException e) {
+            return StandardCharsets.UTF_8;
+          }
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+}
@@ -0,0 +1,63 @@
+package kr.suhsaechan.suhapilog.model;
+
+/**
+ * 컴파일 타임 인덱스(META-INF/suhapilog/index)의 @ApiLog 항목 하나를 나타내는 모델 클래스
+ */
+public class ApiLogIndexEntry {
+  private final String declaringClass;
+  private final String methodName;
+  private final String parameterTypes;
+  private final String date;
+  private final String author;
+  private final String description;
+  private final int issueNumber;
+
+  public ApiLogIndexEntry(String declaringClass, String methodName, String parameterTypes,
+      String date, String author, String description, int issueNumber) {
+    this.declaringClass = declaringClass;
+    this.methodName = methodName;
+    this.parameterTypes = parameterTypes;
+    this.date = date;
+    this.author = author;
+    this.description = description;
+    this.issueNumber = issueNumber;
+  }
+
+  public String getDeclaringClass() {
+    return declaringClass;
+  }
+
+  public String getMethodName() {
+    return methodName;
+  }
+
+  /**
+   * 콤마로 구분된 파라미터 타입 (제네릭 소거 후)
+   */
+  public String getParameterTypes() {
+    return parameterTypes;
+  }
+
+  /**
+   * 메서드 시그니처 (예: com.example.UserController#getUser(java.lang.Long))
+   */
+  public String getMethodSignature() {
+    return declaringClass + "#" + methodName + "(" + parameterTypes + ")";
+  }
+
+  public String getDate() {
+    return date;
+  }
+
+  public String getAuthor() {
+    return author;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getIssueNumber() {
+    return issueNumber;
+  }
+}
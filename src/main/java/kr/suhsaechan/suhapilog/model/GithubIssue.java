@@ -14,6 +14,13 @@ public class GithubIssue implements Serializable {
   private String rawTitle;
   private String pageUrl;
   private LocalDateTime fetchedAt;
+  // 조건부 재검증(If-None-Match / If-Modified-Since)에 사용할 응답 헤더 값
+  private String etag;
+  private String lastModified;
+  // 조회할 수 없는 이슈(404 또는 반복 실패)를 기록한 항목인지 여부 (제목은 안내 문구)
+  private boolean missing;
+  // 기록 시점까지 연속으로 실패한 횟수 (404 로 기록된 경우 0)
+  private int failureCount;
 
   public GithubIssue() {
   }
@@ -26,6 +33,13 @@ public class GithubIssue implements Serializable {
     this.fetchedAt = fetchedAt;
   }
 
+  public GithubIssue(Integer issueNumber, String cleanTitle, String rawTitle, String pageUrl, LocalDateTime fetchedAt,
+      String etag, String lastModified) {
+    this(issueNumber, cleanTitle, rawTitle, pageUrl, fetchedAt);
+    this.etag = etag;
+    this.lastModified = lastModified;
+  }
+
   public Integer getIssueNumber() {
     return issueNumber;
   }
@@ -66,6 +80,38 @@ public class GithubIssue implements Serializable {
     this.fetchedAt = fetchedAt;
   }
 
+  public String getEtag() {
+    return etag;
+  }
+
+  public void setEtag(String etag) {
+    this.etag = etag;
+  }
+
+  public String getLastModified() {
+    return lastModified;
+  }
+
+  public void setLastModified(String lastModified) {
+    this.lastModified = lastModified;
+  }
+
+  public boolean isMissing() {
+    return missing;
+  }
+
+  public void setMissing(boolean missing) {
+    this.missing = missing;
+  }
+
+  public int getFailureCount() {
+    return failureCount;
+  }
+
+  public void setFailureCount(int failureCount) {
+    this.failureCount = failureCount;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -76,6 +122,10 @@ public class GithubIssue implements Serializable {
     private String rawTitle;
     private String pageUrl;
     private LocalDateTime fetchedAt;
+    private String etag;
+    private String lastModified;
+    private boolean missing;
+    private int failureCount;
 
     public Builder issueNumber(Integer issueNumber) {
       this.issueNumber = issueNumber;
@@ -102,8 +152,31 @@ public class GithubIssue implements Serializable {
       return this;
     }
 
+    public Builder etag(String etag) {
+      this.etag = etag;
+      return this;
+    }
+
+    public Builder lastModified(String lastModified) {
+      this.lastModified = lastModified;
+      return this;
+    }
+
+    public Builder missing(boolean missing) {
+      this.missing = missing;
+      return this;
+    }
+
+    public Builder failureCount(int failureCount) {
+      this.failureCount = failureCount;
+      return this;
+    }
+
     public GithubIssue build() {
-      return new GithubIssue(issueNumber, cleanTitle, rawTitle, pageUrl, fetchedAt);
+      GithubIssue issue = new GithubIssue(issueNumber, cleanTitle, rawTitle, pageUrl, fetchedAt, etag, lastModified);
+      issue.setMissing(missing);
+      issue.setFailureCount(failureCount);
+      return issue;
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+package kr.suhsaechan.suhapilog.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.suhsaechan.suhapilog.model.ApiLogIndexEntry;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * suh-api-log-processor 가 생성한 컴파일 타임 인덱스를 읽는 로더
+ *
+ * <p>클래스패스의 모든 META-INF/suhapilog/index 리소스를 읽으므로 멀티모듈 프로젝트에서도
+ * 각 모듈의 인덱스가 합쳐집니다. 형식은 ApiLogIndexProcessor 문서를 참고하세요.</p>
+ */
+public class ApiLogIndexLoader {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(ApiLogIndexLoader.class);
+
+  public static final String INDEX_LOCATION = "META-INF/suhapilog/index";
+  // 인덱스를 생성한 컴파일이 처리한 패키지 표시 (ApiLogIndexProcessor.COVERS_PREFIX)
+  static final String COVERS_PREFIX = "# covers ";
+  private static final int FIELD_COUNT = 7;
+
+  private ApiLogIndexLoader() {
+    // 유틸리티 클래스
+  }
+
+  /**
+   * 클래스패스에서 인덱스를 읽음 (인덱스가 없으면 빈 목록)
+   */
+  public static List<ApiLogIndexEntry> load(ClassLoader classLoader) {
+    ClassLoader loader = classLoader != null ? classLoader : ApiLogIndexLoader.class.getClassLoader();
+    List<ApiLogIndexEntry> entries = new ArrayList<>();
+    try {
+      Enumeration<URL> resources = loader.getResources(INDEX_LOCATION);
+      while (resources.hasMoreElements()) {
+        URL resource = resources.nextElement();
+        log.debug("@ApiLog 인덱스 발견: {}", resource);
+        readIndex(resource, entries, new HashSet<>());
+      }
+    } catch (IOException e) {
+      log.warn("@ApiLog 인덱스를 읽는 데 실패했습니다: {}", e.getMessage());
+      return Collections.emptyList();
+    }
+    return entries;
+  }
+
+  /**
+   * 인덱스가 포함하지 않는 패키지 (이 패키지들은 리플렉션 스캔이 필요함)
+   *
+   * <p>패키지가 들어 있는 클래스패스 루트(클래스 디렉토리 또는 jar)마다, 같은 루트의 인덱스에
+   * 그 패키지나 하위 패키지를 처리했다는 표시({@code # covers})가 있어야 포함하는 것으로 봄.
+   * 의존성 jar 의 인덱스만 있거나, 같은 패키지가 프로세서를 적용하지 않은 다른 모듈에도 있는 경우를 가려냄.
+   * 디렉토리 항목이 없는 jar 는 확인할 수 없으므로 빌드 도구의 기본 설정(디렉토리 항목 포함)을 전제로 함</p>
+   */
+  public static List<String> uncoveredPackages(ClassLoader classLoader, Collection<String> packageNames) {
+    ClassLoader loader = classLoader != null ? classLoader : ApiLogIndexLoader.class.getClassLoader();
+    try {
+      Map<String, Set<String>> coveredPackagesByRoot = new HashMap<>();
+      Enumeration<URL> indexes = loader.getResources(INDEX_LOCATION);
+      while (indexes.hasMoreElements()) {
+        URL index = indexes.nextElement();
+        Set<String> coveredPackages = coveredPackagesByRoot.computeIfAbsent(rootOf(index, INDEX_LOCATION),
+            root -> new HashSet<>());
+        readIndex(index, new ArrayList<>(), coveredPackages);
+      }
+
+      List<String> uncovered = new ArrayList<>();
+      for (String packageName : packageNames) {
+        if (!isCovered(loader, packageName, coveredPackagesByRoot)) {
+          uncovered.add(packageName);
+        }
+      }
+      return uncovered;
+    } catch (IOException e) {
+      log.warn("@ApiLog 인덱스를 읽는 데 실패했습니다: {}", e.getMessage());
+      return new ArrayList<>(packageNames);
+    }
+  }
+
+  private static boolean isCovered(ClassLoader loader, String packageName,
+      Map<String, Set<String>> coveredPackagesByRoot) throws IOException {
+    if (packageName.isEmpty()) {
+      // 기본 패키지는 모든 루트에 걸치므로 확인할 수 없음
+      return false;
+    }
+    String path = packageName.replace('.', '/');
+    Enumeration<URL> packageDirectories = loader.getResources(path);
+    boolean found = false;
+    while (packageDirectories.hasMoreElements()) {
+      found = true;
+      Set<String> coveredPackages = coveredPackagesByRoot.get(rootOf(packageDirectories.nextElement(), path));
+      if (coveredPackages == null || !containsPackage(coveredPackages, packageName)) {
+        return false;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * 패키지 자신이나 하위 패키지를 처리했는지 확인
+   */
+  private static boolean containsPackage(Set<String> coveredPackages, String packageName) {
+    String prefix = packageName + ".";
+    for (String coveredPackage : coveredPackages) {
+      if (coveredPackage.equals(packageName) || coveredPackage.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 리소스 URL 에서 클래스패스 루트 부분 추출 (디렉토리는 file:...classes, jar 는 jar:file:...jar!)
+   */
+  private static String rootOf(URL resource, String path) {
+    String url = resource.toString();
+    if (url.endsWith("/")) {
+      url = url.substring(0, url.length() - 1);
+    }
+    if (url.endsWith(path)) {
+      url = url.substring(0, url.length() - path.length());
+    }
+    return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+  }
+
+  private static void readIndex(URL resource, List<ApiLogIndexEntry> entries, Set<String> coveredPackages)
+      throws IOException {
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(COVERS_PREFIX)) {
+          coveredPackages.add(line.substring(COVERS_PREFIX.length()).trim());
+          continue;
+        }
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        String[] fields = line.split("\t", -1);
+        if (fields.length != FIELD_COUNT) {
+          log.warn("잘못된 @ApiLog 인덱스 항목을 건너뜁니다: {}", line);
+          continue;
+        }
+        try {
+          entries.add(new ApiLogIndexEntry(
+              unescape(fields[0]),
+              unescape(fields[1]),
+              unescape(fields[2]),
+              unescape(fields[3]),
+              unescape(fields[4]),
+              unescape(fields[5]),
+              Integer.parseInt(fields[6].trim())));
+        } catch (NumberFormatException e) {
+          log.warn("잘못된 이슈 번호가 포함된 @ApiLog 인덱스 항목을 건너뜁니다: {}", line);
+        }
+      }
+    }
+  }
+
+  static String unescape(String value) {
+    if (value.indexOf('\\') < 0) {
+      return value;
+    }
+    StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\' && i + 1 < value.length()) {
+        char next = value.charAt(++i);
+        switch (next) {
+          case 't':
+            sb.append('\t');
+            break;
+          case 'n':
+            sb.append('\n');
+            break;
+          case 'r':
+            sb.append('\r');
+            break;
+          default:
+            sb.append(next);
+        }
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+}
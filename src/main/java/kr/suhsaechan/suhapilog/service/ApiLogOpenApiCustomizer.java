@@ -0,0 +1,75 @@
+package kr.suhsaechan.suhapilog.service;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import org.springdoc.core.customizers.GlobalOpenApiCustomizer;
+
+/**
+ * OpenAPI 문서 전체를 한 번에 후처리하여 API 변경 이력을 추가하는 커스터마이저
+ *
+ * <p>ApiLogOperationCustomizer 는 캐시에 없는 Operation 에 표시(extension)만 남기고,
+ * 이 커스터마이저가 문서의 모든 Operation 이 참조하는 이슈를 한 번에 조회한 뒤 테이블을 추가함.
+ * 캐시 미스가 여러 개여도 Operation 마다 순차적으로 네트워크를 기다리지 않음</p>
+ */
+public class ApiLogOpenApiCustomizer implements GlobalOpenApiCustomizer, DeferredChangelogRenderer {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(ApiLogOpenApiCustomizer.class);
+
+  static final String DEFERRED_EXTENSION = "x-suhapilog-changelog";
+
+  private final SwaggerIntegration swaggerIntegration;
+  private final Map<String, Method> deferredMethods = new ConcurrentHashMap<>();
+
+  public ApiLogOpenApiCustomizer(SwaggerIntegration swaggerIntegration) {
+    this.swaggerIntegration = swaggerIntegration;
+  }
+
+  @Override
+  public void defer(Operation operation, Method method) {
+    String key = method.toString();
+    deferredMethods.putIfAbsent(key, method);
+    operation.addExtension(DEFERRED_EXTENSION, key);
+  }
+
+  @Override
+  public void customise(OpenAPI openApi) {
+    if (openApi.getPaths() == null) {
+      return;
+    }
+
+    // 1. 렌더링이 미뤄진 Operation 수집 (표시용 extension 은 문서에 남지 않도록 제거)
+    Map<Operation, Method> pendingOperations = new IdentityHashMap<>();
+    for (PathItem pathItem : openApi.getPaths().values()) {
+      for (Operation operation : pathItem.readOperations()) {
+        Map<String, Object> extensions = operation.getExtensions();
+        if (extensions == null || !extensions.containsKey(DEFERRED_EXTENSION)) {
+          continue;
+        }
+        Object key = extensions.remove(DEFERRED_EXTENSION);
+        if (extensions.isEmpty()) {
+          operation.setExtensions(null);
+        }
+        Method method = deferredMethods.get(String.valueOf(key));
+        if (method != null) {
+          pendingOperations.put(operation, method);
+        }
+      }
+    }
+    if (pendingOperations.isEmpty()) {
+      return;
+    }
+
+    // 2. 모든 이슈를 한 번에 조회한 뒤 3. 각 Operation 에 변경 이력 추가
+    log.debug("변경 이력 일괄 처리 대상 Operation {}개", pendingOperations.size());
+    Map<Method, String> tables = swaggerIntegration.renderChangelogTables(
+        new LinkedHashSet<>(pendingOperations.values()));
+    pendingOperations.forEach((operation, method) ->
+        ApiLogOperationCustomizer.appendDescription(operation, tables.get(method)));
+  }
+}
@@ -0,0 +1,60 @@
+package kr.suhsaechan.suhapilog.service;
+
+import io.swagger.v3.oas.models.Operation;
+import org.springdoc.core.customizers.GlobalOperationCustomizer;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * SpringDoc Operation 에 API 변경 이력 테이블을 추가하는 커스터마이저
+ * Operation 을 직접 호출하므로 리플렉션/프록시 호출 비용이 없음 (모든 GroupedOpenApi 에 적용)
+ *
+ * <p>ApiLogOpenApiCustomizer 와 함께 사용하면 캐시에 없는 변경 이력은 문서 후처리 단계에서 일괄 렌더링됨</p>
+ */
+public class ApiLogOperationCustomizer implements GlobalOperationCustomizer {
+
+  private final SwaggerIntegration swaggerIntegration;
+  private final DeferredChangelogRenderer batchCustomizer;
+
+  public ApiLogOperationCustomizer(SwaggerIntegration swaggerIntegration) {
+    this(swaggerIntegration, null);
+  }
+
+  /**
+   * @param batchCustomizer 일괄 렌더링을 담당할 커스터마이저 (null 이면 Operation 마다 즉시 렌더링)
+   */
+  public ApiLogOperationCustomizer(SwaggerIntegration swaggerIntegration, DeferredChangelogRenderer batchCustomizer) {
+    this.swaggerIntegration = swaggerIntegration;
+    this.batchCustomizer = batchCustomizer;
+  }
+
+  @Override
+  public Operation customize(Operation operation, HandlerMethod handlerMethod) {
+    if (operation == null || handlerMethod == null) {
+      return operation;
+    }
+
+    if (batchCustomizer != null) {
+      String cachedTable = swaggerIntegration.getCachedChangelogTable(handlerMethod.getMethod());
+      if (cachedTable == null) {
+        batchCustomizer.defer(operation, handlerMethod.getMethod());
+      } else {
+        appendDescription(operation, cachedTable);
+      }
+      return operation;
+    }
+
+    appendDescription(operation, swaggerIntegration.getChangelogTable(handlerMethod));
+    return operation;
+  }
+
+  /**
+   * 기존 설명 뒤에 변경 이력 테이블 추가
+   */
+  static void appendDescription(Operation operation, String tableHtml) {
+    if (tableHtml == null || tableHtml.isEmpty()) {
+      return;
+    }
+    String originalDescription = operation.getDescription();
+    operation.setDescription(originalDescription == null ? tableHtml : originalDescription + tableHtml);
+  }
+}
@@ -1,10 +1,17 @@
 package kr.suhsaechan.suhapilog.service;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import kr.suhsaechan.suhapilog.annotation.ApiLog;
+import kr.suhsaechan.suhapilog.model.ApiLogIndexEntry;
 import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.web.method.HandlerMethod;
 
 /**
@@ -21,6 +28,10 @@ public class ChangelogProcessor {
     this.swaggerIntegration = new SwaggerIntegration(githubIssueService);
   }
 
+  public SwaggerIntegration getSwaggerIntegration() {
+    return swaggerIntegration;
+  }
+
   /**
    * 메서드에서 변경 로그 HTML 생성
    */
@@ -44,11 +55,87 @@ public class ChangelogProcessor {
     return operation;
   }
 
+  /**
+   * 컴파일 타임 인덱스에서 이슈 번호 추출 (리플렉션 스캔 없음)
+   */
+  public void syncIssuesFromIndex(List<ApiLogIndexEntry> entries) {
+    Set<Integer> allIssueNumbers = collectIssueNumbersFromIndex(entries);
+
+    if (!allIssueNumbers.isEmpty()) {
+      log.debug("인덱스에서 발견된 이슈 번호: {}", allIssueNumbers);
+      githubIssueService.syncIssues(allIssueNumbers);
+    } else {
+      log.warn("@ApiLog 인덱스에서 이슈 번호를 찾을 수 없습니다");
+    }
+  }
+
+  /**
+   * 컴파일 타임 인덱스의 이슈 번호 (동기화하지 않음, 스캔 결과와 합칠 때 사용)
+   */
+  public Set<Integer> collectIssueNumbersFromIndex(List<ApiLogIndexEntry> entries) {
+    Set<Integer> allIssueNumbers = new TreeSet<>();
+    log.debug("@ApiLog 인덱스에서 이슈 번호 수집 - 총 {}개 항목", entries.size());
+
+    for (ApiLogIndexEntry entry : entries) {
+      if (entry.getIssueNumber() > 0) {
+        allIssueNumbers.add(entry.getIssueNumber());
+      }
+    }
+    return allIssueNumbers;
+  }
+
+  /**
+   * Spring MVC 핸들러 메서드에서 이슈 번호 추출
+   * 엔드포인트가 아닌 메서드(Object 상속 메서드, 헬퍼 메서드 등)는 검사하지 않음
+   */
+  public void syncIssuesFromHandlerMethods(Collection<HandlerMethod> handlerMethods) {
+    syncIssuesFromHandlerMethods(handlerMethods, Collections.emptySet());
+  }
+
+  /**
+   * 핸들러 메서드에서 추출한 이슈 번호와 indexIssueNumbers 를 합쳐 동기화
+   * (인덱스가 애플리케이션 패키지를 모두 포함하지 않을 때 사용)
+   */
+  public void syncIssuesFromHandlerMethods(Collection<HandlerMethod> handlerMethods, Set<Integer> indexIssueNumbers) {
+    Set<Integer> allIssueNumbers = new TreeSet<>(indexIssueNumbers);
+    Set<Method> scannedMethods = new HashSet<>();
+    log.debug("핸들러 메서드 스캔 시작 - 총 {}개", handlerMethods.size());
+
+    for (HandlerMethod handlerMethod : handlerMethods) {
+      Method method = handlerMethod.getMethod();
+      // 여러 경로에 매핑된 같은 메서드는 한 번만 검사
+      if (!scannedMethods.add(method)) {
+        continue;
+      }
+
+      // TYPE_HIERARCHY 로 인터페이스 선언까지 한 번에 검색 (@Repeatable 컨테이너 자동 해제)
+      MergedAnnotations.from(method, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY)
+          .stream(ApiLog.class)
+          .mapToInt(apiLog -> apiLog.getInt("issueNumber"))
+          .filter(issueNumber -> issueNumber > 0)
+          .forEach(allIssueNumbers::add);
+    }
+
+    if (!allIssueNumbers.isEmpty()) {
+      log.debug("핸들러 메서드에서 발견된 이슈 번호: {}", allIssueNumbers);
+      githubIssueService.syncIssues(allIssueNumbers);
+    } else {
+      log.warn("핸들러 메서드에서 API 변경 이력을 찾을 수 없습니다");
+    }
+  }
+
   /**
    * 주어진 소스에서 변경 로그를 스캔하여 이슈 번호 추출
    */
 public void syncIssuesFromSource(Class<?>[] sources) {
-  Set<Integer> allIssueNumbers = new TreeSet<>();
+  syncIssuesFromSource(sources, Collections.emptySet());
+}
+
+  /**
+   * 주어진 소스에서 추출한 이슈 번호와 indexIssueNumbers 를 합쳐 동기화
+   */
+public void syncIssuesFromSource(Class<?>[] sources, Set<Integer> indexIssueNumbers) {
+  Set<Integer> allIssueNumbers = new TreeSet<>(indexIssueNumbers);
   log.debug("컨트롤러 클래스 스캔 시작 - 총 {}개 클래스", sources.length);
 
   for (Class<?> source : sources) {
@@ -0,0 +1,119 @@
+package kr.suhsaechan.suhapilog.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * API 변경 이력 초기화(스캔 + 이슈 동기화) 진행 상태
+ * 비동기 초기화 중에도 다른 스레드에서 안전하게 조회할 수 있음
+ */
+public class ChangelogSyncStatus {
+
+  public enum State {
+    NOT_STARTED,
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+  }
+
+  private volatile State state = State.NOT_STARTED;
+  private volatile LocalDateTime startedAt;
+  private volatile LocalDateTime finishedAt;
+  private volatile String errorMessage;
+  private final AtomicInteger totalIssues = new AtomicInteger();
+  private final AtomicInteger processedIssues = new AtomicInteger();
+  private final AtomicInteger failedIssues = new AtomicInteger();
+
+  /**
+   * 초기화 시작
+   */
+  public void start() {
+    totalIssues.set(0);
+    processedIssues.set(0);
+    failedIssues.set(0);
+    errorMessage = null;
+    finishedAt = null;
+    startedAt = LocalDateTime.now();
+    state = State.IN_PROGRESS;
+  }
+
+  /**
+   * 동기화 대상 이슈 수 설정
+   */
+  public void setTotalIssues(int total) {
+    totalIssues.set(total);
+  }
+
+  /**
+   * 이슈 하나의 동기화 결과 반영
+   */
+  public void issueProcessed(boolean success) {
+    processedIssues.incrementAndGet();
+    if (!success) {
+      failedIssues.incrementAndGet();
+    }
+  }
+
+  /**
+   * 네트워크 조회 없이 처리된(이미 캐시된) 이슈 반영
+   */
+  public void issuesSkipped(int count) {
+    processedIssues.addAndGet(count);
+  }
+
+  /**
+   * 초기화 완료
+   */
+  public void complete() {
+    finishedAt = LocalDateTime.now();
+    state = State.COMPLETED;
+  }
+
+  /**
+   * 초기화 실패
+   */
+  public void fail(Throwable cause) {
+    errorMessage = cause != null ? cause.getMessage() : null;
+    finishedAt = LocalDateTime.now();
+    state = State.FAILED;
+  }
+
+  public boolean isInProgress() {
+    return state == State.IN_PROGRESS;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public LocalDateTime getStartedAt() {
+    return startedAt;
+  }
+
+  public LocalDateTime getFinishedAt() {
+    return finishedAt;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public int getTotalIssues() {
+    return totalIssues.get();
+  }
+
+  public int getProcessedIssues() {
+    return processedIssues.get();
+  }
+
+  public int getFailedIssues() {
+    return failedIssues.get();
+  }
+
+  @Override
+  public String toString() {
+    return "ChangelogSyncStatus{state=" + state
+        + ", processed=" + processedIssues.get() + "/" + totalIssues.get()
+        + ", failed=" + failedIssues.get() + "}";
+  }
+}
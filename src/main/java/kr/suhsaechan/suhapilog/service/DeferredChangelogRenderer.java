@@ -0,0 +1,18 @@
+package kr.suhsaechan.suhapilog.service;
+
+import io.swagger.v3.oas.models.Operation;
+import java.lang.reflect.Method;
+
+/**
+ * 변경 이력 렌더링을 문서 후처리 단계로 미루는 대상
+ *
+ * <p>ApiLogOperationCustomizer 가 SpringDoc 의 GlobalOpenApiCustomizer 에 직접 의존하지 않도록 분리함
+ * (GlobalOpenApiCustomizer 가 없는 SpringDoc 버전에서도 Operation 커스터마이저는 등록됨)</p>
+ */
+public interface DeferredChangelogRenderer {
+
+  /**
+   * Operation 의 변경 이력 렌더링을 문서 후처리 단계로 미룸
+   */
+  void defer(Operation operation, Method method);
+}
@@ -2,18 +2,50 @@ package kr.suhsaechan.suhapilog.service;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
 
 import kr.suhsaechan.suhapilog.annotation.ApiLog;
 import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.fetch.CircuitBreakingIssueFetcher;
+import kr.suhsaechan.suhapilog.fetch.GithubGraphQlIssueFetcher;
+import kr.suhsaechan.suhapilog.fetch.IssueCircuitBreaker;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchException;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchResult;
+import kr.suhsaechan.suhapilog.fetch.IssueFetcher;
+import kr.suhsaechan.suhapilog.fetch.IssueHttpClient;
+import kr.suhsaechan.suhapilog.fetch.JsoupIssueFetcher;
+import kr.suhsaechan.suhapilog.fetch.RequestRateLimiter;
+import kr.suhsaechan.suhapilog.fetch.StreamingIssueFetcher;
+import kr.suhsaechan.suhapilog.util.SingleFlight;
 import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import kr.suhsaechan.suhapilog.util.SuhExecutors;
 import kr.suhsaechan.suhapilog.model.GithubIssue;
 import kr.suhsaechan.suhapilog.storage.IssueRepository;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import kr.suhsaechan.suhapilog.storage.IssueSetFingerprint;
 
 /**
  * GitHub 이슈 정보를 관리하는 서비스
@@ -21,16 +53,96 @@ import org.jsoup.nodes.Document;
 public class GithubIssueService {
   private static final SuhApiLogger log = SuhApiLogger.getLogger(GithubIssueService.class);
 
+  // 백그라운드 동기화가 끝나기 전 캐시에 없는 이슈에 표시되는 제목
+  public static final String SYNC_PLACEHOLDER_TITLE = "동기화 중...";
+  // 렌더링 제한 시간 안에 조회가 끝나지 않은 이슈에 표시되는 제목 (조회는 백그라운드에서 계속됨)
+  public static final String PENDING_PLACEHOLDER_TITLE = "이슈 정보 로딩 중...";
+  // 존재하지 않거나 비공개인 이슈(404)에 표시되는 제목
+  public static final String NOT_FOUND_TITLE = "이슈를 찾을 수 없음";
+  // 연속으로 조회에 실패한 이슈에 표시되는 제목
+  public static final String UNAVAILABLE_TITLE = "이슈 정보를 가져올 수 없음";
+
   private final IssueRepository issueRepository;
   private final String issueBaseUrl;
   private final String scanPackage;
   private final ApiChangeLogProperties properties;
+  private final ChangelogSyncStatus syncStatus = new ChangelogSyncStatus();
+  private final List<IssueChangeListener> issueChangeListeners = new CopyOnWriteArrayList<>();
+  // 진행 중인 이슈 조회 (동기/백그라운드 구분 없이 같은 이슈는 한 번만 조회하고 결과를 공유)
+  private final SingleFlight<Integer, GithubIssue> issueFetches = new SingleFlight<>();
+  private volatile ExecutorService backgroundExecutor;
+  private volatile Semaphore backgroundPermits;
+  // 렌더링 마감 시각 계산에 쓰는 시계 (System.nanoTime 기준, 테스트에서 교체)
+  private volatile LongSupplier nanoClock = System::nanoTime;
+
+  private final IssueFetcher issueFetcher;
+  // GitHub 장애 시 요청을 차단하는 회로 차단기 (사용하지 않으면 null)
+  private final IssueCircuitBreaker circuitBreaker;
+  // 동기화에 실패한 이슈는 버리지 않고 백그라운드에서 재시도
+  private final IssueRetryScheduler retryScheduler;
+  // 이슈별 연속 조회 실패 횟수 (기준 횟수에 도달하면 조회할 수 없는 이슈로 기록)
+  private final Map<Integer, Integer> consecutiveFailures = new ConcurrentHashMap<>();
 
   public GithubIssueService(IssueRepository issueRepository, String issueBaseUrl, String scanPackage, ApiChangeLogProperties properties) {
+    this(issueRepository, issueBaseUrl, scanPackage, properties, createIssueFetcher(properties, issueBaseUrl));
+  }
+
+  public GithubIssueService(IssueRepository issueRepository, String issueBaseUrl, String scanPackage,
+      ApiChangeLogProperties properties, IssueFetcher issueFetcher) {
     this.issueRepository = issueRepository;
     this.issueBaseUrl = issueBaseUrl;
     this.scanPackage = scanPackage;
     this.properties = properties;
+    this.circuitBreaker = createCircuitBreaker(properties);
+    this.issueFetcher = circuitBreaker != null
+        ? new CircuitBreakingIssueFetcher(issueFetcher, circuitBreaker) : issueFetcher;
+    ApiChangeLogProperties.Github github = properties != null ? properties.getGithub() : null;
+    this.retryScheduler = new IssueRetryScheduler(this::fetchIssueInBackground,
+        github != null ? github.getMaxRetries() : 0,
+        github != null ? github.getRetryBaseDelay() : null,
+        github != null ? github.getRetryMaxDelay() : null);
+  }
+
+  /**
+   * 설정(suhapilog.github.fetcher)에 맞는 이슈 조회 방식 생성
+   */
+  private static IssueFetcher createIssueFetcher(ApiChangeLogProperties properties, String issueBaseUrl) {
+    if (properties == null) {
+      return new StreamingIssueFetcher();
+    }
+    ApiChangeLogProperties.Github github = properties.getGithub();
+    // 모든 이슈 조회가 하나의 HTTP 클라이언트(연결 풀)와 속도 제한기를 공유
+    RequestRateLimiter rateLimiter = new RequestRateLimiter(github.getRequestsPerSecond(),
+        (int) Math.ceil(github.getRequestsPerSecond()));
+    IssueHttpClient httpClient = new IssueHttpClient(github.getConnectTimeout(), github.getReadTimeout(),
+        github.getProxy(), github.getUserAgent(), rateLimiter);
+    switch (github.getFetcher()) {
+      case JSOUP:
+        return new JsoupIssueFetcher(httpClient);
+      case GRAPHQL:
+        if (github.getToken() == null || github.getToken().isBlank()) {
+          log.warn("suhapilog.github.token 이 없어 GraphQL 대신 페이지 조회 방식을 사용합니다");
+          return new StreamingIssueFetcher(httpClient);
+        }
+        try {
+          return GithubGraphQlIssueFetcher.forIssueBaseUrl(httpClient, issueBaseUrl, github.getApiUrl(),
+              github.getToken(), github.getBatchSize());
+        } catch (IllegalArgumentException e) {
+          log.warn("{} - 페이지 조회 방식을 사용합니다", e.getMessage());
+          return new StreamingIssueFetcher(httpClient);
+        }
+      default:
+        return new StreamingIssueFetcher(httpClient);
+    }
+  }
+
+  private static IssueCircuitBreaker createCircuitBreaker(ApiChangeLogProperties properties) {
+    if (properties == null || !properties.getCircuitBreaker().isEnabled()) {
+      return null;
+    }
+    ApiChangeLogProperties.CircuitBreaker config = properties.getCircuitBreaker();
+    return new IssueCircuitBreaker(config.getFailureRateThreshold(), config.getSlowCallRateThreshold(),
+        config.getSlowCallDuration(), config.getMinimumCalls(), config.getWindowSize(), config.getOpenDuration());
   }
 
   public IssueRepository getIssueRepository() {
@@ -49,6 +161,56 @@ public class GithubIssueService {
     return properties;
   }
 
+  public IssueFetcher getIssueFetcher() {
+    return issueFetcher;
+  }
+
+  /**
+   * 회로 차단기 (사용하지 않으면 null)
+   */
+  public IssueCircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /**
+   * 회로가 열려 있어 GitHub 에 요청하지 않는 상태인지 확인 (캐시된 정보 또는 플레이스홀더만 표시)
+   */
+  public boolean isCircuitOpen() {
+    return circuitBreaker != null && circuitBreaker.isOpen();
+  }
+
+  /**
+   * 백그라운드 재시도가 예약된 이슈 수
+   */
+  public int getPendingRetryCount() {
+    return retryScheduler.getPendingCount();
+  }
+
+  public ChangelogSyncStatus getSyncStatus() {
+    return syncStatus;
+  }
+
+  /**
+   * 이슈 변경 리스너 등록
+   */
+  public void addIssueChangeListener(IssueChangeListener listener) {
+    issueChangeListeners.add(listener);
+  }
+
+  /**
+   * 저장소에 있는 이슈만 조회 (네트워크 요청 없음)
+   */
+  public Optional<GithubIssue> findCachedIssue(Integer issueNumber) {
+    return issueRepository.findByIssueNumber(issueNumber);
+  }
+
+  /**
+   * 백그라운드 초기화(async-init)가 진행 중이면 캐시에 없는 이슈는 조회하지 않고 플레이스홀더를 표시해야 함
+   */
+  public boolean isSyncInProgress() {
+    return properties != null && properties.isAsyncInit() && syncStatus.isInProgress();
+  }
+
   /**
    * 이슈 번호에 해당하는 정보 조회 (캐시에 없으면 GitHub에서 가져옴)
    */
@@ -56,10 +218,14 @@ public class GithubIssueService {
     Optional<GithubIssue> maybeIssue = issueRepository.findByIssueNumber(issueNumber);
     if (maybeIssue.isPresent()) {
       log.debug("캐시에서 이슈 {} 조회 성공", issueNumber);
-      return maybeIssue.get();
+      return refreshIfStale(maybeIssue.get());
     } else {
       try {
-        return fetchAndSaveIssue(issueNumber);
+        // 같은 이슈를 동시에 요청한 스레드는 진행 중인 조회 하나의 결과를 함께 받음
+        return issueFetches.execute(issueNumber, () -> {
+          Optional<GithubIssue> savedMeanwhile = issueRepository.findByIssueNumber(issueNumber);
+          return savedMeanwhile.isPresent() ? savedMeanwhile.get() : fetchAndSaveIssue(issueNumber);
+        });
       } catch (Exception e) {
         log.error("이슈 {} 파싱 실패: {}", issueNumber, e.getMessage());
         throw new RuntimeException("이슈 " + issueNumber + " 파싱 실패", e);
@@ -67,8 +233,189 @@ public class GithubIssueService {
     }
   }
 
+  /**
+   * 렌더링 제한 시간 계산 (System.nanoTime 기준 마감 시각)
+   * 한 번의 렌더링에서 조회하는 모든 이슈가 이 마감 시각을 공유함
+   */
+  public long renderDeadline() {
+    Duration renderDeadline = properties != null ? properties.getSwagger().getRenderDeadline() : null;
+    long timeoutNanos = renderDeadline != null ? Math.max(0, renderDeadline.toNanos()) : 0;
+    return nanoClock.getAsLong() + timeoutNanos;
+  }
+
+  /**
+   * 렌더링 마감 시각 계산에 쓰는 시계 교체 (테스트용)
+   */
+  void setNanoClock(LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * 마감 시각까지만 기다리는 이슈 조회 (렌더링 경로용, 네트워크 때문에 문서 생성이 멈추지 않음)
+   * 캐시에 있으면 즉시 반환하고, 없으면 백그라운드 조회를 시작한 뒤 마감 시각까지만 기다림
+   *
+   * @return 마감 시각 안에 조회된 이슈 (시간 초과 시 빈 값, 조회는 백그라운드에서 계속됨)
+   * @throws RuntimeException 조회가 실패한 경우
+   */
+  public Optional<GithubIssue> findIssueBefore(Integer issueNumber, long deadlineNanos) {
+    Optional<GithubIssue> cachedIssue = issueRepository.findByIssueNumber(issueNumber);
+    if (cachedIssue.isPresent() || isSyncInProgress() || isCircuitOpen()) {
+      return cachedIssue.map(this::refreshIfStale);
+    }
+    return awaitIssue(issueNumber, fetchIssueInBackground(issueNumber), deadlineNanos);
+  }
+
+  /**
+   * 저장된 이슈가 만료되었는지 확인 (조회 시각이 없으면 만료로 봄)
+   * 일반 이슈는 suhapilog.github.cache-ttl, 조회할 수 없는 이슈 기록은 negative-cache-ttl 기준
+   * negative-cache-ttl 을 끄면 조회 실패는 기록하지 않으며, 웹훅이 기록한 삭제된 이슈 등 이미 있는 기록은
+   * 만료되지 않고 웹훅이 교체할 때까지 유지함 (렌더링마다 다시 조회하지 않도록)
+   */
+  public boolean isStale(GithubIssue issue) {
+    if (issue.isMissing()) {
+      Duration negativeCacheTtl = negativeCacheTtl();
+      if (negativeCacheTtl == null) {
+        return false;
+      }
+      return issue.getFetchedAt() == null
+          || issue.getFetchedAt().plus(negativeCacheTtl).isBefore(LocalDateTime.now());
+    }
+    Duration cacheTtl = properties != null ? properties.getGithub().getCacheTtl() : null;
+    if (cacheTtl == null || cacheTtl.isZero() || cacheTtl.isNegative()) {
+      return false;
+    }
+    LocalDateTime fetchedAt = issue.getFetchedAt();
+    return fetchedAt == null || fetchedAt.plus(cacheTtl).isBefore(LocalDateTime.now());
+  }
+
+  /**
+   * 만료된 이슈는 백그라운드 재검증을 시작하고 기존 값을 그대로 반환 (stale-while-revalidate)
+   * 호출 측은 재검증을 기다리지 않으며, 제목이 바뀌면 변경 리스너로 알림
+   */
+  private GithubIssue refreshIfStale(GithubIssue issue) {
+    if (isStale(issue) && !isFetchPending(issue.getIssueNumber()) && !isCircuitOpen()) {
+      log.debug("이슈 {} 캐시가 만료되어 백그라운드에서 재검증합니다", issue.getIssueNumber());
+      fetchIssueInBackground(issue.getIssueNumber()).whenComplete((refreshed, e) -> {
+        if (e != null) {
+          log.warn("이슈 {} 재검증 실패 (기존 값 유지): {}", issue.getIssueNumber(), e.getMessage());
+        }
+      });
+    }
+    return issue;
+  }
+
+  /**
+   * 백그라운드 조회가 진행 중인지 확인
+   */
+  public boolean isFetchPending(Integer issueNumber) {
+    return issueFetches.isInFlight(issueNumber);
+  }
+
+  /**
+   * 이슈를 백그라운드에서 조회 (이미 같은 이슈를 조회 중이면 그 결과를 공유)
+   */
+  public CompletableFuture<GithubIssue> fetchIssueInBackground(Integer issueNumber) {
+    return issueFetches.submit(issueNumber, backgroundExecutor(), () -> fetchWithBackgroundPermit(issueNumber));
+  }
+
+  private GithubIssue fetchWithBackgroundPermit(Integer issueNumber) throws IOException, InterruptedException {
+    Semaphore permits = backgroundPermits;
+    permits.acquire();
+    try {
+      // 대기하는 동안 다른 경로(공유 저장소면 다른 인스턴스)에서 저장되었을 수 있으므로 저장소에서 다시 읽어 확인
+      Optional<GithubIssue> cachedIssue = issueRepository.reload(issueNumber);
+      if (cachedIssue.isPresent() && !isStale(cachedIssue.get())) {
+        return cachedIssue.get();
+      }
+      return fetchAndSaveIssue(issueNumber);
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * 여러 이슈를 백그라운드에서 일괄 조회 (이미 조회 중인 이슈는 그 결과를 공유)
+   * 일괄 조회를 지원하지 않는 방식이면 이슈마다 {@link #fetchIssueInBackground(Integer)} 호출
+   */
+  private Map<Integer, CompletableFuture<GithubIssue>> fetchIssuesInBackground(Collection<Integer> issueNumbers) {
+    if (issueFetcher.getBatchSize() > 1 && issueNumbers.size() > 1) {
+      return issueFetches.submitAll(issueNumbers, backgroundExecutor(), this::fetchBatchWithBackgroundPermit);
+    }
+    Map<Integer, CompletableFuture<GithubIssue>> futures = new LinkedHashMap<>();
+    for (Integer issueNumber : issueNumbers) {
+      futures.put(issueNumber, fetchIssueInBackground(issueNumber));
+    }
+    return futures;
+  }
+
+  private Map<Integer, GithubIssue> fetchBatchWithBackgroundPermit(Set<Integer> issueNumbers)
+      throws InterruptedException {
+    Semaphore permits = backgroundPermits;
+    permits.acquire();
+    try {
+      Map<Integer, GithubIssue> issues = new HashMap<>();
+      Set<Integer> toFetch = new LinkedHashSet<>();
+      for (Integer issueNumber : issueNumbers) {
+        // 대기하는 동안 다른 경로에서 저장되었을 수 있으므로 저장소에서 다시 읽어 확인
+        Optional<GithubIssue> cachedIssue = issueRepository.reload(issueNumber);
+        if (cachedIssue.isPresent() && !isStale(cachedIssue.get())) {
+          issues.put(issueNumber, cachedIssue.get());
+        } else {
+          toFetch.add(issueNumber);
+        }
+      }
+      if (!toFetch.isEmpty()) {
+        // 조회하지 못한 이슈는 fetchIssuesInBatches 가 재시도를 예약하고 결과에서 제외됨
+        for (GithubIssue issue : fetchIssuesInBatches(toFetch, issueFetcher.getBatchSize(), null)) {
+          issues.put(issue.getIssueNumber(), issue);
+        }
+      }
+      return issues;
+    } finally {
+      permits.release();
+    }
+  }
+
+  private Optional<GithubIssue> awaitIssue(Integer issueNumber, CompletableFuture<GithubIssue> future,
+      long deadlineNanos) {
+    long remainingNanos = deadlineNanos - nanoClock.getAsLong();
+    try {
+      if (remainingNanos <= 0) {
+        return Optional.ofNullable(future.getNow(null));
+      }
+      return Optional.ofNullable(future.get(remainingNanos, TimeUnit.NANOSECONDS));
+    } catch (TimeoutException e) {
+      log.debug("이슈 {} 조회가 렌더링 제한 시간 안에 끝나지 않아 백그라운드에서 계속합니다", issueNumber);
+      return Optional.empty();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    } catch (ExecutionException | CompletionException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      throw new RuntimeException("이슈 " + issueNumber + " 파싱 실패", cause);
+    }
+  }
+
+  private ExecutorService backgroundExecutor() {
+    ExecutorService executor = backgroundExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = backgroundExecutor;
+        if (executor == null) {
+          int concurrency = properties != null ? Math.max(1, properties.getGithub().getFetchConcurrency()) : 1;
+          backgroundPermits = new Semaphore(concurrency);
+          executor = SuhExecutors.newIoExecutor("suhapilog-background-fetch", concurrency);
+          backgroundExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
   /**
    * GitHub에서 이슈 정보를 가져와 저장
+   * 저장된 이슈에 검증 값(ETag / Last-Modified)이 있으면 조건부 요청으로 재검증
+   * 이슈가 없거나(404) 연속으로 조회에 실패하면 예외 대신 조회할 수 없는 이슈 기록을 저장하고 반환
    */
   protected GithubIssue fetchAndSaveIssue(Integer issueNumber) throws IOException {
 
@@ -77,9 +424,144 @@ public class GithubIssueService {
 
     log.debug("이슈 {} 정보를 GitHub 에서 가져옵니다: {}", issueNumber, issueUrl);
 
-    // GitHub 페이지에서 이슈 제목 파싱
-    Document doc = Jsoup.connect(issueUrl).get();
-    String title = doc.select("title").text();
+    try {
+      GithubIssue saved = fetchAndSaveIssue(issueNumber, issueUrl);
+      consecutiveFailures.remove(issueNumber);
+      return saved;
+    } catch (IOException e) {
+      GithubIssue missingIssue = recordFailure(issueNumber, e);
+      if (missingIssue != null) {
+        return missingIssue;
+      }
+      throw e;
+    }
+  }
+
+  private GithubIssue fetchAndSaveIssue(Integer issueNumber, String issueUrl) throws IOException {
+    Optional<GithubIssue> cachedIssue = issueRepository.findByIssueNumber(issueNumber);
+    IssueFetchResult result;
+    if (cachedIssue.isPresent() && !cachedIssue.get().isMissing() && (cachedIssue.get().getEtag() != null || cachedIssue.get().getLastModified() != null)) {
+      GithubIssue cached = cachedIssue.get();
+      result = issueFetcher.revalidate(issueNumber, issueUrl, cached.getEtag(), cached.getLastModified());
+      if (result.isNotModified()) {
+        // 변경 없음 (304): 제목은 그대로 두고 조회 시각과 검증 값만 갱신
+        log.debug("이슈 {} 변경 없음 (304)", issueNumber);
+        return saveIssue(GithubIssue.builder()
+            .issueNumber(issueNumber)
+            .rawTitle(cached.getRawTitle())
+            .cleanTitle(cached.getCleanTitle())
+            .pageUrl(cached.getPageUrl())
+            .fetchedAt(LocalDateTime.now())
+            .etag(result.getEtag())
+            .lastModified(result.getLastModified())
+            .build());
+      }
+    } else {
+      // GitHub 페이지에서 이슈 제목 파싱
+      result = issueFetcher.fetch(issueNumber, issueUrl);
+    }
+    return saveIssue(toGithubIssue(result));
+  }
+
+  /**
+   * 외부에서 전달받은 제목으로 저장된 이슈 갱신 (웹훅 등, 네트워크 요청 없음)
+   * 저장소에 있는 이슈만 갱신하며, 제목이 바뀌면 변경 리스너에 알려 렌더링된 변경 이력을 무효화
+   *
+   * @return 갱신된 이슈 (저장소에 없는 이슈면 빈 값)
+   */
+  public Optional<GithubIssue> updateCachedIssue(Integer issueNumber, String rawTitle, String pageUrl) {
+    if (issueRepository.findByIssueNumber(issueNumber).isEmpty()) {
+      return Optional.empty();
+    }
+    consecutiveFailures.remove(issueNumber);
+    return Optional.of(saveIssue(toGithubIssue(new IssueFetchResult(issueNumber, rawTitle, pageUrl))));
+  }
+
+  /**
+   * 저장된 이슈를 찾을 수 없는 이슈로 표시 (삭제되거나 다른 저장소로 옮겨진 경우)
+   *
+   * @return 표시된 이슈 (저장소에 없는 이슈면 빈 값)
+   */
+  public Optional<GithubIssue> markCachedIssueMissing(Integer issueNumber) {
+    if (issueRepository.findByIssueNumber(issueNumber).isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(saveIssue(missingIssue(issueNumber, NOT_FOUND_TITLE, 0)));
+  }
+
+  /**
+   * 조회 실패 기록
+   * 404/410 이면 바로, 그 외 실패는 연속 실패 횟수가 기준에 도달하면 조회할 수 없는 이슈로 저장하여
+   * negative-cache-ttl 동안 같은 이슈를 다시 조회하지 않음 (속도 제한은 이슈 문제가 아니므로 제외)
+   * 이미 가져온 제목이 있는 이슈는 어느 경우든 실패 기록으로 덮어쓰지 않음
+   *
+   * @return 저장된 조회할 수 없는 이슈 기록 (아직 기록하지 않으면 null)
+   */
+  private GithubIssue recordFailure(Integer issueNumber, IOException e) {
+    if (negativeCacheTtl() == null) {
+      return null;
+    }
+    IssueFetchException fetchException = e instanceof IssueFetchException ? (IssueFetchException) e : null;
+    if (fetchException != null && !fetchException.isRetryable()) {
+      consecutiveFailures.remove(issueNumber);
+      if (hasFetchedTitle(issueNumber)) {
+        log.warn("이슈 {} 를 찾을 수 없지만 (HTTP {}) 이미 가져온 제목을 유지합니다",
+            issueNumber, fetchException.getStatusCode());
+        return null;
+      }
+      log.warn("이슈 {} 를 찾을 수 없습니다 (HTTP {}), {} 동안 다시 조회하지 않습니다",
+          issueNumber, fetchException.getStatusCode(), negativeCacheTtl());
+      return saveIssue(missingIssue(issueNumber, NOT_FOUND_TITLE, 0));
+    }
+    if (fetchException != null && (fetchException.isRateLimited() || fetchException.getStatusCode() == 0)) {
+      return null;
+    }
+
+    int threshold = properties.getGithub().getNegativeCacheFailureThreshold();
+    int failures = consecutiveFailures.merge(issueNumber, 1, Integer::sum);
+    if (threshold <= 0 || failures < threshold || hasFetchedTitle(issueNumber)) {
+      return null;
+    }
+    consecutiveFailures.remove(issueNumber);
+    log.warn("이슈 {} 조회가 {}번 연속 실패하여 {} 동안 다시 조회하지 않습니다", issueNumber, failures,
+        negativeCacheTtl());
+    return saveIssue(missingIssue(issueNumber, UNAVAILABLE_TITLE, failures));
+  }
+
+  /**
+   * 저장소에 GitHub 에서 가져온 제목이 있는지 (조회할 수 없는 이슈 기록은 제외)
+   */
+  private boolean hasFetchedTitle(Integer issueNumber) {
+    Optional<GithubIssue> cachedIssue = issueRepository.findByIssueNumber(issueNumber);
+    return cachedIssue.isPresent() && !cachedIssue.get().isMissing();
+  }
+
+  private GithubIssue missingIssue(Integer issueNumber, String title, int failureCount) {
+    return GithubIssue.builder()
+        .issueNumber(issueNumber)
+        .cleanTitle(title)
+        .pageUrl(formatIssueBaseUrl(issueBaseUrl, issueNumber))
+        .fetchedAt(LocalDateTime.now())
+        .missing(true)
+        .failureCount(failureCount)
+        .build();
+  }
+
+  /**
+   * 조회할 수 없는 이슈 기록 유지 기간 (기록하지 않으면 null)
+   */
+  private Duration negativeCacheTtl() {
+    Duration negativeCacheTtl = properties != null ? properties.getGithub().getNegativeCacheTtl() : null;
+    return negativeCacheTtl == null || negativeCacheTtl.isZero() || negativeCacheTtl.isNegative()
+        ? null : negativeCacheTtl;
+  }
+
+  /**
+   * 조회 결과를 이슈 모델로 변환 (제목 정리 포함)
+   */
+  private GithubIssue toGithubIssue(IssueFetchResult result) {
+    Integer issueNumber = result.getIssueNumber();
+    String title = result.getRawTitle();
 
     if (title == null || title.isEmpty()) {
       title = "Unknown Title";
@@ -92,11 +574,38 @@ public class GithubIssueService {
         .issueNumber(issueNumber)
         .rawTitle(title)
         .cleanTitle(cleanTitle)
-        .pageUrl(issueUrl)
+        .pageUrl(result.getPageUrl() != null ? result.getPageUrl() : formatIssueBaseUrl(issueBaseUrl, issueNumber))
+        .fetchedAt(LocalDateTime.now())
+        .etag(result.getEtag())
+        .lastModified(result.getLastModified())
         .build();
 
     log.debug("새로운 이슈 {} 파싱 완료: {}", issueNumber, cleanTitle);
-    return issueRepository.save(newIssue);
+    return newIssue;
+  }
+
+  /**
+   * 이슈를 저장하고 제목이 바뀌었으면 리스너에 알림
+   */
+  protected GithubIssue saveIssue(GithubIssue issue) {
+    String previousTitle = issueRepository.findByIssueNumber(issue.getIssueNumber())
+        .map(GithubIssue::getCleanTitle)
+        .orElse(null);
+    GithubIssue saved = issueRepository.save(issue);
+    if (!Objects.equals(previousTitle, saved.getCleanTitle())) {
+      notifyIssueChanged(saved);
+    }
+    return saved;
+  }
+
+  private void notifyIssueChanged(GithubIssue issue) {
+    for (IssueChangeListener listener : issueChangeListeners) {
+      try {
+        listener.onIssueChanged(issue);
+      } catch (Exception e) {
+        log.warn("이슈 {} 변경 리스너 실행 실패: {}", issue.getIssueNumber(), e.getMessage());
+      }
+    }
   }
 
   /**
@@ -139,6 +648,7 @@ public class GithubIssueService {
       return "";
     }
 
+    long deadlineNanos = renderDeadline();
     StringBuilder tableBuilder = new StringBuilder();
     tableBuilder.append("\n\n**변경 관리 이력:**\n")
         .append("<table>")
@@ -168,8 +678,13 @@ public class GithubIssueService {
             issueUrl, apiLog.issueNumber());
 
         try {
-          GithubIssue issue = getOrFetchIssue(apiLog.issueNumber());
-          issueTitleCell = escapeHtml(issue.getCleanTitle());
+          // 렌더링 제한 시간까지만 기다리고, 넘으면 플레이스홀더 표시
+          Optional<GithubIssue> issue = findIssueBefore(apiLog.issueNumber(), deadlineNanos);
+          if (issue.isPresent()) {
+            issueTitleCell = escapeHtml(issue.get().getCleanTitle());
+          } else {
+            issueTitleCell = isSyncInProgress() ? SYNC_PLACEHOLDER_TITLE : PENDING_PLACEHOLDER_TITLE;
+          }
         } catch (Exception e) {
           log.error("이슈 정보를 가져오는 데 실패했습니다: {}", e.getMessage());
           description = "이슈 정보 로드 실패: " + e.getMessage();
@@ -214,18 +729,216 @@ public class GithubIssueService {
       return;
     }
 
+    syncStatus.setTotalIssues(issueNumbers.size());
+
+    // 저장소에 없는 이슈만 조회 대상 (만료된 이슈는 기동을 막지 않도록 백그라운드에서 재검증)
+    Set<Integer> missingIssueNumbers = new TreeSet<>();
+    int staleCount = 0;
+    Map<Integer, GithubIssue> cachedIssues = issueRepository.findAllByIssueNumbers(issueNumbers);
+    for (Integer issueNumber : issueNumbers) {
+      GithubIssue cachedIssue = cachedIssues.get(issueNumber);
+      if (cachedIssue == null) {
+        missingIssueNumbers.add(issueNumber);
+      } else if (isStale(cachedIssue)) {
+        refreshIfStale(cachedIssue);
+        staleCount++;
+      }
+    }
+    syncStatus.issuesSkipped(issueNumbers.size() - missingIssueNumbers.size());
+    if (staleCount > 0) {
+      log.info("만료된 이슈 {}개를 백그라운드에서 재검증합니다", staleCount);
+    }
+
+    // 이슈 구성이 저장된 해시와 같고 모두 캐시되어 있으면 네트워크 요청과 파일 쓰기 모두 생략
+    String fingerprint = IssueSetFingerprint.of(issueNumbers);
+    if (missingIssueNumbers.isEmpty() && fingerprint.equals(issueRepository.getCurrentHash())) {
+      log.info("이슈 구성이 변경되지 않아 동기화를 생략합니다 ({}개)", issueNumbers.size());
+      return;
+    }
+    log.debug("동기화 대상 이슈: 전체 {}개 중 {}개", issueNumbers.size(), missingIssueNumbers.size());
+
     // 필요한 이슈 정보만 가져오기
+    List<GithubIssue> updatedIssues = fetchIssues(missingIssueNumbers, syncStatus);
+
+    // 저장소에 저장 (변경된 내용이 있을 때만 파일에 기록됨)
+    issueRepository.saveAll(issueNumbers, updatedIssues);
+  }
+
+  /**
+   * 여러 이슈를 한 번에 조회
+   * 저장소에서 먼저 찾고, 없는 이슈는 모두 동시에 백그라운드 조회를 시작한 뒤 마감 시각까지만 기다림
+   * (마감 시각 안에 조회되지 않았거나 실패한 이슈는 결과에서 제외)
+   */
+  public Map<Integer, GithubIssue> resolveIssues(Set<Integer> issueNumbers, long deadlineNanos) {
+    Map<Integer, GithubIssue> resolved = new HashMap<>();
+    Set<Integer> cacheMisses = new TreeSet<>();
+    // 백그라운드 동기화 중이거나 회로가 열려 있으면 새로 조회하지 않음
+    boolean skipFetch = isSyncInProgress() || isCircuitOpen();
+    Map<Integer, GithubIssue> cachedIssues = issueRepository.findAllByIssueNumbers(issueNumbers);
+    for (Integer issueNumber : issueNumbers) {
+      GithubIssue cachedIssue = cachedIssues.get(issueNumber);
+      if (cachedIssue != null) {
+        resolved.put(issueNumber, refreshIfStale(cachedIssue));
+      } else if (!skipFetch) {
+        // 백그라운드 동기화 중에는 동기화 작업이 가져오도록 두고 여기서는 조회하지 않음
+        cacheMisses.add(issueNumber);
+      }
+    }
+
+    Map<Integer, CompletableFuture<GithubIssue>> pendingFetches = Map.of();
+    if (!cacheMisses.isEmpty()) {
+      log.debug("캐시에 없는 이슈 {}개를 한꺼번에 조회합니다: {}", cacheMisses.size(), cacheMisses);
+      pendingFetches = fetchIssuesInBackground(cacheMisses);
+    }
+    for (Map.Entry<Integer, CompletableFuture<GithubIssue>> entry : pendingFetches.entrySet()) {
+      try {
+        awaitIssue(entry.getKey(), entry.getValue(), deadlineNanos)
+            .ifPresent(issue -> resolved.put(entry.getKey(), issue));
+      } catch (Exception e) {
+        log.error("이슈 {} 조회 실패: {}", entry.getKey(), e.getMessage());
+      }
+    }
+    return resolved;
+  }
+
+  /**
+   * 설정된 동시 요청 수에 따라 순차 또는 동시 조회
+   *
+   * @param progress 진행 상태를 반영할 객체 (없으면 null)
+   */
+  private List<GithubIssue> fetchIssues(Set<Integer> issueNumbers, ChangelogSyncStatus progress) {
+    if (issueFetcher.getBatchSize() > 1 && issueNumbers.size() > 1) {
+      return fetchIssuesInBatches(issueNumbers, issueFetcher.getBatchSize(), progress);
+    }
+    int concurrency = properties != null ? properties.getGithub().getFetchConcurrency() : 1;
+    return concurrency > 1 && issueNumbers.size() > 1
+        ? fetchIssuesConcurrently(issueNumbers, concurrency, progress)
+        : fetchIssuesSequentially(issueNumbers, progress);
+  }
+
+  /**
+   * 이슈를 하나씩 순서대로 조회
+   */
+  private List<GithubIssue> fetchIssuesSequentially(Set<Integer> issueNumbers, ChangelogSyncStatus progress) {
     List<GithubIssue> updatedIssues = new ArrayList<>();
     for (Integer issueNumber : issueNumbers) {
       try {
         updatedIssues.add(getOrFetchIssue(issueNumber));
+        reportProgress(progress, true);
       } catch (Exception e) {
         log.error("이슈 {} 동기화 실패: {}", issueNumber, e.getMessage());
+        reportProgress(progress, false);
+        retryScheduler.schedule(issueNumber, e);
+      }
+    }
+    return updatedIssues;
+  }
+
+  /**
+   * 일괄 조회를 지원하는 방식으로 batchSize 개씩 묶어 조회
+   * 묶음 요청이 실패하면 해당 묶음의 이슈만 실패로 처리하고 다음 묶음을 계속 조회
+   */
+  private List<GithubIssue> fetchIssuesInBatches(Set<Integer> issueNumbers, int batchSize,
+      ChangelogSyncStatus progress) {
+    log.debug("이슈 {}개를 {}개씩 묶어 동기화합니다", issueNumbers.size(), batchSize);
+    List<GithubIssue> updatedIssues = new ArrayList<>();
+    List<Integer> pending = new ArrayList<>(issueNumbers);
+    for (int from = 0; from < pending.size(); from += batchSize) {
+      Map<Integer, String> batch = new LinkedHashMap<>();
+      for (Integer issueNumber : pending.subList(from, Math.min(from + batchSize, pending.size()))) {
+        batch.put(issueNumber, formatIssueBaseUrl(issueBaseUrl, issueNumber));
+      }
+
+      Map<Integer, IssueFetchResult> results;
+      try {
+        results = issueFetcher.fetchAll(batch);
+      } catch (Exception e) {
+        log.error("이슈 {}개 일괄 조회 실패: {}", batch.size(), e.getMessage());
+        for (Integer issueNumber : batch.keySet()) {
+          reportProgress(progress, false);
+          retryScheduler.schedule(issueNumber, e);
+        }
+        continue;
+      }
+
+      for (Integer issueNumber : batch.keySet()) {
+        IssueFetchResult result = results.get(issueNumber);
+        if (result == null || result.isNotFound()) {
+          // notFound 는 존재하지 않는 이슈(404), 결과에서 빠진 이슈는 다시 시도할 수 있는 실패
+          IOException failure = result == null
+              ? new IOException("이슈 " + issueNumber + " 일괄 조회 결과 없음")
+              : new IssueFetchException("이슈 " + issueNumber + " 를 찾을 수 없습니다", 404, null);
+          log.error("이슈 {} 동기화 실패: {}", issueNumber, failure.getMessage());
+          reportProgress(progress, false);
+          GithubIssue missingIssue = recordFailure(issueNumber, failure);
+          if (missingIssue != null) {
+            updatedIssues.add(missingIssue);
+          } else {
+            retryScheduler.schedule(issueNumber, failure);
+          }
+          continue;
+        }
+        consecutiveFailures.remove(issueNumber);
+        updatedIssues.add(saveIssue(toGithubIssue(result)));
+        reportProgress(progress, true);
       }
     }
+    return updatedIssues;
+  }
 
-    // 저장소에 저장
-    issueRepository.saveAll(issueNumbers, updatedIssues);
+  private void reportProgress(ChangelogSyncStatus progress, boolean success) {
+    if (progress != null) {
+      progress.issueProcessed(success);
+    }
+  }
+
+  /**
+   * 이슈를 최대 concurrency 개씩 동시에 조회
+   * 각 이슈는 독립된 작업으로 실행되므로 느린 이슈가 다른 이슈의 조회를 막지 않음
+   */
+  private List<GithubIssue> fetchIssuesConcurrently(Set<Integer> issueNumbers, int concurrency,
+      ChangelogSyncStatus progress) {
+    log.debug("이슈 {}개를 최대 {}개씩 동시에 동기화합니다", issueNumbers.size(), concurrency);
+    ConcurrentLinkedQueue<GithubIssue> updatedIssues = new ConcurrentLinkedQueue<>();
+    Semaphore permits = new Semaphore(concurrency);
+    ExecutorService executor = SuhExecutors.newIoExecutor("suhapilog-issue-fetch", concurrency);
+
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (Integer issueNumber : issueNumbers) {
+        futures.add(executor.submit(() -> {
+          try {
+            permits.acquire();
+            try {
+              updatedIssues.add(getOrFetchIssue(issueNumber));
+              reportProgress(progress, true);
+            } finally {
+              permits.release();
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } catch (Exception e) {
+            log.error("이슈 {} 동기화 실패: {}", issueNumber, e.getMessage());
+            reportProgress(progress, false);
+            retryScheduler.schedule(issueNumber, e);
+          }
+        }));
+      }
+
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          log.error("이슈 동기화 작업 실패: {}", e.getMessage());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("이슈 동기화가 중단되었습니다");
+    } finally {
+      executor.shutdownNow();
+    }
+    return new ArrayList<>(updatedIssues);
   }
 
   // URL 구성 유연하게 처리
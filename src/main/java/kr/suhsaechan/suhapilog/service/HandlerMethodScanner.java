@@ -0,0 +1,38 @@
+package kr.suhsaechan.suhapilog.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Spring MVC 가 등록한 핸들러 메서드 수집
+ * spring-webmvc 가 클래스패스에 있을 때만 사용해야 함 (HANDLER_MAPPING_CLASS 존재 여부 확인 후 호출)
+ */
+public class HandlerMethodScanner {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(HandlerMethodScanner.class);
+
+  public static final String HANDLER_MAPPING_CLASS =
+      "org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping";
+
+  private HandlerMethodScanner() {
+    // 유틸리티 클래스
+  }
+
+  /**
+   * 모든 RequestMappingHandlerMapping 에 등록된 핸들러 메서드 반환
+   */
+  public static List<HandlerMethod> collect(ApplicationContext context) {
+    List<HandlerMethod> handlerMethods = new ArrayList<>();
+    Map<String, RequestMappingHandlerMapping> mappings =
+        context.getBeansOfType(RequestMappingHandlerMapping.class);
+    for (Map.Entry<String, RequestMappingHandlerMapping> entry : mappings.entrySet()) {
+      handlerMethods.addAll(entry.getValue().getHandlerMethods().values());
+      log.debug("핸들러 매핑 {}에서 핸들러 메서드 수집", entry.getKey());
+    }
+    return handlerMethods;
+  }
+}
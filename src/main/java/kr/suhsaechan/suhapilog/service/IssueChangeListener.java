@@ -0,0 +1,16 @@
+package kr.suhsaechan.suhapilog.service;
+
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+
+/**
+ * 저장된 이슈 정보(제목 등)가 바뀌었을 때 호출되는 리스너
+ * 렌더링 결과 캐시 무효화 등에 사용
+ */
+@FunctionalInterface
+public interface IssueChangeListener {
+
+  /**
+   * 이슈가 새로 저장되었거나 제목이 바뀌었을 때 호출
+   */
+  void onIssueChanged(GithubIssue issue);
+}
@@ -0,0 +1,144 @@
+package kr.suhsaechan.suhapilog.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchException;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import kr.suhsaechan.suhapilog.util.SuhExecutors;
+
+/**
+ * 조회에 실패한 이슈를 백그라운드에서 다시 조회하는 스케줄러
+ *
+ * <p>재시도 간격은 지수적으로 늘어나며(base * 2^(n-1), 최대 maxDelay) 절반 범위의 무작위 지연을 더해
+ * 여러 이슈가 동시에 재시도되지 않도록 함. GitHub 가 재시도 시점(Retry-After)을 알려주면 그보다 먼저 시도하지 않음</p>
+ */
+class IssueRetryScheduler {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(IssueRetryScheduler.class);
+
+  private final Function<Integer, CompletableFuture<GithubIssue>> fetcher;
+  private final int maxRetries;
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  // 이슈 번호별 지금까지의 재시도 횟수 (재시도가 예약된 이슈만 포함)
+  private final Map<Integer, Integer> attempts = new ConcurrentHashMap<>();
+  private volatile ScheduledExecutorService scheduler;
+
+  IssueRetryScheduler(Function<Integer, CompletableFuture<GithubIssue>> fetcher, int maxRetries, Duration baseDelay,
+      Duration maxDelay) {
+    this.fetcher = fetcher;
+    this.maxRetries = maxRetries;
+    this.baseDelay = baseDelay != null ? baseDelay : Duration.ofSeconds(2);
+    this.maxDelay = maxDelay != null ? maxDelay : Duration.ofMinutes(10);
+  }
+
+  /**
+   * 실패한 이슈의 재시도 예약 (이미 예약되어 있으면 무시)
+   *
+   * @param cause 실패 원인 (재시도해도 소용없는 실패면 예약하지 않음)
+   */
+  void schedule(Integer issueNumber, Throwable cause) {
+    if (maxRetries <= 0 || !isRetryable(cause)) {
+      return;
+    }
+    if (attempts.putIfAbsent(issueNumber, 0) == null) {
+      scheduleAttempt(issueNumber, 1, cause);
+    }
+  }
+
+  /**
+   * 재시도가 예약된 이슈 수
+   */
+  int getPendingCount() {
+    return attempts.size();
+  }
+
+  private void scheduleAttempt(Integer issueNumber, int attempt, Throwable cause) {
+    long delayMillis = delayMillis(attempt, cause);
+    attempts.put(issueNumber, attempt);
+    log.debug("이슈 {} 재시도 예약 ({}/{}, {}ms 후)", issueNumber, attempt, maxRetries, delayMillis);
+    scheduler().schedule(() -> retry(issueNumber, attempt), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void retry(Integer issueNumber, int attempt) {
+    CompletableFuture<GithubIssue> future;
+    try {
+      future = fetcher.apply(issueNumber);
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    future.whenComplete((issue, e) -> {
+      if (e == null) {
+        attempts.remove(issueNumber);
+        log.info("이슈 {} 재시도 성공 ({}번째)", issueNumber, attempt);
+      } else if (attempt < maxRetries && isRetryable(e)) {
+        scheduleAttempt(issueNumber, attempt + 1, e);
+      } else {
+        attempts.remove(issueNumber);
+        log.warn("이슈 {} 재시도 중단 ({}번 실패): {}", issueNumber, attempt, rootCause(e).getMessage());
+      }
+    });
+  }
+
+  /**
+   * 재시도 지연 시간 (지수 백오프 + 무작위 지연, Retry-After 보다 짧지 않음)
+   */
+  long delayMillis(int attempt, Throwable cause) {
+    long base = Math.max(1, baseDelay.toMillis());
+    long exponential = base << Math.min(attempt - 1, 30);
+    long capped = Math.min(Math.max(base, maxDelay.toMillis()), exponential);
+    long jittered = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+
+    IssueFetchException fetchException = findFetchException(cause);
+    if (fetchException != null && fetchException.getRetryAfter() != null) {
+      return Math.max(jittered, fetchException.getRetryAfter().toMillis());
+    }
+    return jittered;
+  }
+
+  private static boolean isRetryable(Throwable cause) {
+    IssueFetchException fetchException = findFetchException(cause);
+    return fetchException == null || fetchException.isRetryable();
+  }
+
+  private static IssueFetchException findFetchException(Throwable cause) {
+    for (Throwable current = cause; current != null; current = current.getCause()) {
+      if (current instanceof IssueFetchException) {
+        return (IssueFetchException) current;
+      }
+    }
+    return null;
+  }
+
+  private static Throwable rootCause(Throwable e) {
+    Throwable current = e;
+    while (current.getCause() != null && current.getCause() != current) {
+      current = current.getCause();
+    }
+    return current;
+  }
+
+  private ScheduledExecutorService scheduler() {
+    ScheduledExecutorService executor = scheduler;
+    if (executor == null) {
+      synchronized (this) {
+        executor = scheduler;
+        if (executor == null) {
+          ScheduledThreadPoolExecutor created =
+              new ScheduledThreadPoolExecutor(1, SuhExecutors.daemonThreadFactory("suhapilog-issue-retry"));
+          created.setRemoveOnCancelPolicy(true);
+          executor = created;
+          scheduler = executor;
+        }
+      }
+    }
+    return executor;
+  }
+}
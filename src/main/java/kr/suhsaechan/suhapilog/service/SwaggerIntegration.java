@@ -1,23 +1,46 @@
 package kr.suhsaechan.suhapilog.service;
 
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import kr.suhsaechan.suhapilog.annotation.ApiLog;
 import kr.suhsaechan.suhapilog.annotation.ApiLogs;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
 import kr.suhsaechan.suhapilog.util.SuhApiLogger;
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.method.HandlerMethod;
 
 /**
  * Swagger와의 통합을 위한 클래스
  * 이 클래스는 Swagger/SpringDoc이 존재할 때만 실제로 작동하도록 설계됨
+ *
+ * <p>핸들러 메서드별로 렌더링한 변경 이력 HTML 을 캐싱하며,
+ * 캐시는 해당 HTML 이 참조하는 이슈의 제목이 바뀔 때만 무효화됨</p>
  */
 public class SwaggerIntegration {
   private static final SuhApiLogger log = SuhApiLogger.getLogger(SwaggerIntegration.class);
 
+  // 문서 생성 요청 하나가 공유하는 렌더링 마감 시각을 보관하는 요청 속성
+  static final String RENDER_DEADLINE_ATTRIBUTE = SwaggerIntegration.class.getName() + ".renderDeadline";
+
   private final GithubIssueService githubIssueService;
+  private final Map<Method, ChangelogFragment> fragmentCache = new ConcurrentHashMap<>();
+  // 렌더링 도중 무효화가 일어났는지 확인하기 위한 버전 (오래된 결과가 캐시에 들어가지 않도록)
+  private final AtomicLong invalidationVersion = new AtomicLong();
 
   public SwaggerIntegration(GithubIssueService githubIssueService) {
     this.githubIssueService = githubIssueService;
+    githubIssueService.addIssueChangeListener(issue -> invalidateIssue(issue.getIssueNumber()));
   }
 
   /**
@@ -27,6 +50,11 @@ public class SwaggerIntegration {
   public Object customizeOperation(Object operation, HandlerMethod handlerMethod) {
     log.debug("SwaggerIntegration.customizeOperation 호출: {}", handlerMethod.getMethod().getName());
     try {
+      String tableHtml = getChangelogTable(handlerMethod);
+      if (tableHtml.isEmpty()) {
+        return operation;
+      }
+
       // Swagger 의존성 확인
       Class<?> operationClass = operation.getClass();
       java.lang.reflect.Method descriptionGetter = operationClass.getMethod("getDescription");
@@ -37,28 +65,7 @@ public class SwaggerIntegration {
       if (originalDescription == null) {
         originalDescription = "";
       }
-
-      // 인터페이스와 구현 클래스 모두에서 어노테이션 검색 (TYPE_HIERARCHY로 인터페이스까지 검색)
-      MergedAnnotations annotations = MergedAnnotations.from(handlerMethod.getMethod(),
-          MergedAnnotations.SearchStrategy.TYPE_HIERARCHY);
-      MergedAnnotation<ApiLogs> apiLogsAnnotation = annotations.get(ApiLogs.class);
-
-      if (apiLogsAnnotation.isPresent()) {
-        // 복수 어노테이션 (@ApiLogs 또는 @ApiLog 여러 개) 발견
-        log.debug("API 변경 이력 어노테이션 발견: {}", handlerMethod.getMethod().getName());
-        String tableHtml = generateApiLogTable(apiLogsAnnotation.synthesize().value());
-        descriptionSetter.invoke(operation, originalDescription + tableHtml);
-      } else {
-        // @Repeatable 단일 어노테이션 확인 (인터페이스 포함)
-        MergedAnnotation<ApiLog> singleAnnotation = annotations.get(ApiLog.class);
-        if (singleAnnotation.isPresent()) {
-          log.debug("API 변경 이력 어노테이션(단일) 발견: {}", handlerMethod.getMethod().getName());
-          String tableHtml = generateApiLogTable(new ApiLog[]{singleAnnotation.synthesize()});
-          descriptionSetter.invoke(operation, originalDescription + tableHtml);
-        } else {
-          log.debug("API 변경 이력이 없음: {}", handlerMethod.getMethod().getName());
-        }
-      }
+      descriptionSetter.invoke(operation, originalDescription + tableHtml);
 
       return operation;
     } catch (Exception e) {
@@ -67,11 +74,166 @@ public class SwaggerIntegration {
     }
   }
 
+  /**
+   * 핸들러 메서드의 변경 이력 테이블 HTML 조회 (변경 이력이 없으면 빈 문자열)
+   * 캐시에 있으면 그대로 반환하고, 없으면 렌더링 후 캐싱
+   */
+  public String getChangelogTable(HandlerMethod handlerMethod) {
+    Method method = handlerMethod.getMethod();
+    ChangelogFragment cached = fragmentCache.get(method);
+    if (cached != null) {
+      return cached.html;
+    }
+
+    long version = invalidationVersion.get();
+    ChangelogFragment fragment = renderFragment(method);
+    cacheFragment(method, fragment, version);
+    return fragment.html;
+  }
+
+  /**
+   * 캐시에 렌더링 결과가 있으면 반환 (없으면 null)
+   */
+  public String getCachedChangelogTable(Method method) {
+    ChangelogFragment cached = fragmentCache.get(method);
+    return cached != null ? cached.html : null;
+  }
+
+  /**
+   * 여러 메서드의 변경 이력을 한 번에 렌더링
+   * 모든 메서드가 참조하는 이슈 번호를 먼저 모아 한 번에 조회한 뒤 각 테이블을 생성하므로
+   * 캐시 미스가 있어도 이슈마다 순차적으로 네트워크를 기다리지 않음
+   *
+   * @return 메서드별 변경 이력 HTML (변경 이력이 없으면 빈 문자열)
+   */
+  public Map<Method, String> renderChangelogTables(Collection<Method> methods) {
+    long version = invalidationVersion.get();
+    Map<Method, ApiLog[]> apiLogsByMethod = new LinkedHashMap<>();
+    Set<Integer> issueNumbers = new TreeSet<>();
+    for (Method method : methods) {
+      ApiLog[] apiLogs = findApiLogs(method);
+      apiLogsByMethod.put(method, apiLogs);
+      for (ApiLog apiLog : apiLogs) {
+        if (apiLog.issueNumber() > 0) {
+          issueNumbers.add(apiLog.issueNumber());
+        }
+      }
+    }
+
+    Map<Integer, GithubIssue> resolvedIssues = issueNumbers.isEmpty()
+        ? Collections.emptyMap()
+        : githubIssueService.resolveIssues(issueNumbers, requestRenderDeadline());
+    log.debug("변경 이력 일괄 렌더링 - 메서드 {}개, 이슈 {}개", apiLogsByMethod.size(), issueNumbers.size());
+
+    Map<Method, String> result = new LinkedHashMap<>();
+    for (Map.Entry<Method, ApiLog[]> entry : apiLogsByMethod.entrySet()) {
+      ChangelogFragment fragment = entry.getValue().length == 0
+          ? ChangelogFragment.EMPTY
+          : generateApiLogTable(entry.getValue(), resolvedIssues, 0);
+      cacheFragment(entry.getKey(), fragment, version);
+      result.put(entry.getKey(), fragment.html);
+    }
+    return result;
+  }
+
+  /**
+   * 렌더링 시작 시점(version) 이후 무효화가 없었을 때만 캐시에 남김
+   * 먼저 넣은 뒤 버전을 확인하므로, 확인 직후의 무효화도 넣은 항목을 지우게 되어 오래된 결과가 남지 않음
+   */
+  private void cacheFragment(Method method, ChangelogFragment fragment, long version) {
+    if (!fragment.cacheable) {
+      return;
+    }
+    fragmentCache.put(method, fragment);
+    if (version != invalidationVersion.get()) {
+      fragmentCache.remove(method, fragment);
+    }
+  }
+
+  /**
+   * 이슈 제목이 바뀌었을 때 해당 이슈를 참조하는 캐시 항목만 제거
+   */
+  public void invalidateIssue(Integer issueNumber) {
+    invalidationVersion.incrementAndGet();
+    fragmentCache.values().removeIf(fragment -> fragment.issueNumbers.contains(issueNumber));
+    log.debug("이슈 {} 변경으로 변경 이력 캐시 무효화", issueNumber);
+  }
+
+  /**
+   * 캐시 전체 삭제
+   */
+  public void clearCache() {
+    invalidationVersion.incrementAndGet();
+    fragmentCache.clear();
+  }
+
+  /**
+   * 메서드의 @ApiLog 를 찾아 변경 이력 HTML 렌더링
+   */
+  private ChangelogFragment renderFragment(Method method) {
+    ApiLog[] apiLogs = findApiLogs(method);
+    if (apiLogs.length == 0) {
+      log.debug("API 변경 이력이 없음: {}", method.getName());
+      return ChangelogFragment.EMPTY;
+    }
+    log.debug("API 변경 이력 어노테이션 {}개 발견: {}", apiLogs.length, method.getName());
+    return generateApiLogTable(apiLogs, null, requestRenderDeadline());
+  }
+
+  /**
+   * 문서 생성 요청 하나가 공유하는 마감 시각
+   * SpringDoc 은 요청 스레드에서 문서를 생성하므로 요청의 첫 렌더링에서 마감 시각을 정해 요청 속성에 보관함.
+   * Operation 마다 렌더링해도 문서 생성 전체가 render-deadline 한 번만큼만 기다리고,
+   * 마감 시각이 지난 뒤의 메서드는 기다리지 않고 플레이스홀더를 표시함.
+   * 요청 밖에서 호출되면 호출마다 새 마감 시각을 사용함
+   */
+  long requestRenderDeadline() {
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (request == null) {
+      return githubIssueService.renderDeadline();
+    }
+    Object deadline = request.getAttribute(RENDER_DEADLINE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (deadline instanceof Long) {
+      return (Long) deadline;
+    }
+    long renderDeadline = githubIssueService.renderDeadline();
+    request.setAttribute(RENDER_DEADLINE_ATTRIBUTE, renderDeadline, RequestAttributes.SCOPE_REQUEST);
+    return renderDeadline;
+  }
+
+  /**
+   * 인터페이스와 구현 클래스 모두에서 어노테이션 검색 (TYPE_HIERARCHY로 인터페이스까지 검색)
+   */
+  private ApiLog[] findApiLogs(Method method) {
+    MergedAnnotations annotations = MergedAnnotations.from(method,
+        MergedAnnotations.SearchStrategy.TYPE_HIERARCHY);
+
+    // 복수 어노테이션 (@ApiLogs 또는 @ApiLog 여러 개)
+    MergedAnnotation<ApiLogs> apiLogsAnnotation = annotations.get(ApiLogs.class);
+    if (apiLogsAnnotation.isPresent()) {
+      return apiLogsAnnotation.synthesize().value();
+    }
+
+    // @Repeatable 단일 어노테이션 (인터페이스 포함)
+    MergedAnnotation<ApiLog> singleAnnotation = annotations.get(ApiLog.class);
+    if (singleAnnotation.isPresent()) {
+      return new ApiLog[]{singleAnnotation.synthesize()};
+    }
+    return new ApiLog[0];
+  }
+
   /**
    * API 변경 이력 테이블 HTML 생성
+   *
+   * @param prefetchedIssues 미리 조회한 이슈 (null 이면 이슈마다 개별 조회)
+   * @param deadlineNanos 개별 조회의 마감 시각 (문서 생성 한 번이 공유, 미리 조회한 경우 사용하지 않음)
    */
-  private String generateApiLogTable(ApiLog[] apiLogs) {
-    StringBuilder tableBuilder = new StringBuilder();
+  private ChangelogFragment generateApiLogTable(ApiLog[] apiLogs, Map<Integer, GithubIssue> prefetchedIssues,
+      long deadlineNanos) {
+    Set<Integer> issueNumbers = new TreeSet<>();
+    boolean cacheable = true;
+
+    StringBuilder tableBuilder = new StringBuilder(256 + apiLogs.length * 192);
     tableBuilder.append("\n\n**API 변경 이력:**\n")
         .append("<table>")
         .append("<thead>")
@@ -86,44 +248,78 @@ public class SwaggerIntegration {
         .append("<tbody>");
 
     for (ApiLog apiLog : apiLogs) {
-      String description = apiLog.description()
-          .replace("&", "&amp;")
-          .replace("<", "&lt;")
-          .replace(">", "&gt;");
-
       String issueNumberCell = "";
       String issueTitleCell = "";
 
       if (apiLog.issueNumber() > 0) {
+        issueNumbers.add(apiLog.issueNumber());
         String issueUrl = githubIssueService.formatIssueBaseUrl(
             githubIssueService.getIssueBaseUrl(),
             apiLog.issueNumber());
-        issueNumberCell = String.format("<a href=\"%s\" target=\"_blank\">#%d</a>",
-            issueUrl, apiLog.issueNumber());
+        issueNumberCell = "<a href=\"" + issueUrl + "\" target=\"_blank\">#" + apiLog.issueNumber() + "</a>";
 
         try {
-          issueTitleCell = githubIssueService.getOrFetchIssue(apiLog.issueNumber()).getCleanTitle();
+          // 미리 조회한 이슈가 없으면 렌더링 제한 시간까지만 기다리고, 넘으면 플레이스홀더 표시
+          Optional<GithubIssue> issue = prefetchedIssues != null
+              ? Optional.ofNullable(prefetchedIssues.get(apiLog.issueNumber()))
+              : githubIssueService.findIssueBefore(apiLog.issueNumber(), deadlineNanos);
+          if (issue.isPresent()) {
+            issueTitleCell = issue.get().getCleanTitle();
+          } else if (githubIssueService.isSyncInProgress()) {
+            issueTitleCell = GithubIssueService.SYNC_PLACEHOLDER_TITLE;
+            cacheable = false;
+          } else if (prefetchedIssues == null || githubIssueService.isFetchPending(apiLog.issueNumber())
+              || githubIssueService.isCircuitOpen()) {
+            // 회로가 열려 있으면 조회하지 않고 플레이스홀더 표시 (회로가 닫힌 뒤 다시 렌더링)
+            issueTitleCell = GithubIssueService.PENDING_PLACEHOLDER_TITLE;
+            cacheable = false;
+          } else {
+            throw new IllegalStateException("이슈 " + apiLog.issueNumber() + " 조회 실패");
+          }
           // HTML 엔티티 이스케이프
-          issueTitleCell = issueTitleCell
-              .replace("&", "&amp;")
-              .replace("<", "&lt;")
-              .replace(">", "&gt;");
+          issueTitleCell = escapeTableText(issueTitleCell);
         } catch (Exception e) {
+          // 실패한 결과는 캐싱하지 않아 다음 렌더링에서 다시 시도
           issueTitleCell = "로딩 실패";
+          cacheable = false;
           log.error("이슈 제목 로딩 실패: {}", e.getMessage());
         }
       }
 
-      tableBuilder.append(String.format(
-          "<tr><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td></tr>",
-          apiLog.date(),
-          apiLog.author(),
-          issueNumberCell,
-          issueTitleCell,
-          description));
+      tableBuilder.append("<tr><td>").append(apiLog.date())
+          .append("</td><td>").append(apiLog.author())
+          .append("</td><td>").append(issueNumberCell)
+          .append("</td><td>").append(issueTitleCell)
+          .append("</td><td>").append(escapeTableText(apiLog.description()))
+          .append("</td></tr>");
     }
 
     tableBuilder.append("</tbody>").append("</table>");
-    return tableBuilder.toString();
+    return new ChangelogFragment(tableBuilder.toString(), issueNumbers, cacheable);
+  }
+
+  private static String escapeTableText(String text) {
+    return text
+        .replace("&", "&amp;")
+        .replace("<", "&lt;")
+        .replace(">", "&gt;");
+  }
+
+  /**
+   * 렌더링된 변경 이력 HTML 과 그 HTML 이 참조하는 이슈 번호
+   */
+  private static final class ChangelogFragment {
+    private static final ChangelogFragment EMPTY =
+        new ChangelogFragment("", Collections.emptySet(), true);
+
+    private final String html;
+    private final Set<Integer> issueNumbers;
+    private final boolean cacheable;
+
+    private ChangelogFragment(String html, Set<Integer> issueNumbers, boolean cacheable) {
+      this.html = html;
+      this.issueNumbers = issueNumbers;
+      this.cacheable = cacheable;
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,603 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import kr.suhsaechan.suhapilog.util.SuhExecutors;
+
+/**
+ * 이슈를 이진 형식 파일(github-issues.&lt;세대&gt;.bin)에 저장하는 리포지토리 (suhapilog.storage.type=BINARY)
+ *
+ * <p>파일을 메모리 매핑하고, 이슈 번호로 정렬된 int 색인을 이진 탐색하여 조회할 때마다 해당 항목만 디코딩함.
+ * 시작 시 파일 전체를 읽거나 객체로 만들지 않으므로 이슈가 수만 개여도 기동 시간과 힙 사용량이 거의 늘지 않음.
+ * 저장된 이슈는 다음 기록 전까지 메모리(overlay)에 두었다가 flushInterval 마다 최대 한 번 새 파일로 합쳐 기록함.
+ * 매핑 중인 파일은 덮어쓰지 않고 세대 번호를 올린 새 이름으로 기록하며(Windows 는 매핑된 파일을 바꿀 수 없음),
+ * 이전 세대 파일은 지울 수 있을 때 지움. 시작 시에는 가장 높은 세대부터 열어 손상된 파일은 건너뜀</p>
+ *
+ * <pre>
+ * 파일 형식 (big-endian)
+ *   header : int magic, int version, int count
+ *   index  : count x (int issueNumber, int offset)   - issueNumber 오름차순
+ *   data   : count x entry                            - index 순서
+ * entry
+ *   byte flags (1: missing, 2: fetchedAt 있음), long fetchedAt 초(UTC), int fetchedAt 나노초, int failureCount,
+ *   cleanTitle, rawTitle, pageUrl, etag, lastModified (int 길이(null 이면 -1) + UTF-8)
+ * </pre>
+ */
+public class BinaryIssueRepository implements IssueRepository, AutoCloseable {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(BinaryIssueRepository.class);
+
+  private static final String ISSUES_FILE_PREFIX = "github-issues.";
+  private static final String ISSUES_FILE_SUFFIX = ".bin";
+  private static final Pattern ISSUES_FILE_PATTERN = Pattern.compile("github-issues\\.(\\d+)\\.bin");
+  // 세대 번호를 쓰기 전의 이진 파일 (세대 0 으로 읽음)
+  private static final String LEGACY_ISSUES_FILE = "github-issues.bin";
+  // BINARY 방식으로 바꾸기 전의 JSON 저장소 (처음 한 번 가져옴)
+  private static final String JSON_ISSUES_FILE = "github-issues.json";
+  private static final String HASH_FILE = "github-issues-hash.json";
+
+  private static final int MAGIC = 0x53414C42; // "SALB"
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 12;
+  private static final int INDEX_ENTRY_BYTES = 8;
+  // flags, fetchedAt, failureCount 와 문자열 5개의 길이
+  private static final int MIN_ENTRY_BYTES = 17 + 5 * 4;
+  private static final byte FLAG_MISSING = 1;
+  private static final byte FLAG_FETCHED_AT = 2;
+
+  private final ObjectMapper objectMapper;
+  private final Path storageLocation;
+  private volatile Segment segment;
+  // 디렉토리에 있는 가장 높은 세대 번호 (다음 기록은 이보다 1 큰 이름으로 함, flush 잠금 안에서만 변경)
+  private long generation;
+  // 파일에 아직 기록하지 않은 이슈 (조회 시 파일보다 우선)
+  private final Map<Integer, GithubIssue> overlay = new ConcurrentHashMap<>();
+  private volatile String currentHash = "";
+
+  private final long flushIntervalNanos;
+  private final AtomicBoolean issuesDirty = new AtomicBoolean();
+  private final AtomicReference<String> pendingHash = new AtomicReference<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private volatile ScheduledExecutorService writer;
+  private volatile boolean closed;
+
+  public BinaryIssueRepository(String storagePath) {
+    this(storagePath, Duration.ZERO);
+  }
+
+  /**
+   * @param flushInterval 지연 쓰기 간격 (null 또는 0 이면 저장할 때마다 바로 기록)
+   */
+  public BinaryIssueRepository(String storagePath, Duration flushInterval) {
+    this.objectMapper = new ObjectMapper();
+    this.objectMapper.registerModule(new JavaTimeModule());
+    this.flushIntervalNanos = flushInterval == null || flushInterval.isNegative() ? 0 : flushInterval.toNanos();
+
+    this.storageLocation = Paths.get(storagePath).toAbsolutePath().normalize();
+    try {
+      Files.createDirectories(this.storageLocation);
+    } catch (IOException e) {
+      throw new RuntimeException("저장소 디렉토리를 생성할 수 없습니다: " + this.storageLocation, e);
+    }
+
+    this.segment = loadSegment();
+    if (segment.count == 0) {
+      importJson();
+    }
+    loadHash();
+  }
+
+  /**
+   * 가장 높은 세대의 이진 파일 매핑 (손상된 파일은 건너뛰고, 열 수 있는 파일이 없으면 빈 세그먼트)
+   */
+  private Segment loadSegment() {
+    TreeMap<Long, Path> files = listIssueFiles();
+    if (!files.isEmpty()) {
+      generation = files.lastKey();
+    }
+    for (Path filePath : files.descendingMap().values()) {
+      try {
+        Segment loaded = Segment.map(filePath);
+        log.debug("{} GitHub 이슈 색인을 로드했습니다: {}", loaded.count, filePath.getFileName());
+        return loaded;
+      } catch (IOException | RuntimeException e) {
+        log.error("GitHub 이슈 파일을 로드하는 데 실패했습니다: {}", e.getMessage());
+      }
+    }
+    return Segment.EMPTY;
+  }
+
+  /**
+   * 저장소 디렉토리의 이진 파일 (세대 번호 순서, 이전 형식의 github-issues.bin 은 세대 0)
+   */
+  private TreeMap<Long, Path> listIssueFiles() {
+    TreeMap<Long, Path> files = new TreeMap<>();
+    Path legacy = storageLocation.resolve(LEGACY_ISSUES_FILE);
+    if (Files.exists(legacy)) {
+      files.put(0L, legacy);
+    }
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(storageLocation, ISSUES_FILE_PREFIX + "*")) {
+      for (Path file : stream) {
+        Matcher matcher = ISSUES_FILE_PATTERN.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+          try {
+            files.put(Long.parseLong(matcher.group(1)), file);
+          } catch (NumberFormatException e) {
+            log.warn("세대 번호를 읽을 수 없는 이슈 파일을 무시합니다: {}", file.getFileName());
+          }
+        }
+      }
+    } catch (IOException e) {
+      log.error("저장소 디렉토리를 읽는 데 실패했습니다: {}", e.getMessage());
+    }
+    return files;
+  }
+
+  /**
+   * 기존 JSON 저장소가 있으면 이진 파일로 옮김
+   */
+  private void importJson() {
+    Path jsonPath = storageLocation.resolve(JSON_ISSUES_FILE);
+    if (!Files.exists(jsonPath)) {
+      return;
+    }
+    try {
+      List<GithubIssue> issues = objectMapper.readValue(jsonPath.toFile(), new TypeReference<List<GithubIssue>>() {});
+      issues.forEach(issue -> overlay.put(issue.getIssueNumber(), issue));
+      issuesDirty.set(true);
+      flush();
+      log.info("JSON 저장소의 이슈 {}개를 이진 저장소로 옮겼습니다", issues.size());
+    } catch (IOException e) {
+      log.error("JSON 저장소를 가져오는 데 실패했습니다: {}", e.getMessage());
+    }
+  }
+
+  private void loadHash() {
+    Path filePath = storageLocation.resolve(HASH_FILE);
+    if (Files.exists(filePath)) {
+      try {
+        Map<String, String> hashData = objectMapper.readValue(
+            filePath.toFile(), new TypeReference<Map<String, String>>() {});
+        this.currentHash = hashData.getOrDefault("hash", "");
+      } catch (IOException e) {
+        log.error("해시 데이터를 로드하는 데 실패했습니다: {}", e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  public Optional<GithubIssue> findByIssueNumber(Integer issueNumber) {
+    // overlay 를 먼저 확인해야 기록 직후 overlay 에서 지워진 이슈도 새 세그먼트에서 찾음
+    GithubIssue pending = overlay.get(issueNumber);
+    if (pending != null) {
+      return Optional.of(pending);
+    }
+    Segment current = segment;
+    int index = current.indexOf(issueNumber);
+    return index < 0 ? Optional.empty() : Optional.ofNullable(decode(current, index));
+  }
+
+  @Override
+  public GithubIssue save(GithubIssue issue) {
+    overlay.put(issue.getIssueNumber(), issue);
+    issuesDirty.set(true);
+    requestFlush();
+    return issue;
+  }
+
+  @Override
+  public Collection<GithubIssue> findAll() {
+    Map<Integer, GithubIssue> pending = new HashMap<>(overlay);
+    Segment current = segment;
+    List<GithubIssue> issues = new ArrayList<>(current.count + pending.size());
+    for (int i = 0; i < current.count; i++) {
+      if (!pending.containsKey(current.keyAt(i))) {
+        GithubIssue issue = decode(current, i);
+        if (issue != null) {
+          issues.add(issue);
+        }
+      }
+    }
+    issues.addAll(pending.values());
+    return issues;
+  }
+
+  /**
+   * 항목 디코딩 (손상된 항목은 없는 이슈로 보아 다시 조회하게 함)
+   */
+  private static GithubIssue decode(Segment current, int index) {
+    try {
+      return current.decode(index);
+    } catch (IllegalStateException e) {
+      log.warn("손상된 GitHub 이슈 항목을 무시합니다: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public void saveAll(Set<Integer> issueNumbers, Collection<GithubIssue> issues) {
+    boolean changed = false;
+    for (GithubIssue issue : issues) {
+      GithubIssue previous = overlay.put(issue.getIssueNumber(), issue);
+      if (previous != issue) {
+        changed = true;
+      }
+    }
+    if (changed) {
+      issuesDirty.set(true);
+    }
+
+    String hash = IssueSetFingerprint.of(issueNumbers);
+    if (!hash.equals(this.currentHash)) {
+      this.currentHash = hash;
+      pendingHash.set(hash);
+      changed = true;
+    }
+    if (changed) {
+      requestFlush();
+    }
+  }
+
+  @Override
+  public String getCurrentHash() {
+    return this.currentHash;
+  }
+
+  /**
+   * overlay 의 이슈를 파일과 합쳐 새 파일로 기록하고 다시 매핑
+   */
+  public synchronized void flush() {
+    flushScheduled.set(false);
+    if (issuesDirty.getAndSet(false) && !writeIssues()) {
+      issuesDirty.set(true);
+    }
+    String hash = pendingHash.getAndSet(null);
+    if (hash != null && !writeHash(hash)) {
+      pendingHash.compareAndSet(null, hash);
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    ScheduledExecutorService executor = writer;
+    if (executor != null) {
+      executor.shutdown();
+    }
+    flush();
+  }
+
+  private void requestFlush() {
+    if (flushIntervalNanos == 0 || closed) {
+      flush();
+      return;
+    }
+    if (flushScheduled.compareAndSet(false, true)) {
+      try {
+        writer().schedule(this::flush, flushIntervalNanos, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        flush();
+      }
+    }
+  }
+
+  private boolean writeIssues() {
+    Segment current = segment;
+    Map<Integer, GithubIssue> pending = new TreeMap<>(overlay);
+    // 매핑 중인 파일을 바꾸지 않도록 항상 새 세대 이름으로 기록
+    long nextGeneration = generation + 1;
+    Path target = storageLocation.resolve(ISSUES_FILE_PREFIX + nextGeneration + ISSUES_FILE_SUFFIX);
+    Path temp = storageLocation.resolve(target.getFileName() + ".tmp");
+    try {
+      int count = writeMerged(temp, current, pending);
+      try {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      generation = nextGeneration;
+      segment = Segment.map(target);
+      // 새 세그먼트를 보이게 한 뒤 기록한 이슈만 overlay 에서 제거 (그사이 다시 저장된 이슈는 유지)
+      pending.forEach(overlay::remove);
+      deleteStaleFiles(target);
+      log.debug("{} GitHub 이슈를 저장했습니다: {}", count, target.getFileName());
+      return true;
+    } catch (IOException | RuntimeException e) {
+      log.error("GitHub 이슈를 저장하는 데 실패했습니다: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * 현재 파일을 뺀 이전 세대 파일 삭제 (아직 매핑이 남아 지울 수 없으면 다음 기록 때 다시 시도)
+   */
+  private void deleteStaleFiles(Path current) {
+    for (Path file : listIssueFiles().values()) {
+      if (file.equals(current)) {
+        continue;
+      }
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        log.debug("이전 이슈 파일을 아직 지울 수 없습니다: {} ({})", file.getFileName(), e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 기존 세그먼트와 overlay 를 이슈 번호 순서로 합쳐 기록 (바뀌지 않은 항목은 디코딩 없이 그대로 복사)
+   *
+   * @return 기록한 이슈 수
+   */
+  private static int writeMerged(Path file, Segment current, Map<Integer, GithubIssue> pending) throws IOException {
+    int capacity = current.count + pending.size();
+    int[] keys = new int[capacity];
+    int[] offsets = new int[capacity];
+    ByteArrayOutputStream data = new ByteArrayOutputStream(Math.max(1024, current.dataBytes()));
+    DataOutputStream entryOut = new DataOutputStream(data);
+
+    Iterator<Map.Entry<Integer, GithubIssue>> pendingEntries = pending.entrySet().iterator();
+    Map.Entry<Integer, GithubIssue> next = pendingEntries.hasNext() ? pendingEntries.next() : null;
+    int count = 0;
+    int i = 0;
+    while (i < current.count || next != null) {
+      offsets[count] = data.size();
+      if (next != null && (i >= current.count || next.getKey() <= current.keyAt(i))) {
+        if (i < current.count && next.getKey() == current.keyAt(i)) {
+          i++;
+        }
+        keys[count] = next.getKey();
+        encode(next.getValue(), entryOut);
+        next = pendingEntries.hasNext() ? pendingEntries.next() : null;
+      } else {
+        keys[count] = current.keyAt(i);
+        current.copyEntry(i, data);
+        i++;
+      }
+      count++;
+    }
+
+    int dataStart = HEADER_BYTES + count * INDEX_ENTRY_BYTES;
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(count);
+      for (int n = 0; n < count; n++) {
+        out.writeInt(keys[n]);
+        out.writeInt(dataStart + offsets[n]);
+      }
+      data.writeTo(out);
+    }
+    return count;
+  }
+
+  private static void encode(GithubIssue issue, DataOutputStream out) throws IOException {
+    LocalDateTime fetchedAt = issue.getFetchedAt();
+    byte flags = (byte) ((issue.isMissing() ? FLAG_MISSING : 0) | (fetchedAt != null ? FLAG_FETCHED_AT : 0));
+    out.writeByte(flags);
+    out.writeLong(fetchedAt != null ? fetchedAt.toEpochSecond(ZoneOffset.UTC) : 0);
+    out.writeInt(fetchedAt != null ? fetchedAt.getNano() : 0);
+    out.writeInt(issue.getFailureCount());
+    writeString(out, issue.getCleanTitle());
+    writeString(out, issue.getRawTitle());
+    writeString(out, issue.getPageUrl());
+    writeString(out, issue.getEtag());
+    writeString(out, issue.getLastModified());
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private boolean writeHash(String hash) {
+    try {
+      Map<String, String> hashData = new HashMap<>();
+      hashData.put("hash", hash);
+      hashData.put("lastUpdated", LocalDateTime.now().toString());
+
+      StorageFiles.writeAtomically(storageLocation.resolve(HASH_FILE), objectMapper.writer(), hashData);
+      log.debug("새로운 해시 값 저장: {}", hash);
+      return true;
+    } catch (Exception e) {
+      log.error("해시 값을 저장하는 데 실패했습니다: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  private ScheduledExecutorService writer() {
+    ScheduledExecutorService executor = writer;
+    if (executor == null) {
+      synchronized (this) {
+        executor = writer;
+        if (executor == null) {
+          ScheduledThreadPoolExecutor created =
+              new ScheduledThreadPoolExecutor(1, SuhExecutors.daemonThreadFactory("suhapilog-issue-writer"));
+          created.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+          executor = created;
+          writer = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * 매핑된 파일 (읽기 전용, 절대 위치 읽기만 사용하므로 여러 스레드에서 동시에 읽을 수 있음)
+   */
+  private static final class Segment {
+    static final Segment EMPTY = new Segment(ByteBuffer.allocate(HEADER_BYTES), 0);
+
+    final ByteBuffer buffer;
+    final int count;
+
+    private Segment(ByteBuffer buffer, int count) {
+      this.buffer = buffer;
+      this.count = count;
+    }
+
+    static Segment map(Path file) throws IOException {
+      ByteBuffer buffer;
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+      if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+        throw new IOException("이슈 파일 형식이 아닙니다: " + file);
+      }
+      if (buffer.getInt(4) != VERSION) {
+        throw new IOException("지원하지 않는 이슈 파일 버전입니다: " + buffer.getInt(4));
+      }
+      int count = buffer.getInt(8);
+      if (count < 0 || HEADER_BYTES + (long) count * INDEX_ENTRY_BYTES > buffer.capacity()) {
+        throw new IOException("이슈 파일 색인이 손상되었습니다: " + file);
+      }
+      Segment segment = new Segment(buffer, count);
+      segment.validateIndex(file);
+      return segment;
+    }
+
+    /**
+     * 색인만 확인 (이슈 번호 오름차순, 항목 위치가 데이터 영역 안에서 오름차순이고 항목마다 최소 크기 이상)
+     */
+    private void validateIndex(Path file) throws IOException {
+      long previousEnd = HEADER_BYTES + (long) count * INDEX_ENTRY_BYTES;
+      for (int i = 0; i < count; i++) {
+        int offset = offsetAt(i);
+        if (i > 0 && keyAt(i) <= keyAt(i - 1)) {
+          throw new IOException("이슈 파일 색인의 순서가 올바르지 않습니다: " + file);
+        }
+        if (offset < previousEnd || (long) offset + MIN_ENTRY_BYTES > buffer.capacity()) {
+          throw new IOException("이슈 파일 색인의 항목 위치가 올바르지 않습니다: " + file + " (" + keyAt(i) + ")");
+        }
+        previousEnd = (long) offset + MIN_ENTRY_BYTES;
+      }
+    }
+
+    int keyAt(int index) {
+      return buffer.getInt(HEADER_BYTES + index * INDEX_ENTRY_BYTES);
+    }
+
+    int offsetAt(int index) {
+      return buffer.getInt(HEADER_BYTES + index * INDEX_ENTRY_BYTES + 4);
+    }
+
+    int endOf(int index) {
+      return index + 1 < count ? offsetAt(index + 1) : buffer.capacity();
+    }
+
+    int dataBytes() {
+      return count == 0 ? 0 : buffer.capacity() - offsetAt(0);
+    }
+
+    int indexOf(int issueNumber) {
+      int low = 0;
+      int high = count - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        int key = keyAt(mid);
+        if (key < issueNumber) {
+          low = mid + 1;
+        } else if (key > issueNumber) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -1;
+    }
+
+    void copyEntry(int index, OutputStream out) throws IOException {
+      int offset = offsetAt(index);
+      byte[] bytes = new byte[endOf(index) - offset];
+      buffer.get(offset, bytes);
+      out.write(bytes);
+    }
+
+    /**
+     * @throws IllegalStateException 문자열 길이가 항목 범위를 벗어나는 등 항목이 손상된 경우
+     */
+    GithubIssue decode(int index) {
+      int position = offsetAt(index);
+      int end = endOf(index);
+      byte flags = buffer.get(position);
+      long epochSecond = buffer.getLong(position + 1);
+      int nano = buffer.getInt(position + 9);
+      int failureCount = buffer.getInt(position + 13);
+      int[] cursor = {position + 17};
+
+      return GithubIssue.builder()
+          .issueNumber(keyAt(index))
+          .missing((flags & FLAG_MISSING) != 0)
+          .fetchedAt((flags & FLAG_FETCHED_AT) != 0
+              ? LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC) : null)
+          .failureCount(failureCount)
+          .cleanTitle(readString(cursor, end, index))
+          .rawTitle(readString(cursor, end, index))
+          .pageUrl(readString(cursor, end, index))
+          .etag(readString(cursor, end, index))
+          .lastModified(readString(cursor, end, index))
+          .build();
+    }
+
+    private String readString(int[] cursor, int end, int index) {
+      if (end - cursor[0] < 4) {
+        throw new IllegalStateException("항목이 잘렸습니다 (이슈 " + keyAt(index) + ")");
+      }
+      int length = buffer.getInt(cursor[0]);
+      cursor[0] += 4;
+      if (length < 0) {
+        return null;
+      }
+      if (length > end - cursor[0]) {
+        throw new IllegalStateException("문자열 길이가 항목 범위를 벗어납니다 (이슈 " + keyAt(index) + ")");
+      }
+      byte[] bytes = new byte[length];
+      buffer.get(cursor[0], bytes);
+      cursor[0] += length;
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+}
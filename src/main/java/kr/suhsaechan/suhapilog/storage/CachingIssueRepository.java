@@ -0,0 +1,327 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * 크기가 제한된 메모리 캐시를 앞에 둔 이슈 리포지토리 (suhapilog.storage.cache-maximum-size)
+ *
+ * <p>자주 조회되는 이슈만 maximumSize 개까지 메모리에 두고 나머지는 감싼 저장소(BINARY 등)에서 읽음.
+ * 캐시가 가득 찬 상태에서 새 이슈가 들어오면 가장 오래 사용하지 않은 이슈(LRU)와 최근 조회 빈도를 비교하여
+ * 새 이슈가 더 자주 조회된 경우에만 교체함(TinyLFU 방식 승인). 빈도는 count-min sketch 로 근사하며
+ * 주기적으로 절반으로 줄여 오래된 인기도가 남지 않게 함. 조회는 잠금 없이 수행하고,
+ * 조회 기록은 잠금을 바로 얻을 수 있을 때만 반영함</p>
+ */
+public class CachingIssueRepository implements IssueRepository, AutoCloseable {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(CachingIssueRepository.class);
+
+  private final IssueRepository delegate;
+  private final int maximumSize;
+  private final Map<Integer, GithubIssue> entries = new ConcurrentHashMap<>();
+
+  // 아래 필드는 lock 안에서만 사용
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LinkedHashMap<Integer, Boolean> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+  private final FrequencySketch sketch;
+
+  // 저장 횟수 (조회 중 저장된 이슈를 이전 값으로 덮어쓰지 않도록 사용)
+  private final AtomicLong writes = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+
+  /**
+   * @param maximumSize 메모리에 둘 최대 이슈 수
+   */
+  public CachingIssueRepository(IssueRepository delegate, int maximumSize) {
+    this.delegate = delegate;
+    this.maximumSize = Math.max(1, maximumSize);
+    this.sketch = new FrequencySketch(this.maximumSize);
+  }
+
+  @Override
+  public Optional<GithubIssue> findByIssueNumber(Integer issueNumber) {
+    GithubIssue cached = entries.get(issueNumber);
+    if (cached != null) {
+      hits.increment();
+      if (lock.tryLock()) {
+        try {
+          sketch.increment(issueNumber);
+          accessOrder.get(issueNumber);
+        } finally {
+          lock.unlock();
+        }
+      }
+      return Optional.of(cached);
+    }
+
+    misses.increment();
+    long version = writes.get();
+    Optional<GithubIssue> loaded = delegate.findByIssueNumber(issueNumber);
+    lock.lock();
+    try {
+      sketch.increment(issueNumber);
+      if (loaded.isPresent() && writes.get() == version) {
+        admit(issueNumber, loaded.get());
+      }
+    } finally {
+      lock.unlock();
+    }
+    return loaded;
+  }
+
+  /**
+   * 캐시에 없는 이슈만 감싼 저장소에서 한 번에 조회
+   */
+  @Override
+  public Map<Integer, GithubIssue> findAllByIssueNumbers(Collection<Integer> issueNumbers) {
+    Map<Integer, GithubIssue> found = new HashMap<>();
+    List<Integer> uncached = new ArrayList<>();
+    for (Integer issueNumber : issueNumbers) {
+      GithubIssue cached = entries.get(issueNumber);
+      if (cached != null) {
+        hits.increment();
+        found.put(issueNumber, cached);
+      } else {
+        misses.increment();
+        uncached.add(issueNumber);
+      }
+    }
+    if (uncached.isEmpty()) {
+      return found;
+    }
+
+    long version = writes.get();
+    Map<Integer, GithubIssue> loaded = delegate.findAllByIssueNumbers(uncached);
+    lock.lock();
+    try {
+      for (Integer issueNumber : uncached) {
+        sketch.increment(issueNumber);
+        GithubIssue issue = loaded.get(issueNumber);
+        if (issue != null && writes.get() == version) {
+          admit(issueNumber, issue);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    found.putAll(loaded);
+    return found;
+  }
+
+  /**
+   * 감싼 저장소에서 다시 읽고 이미 캐시된 이슈면 새 값으로 교체
+   */
+  @Override
+  public Optional<GithubIssue> reload(Integer issueNumber) {
+    Optional<GithubIssue> loaded = delegate.reload(issueNumber);
+    if (loaded.isPresent()) {
+      lock.lock();
+      try {
+        entries.replace(issueNumber, loaded.get());
+      } finally {
+        lock.unlock();
+      }
+    }
+    return loaded;
+  }
+
+  @Override
+  public GithubIssue save(GithubIssue issue) {
+    GithubIssue saved = delegate.save(issue);
+    writes.incrementAndGet();
+    lock.lock();
+    try {
+      admit(saved.getIssueNumber(), saved);
+    } finally {
+      lock.unlock();
+    }
+    return saved;
+  }
+
+  @Override
+  public Collection<GithubIssue> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public void saveAll(Set<Integer> issueNumbers, Collection<GithubIssue> issues) {
+    delegate.saveAll(issueNumbers, issues);
+    writes.incrementAndGet();
+    // 전체 동기화로 캐시가 밀려나지 않도록 이미 캐시된 이슈만 갱신
+    lock.lock();
+    try {
+      for (GithubIssue issue : issues) {
+        entries.replace(issue.getIssueNumber(), issue);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String getCurrentHash() {
+    return delegate.getCurrentHash();
+  }
+
+  /**
+   * 캐시에 넣기 (가득 찼으면 LRU 이슈보다 자주 조회된 경우에만 교체, lock 안에서 호출)
+   */
+  private void admit(Integer issueNumber, GithubIssue issue) {
+    if (entries.containsKey(issueNumber)) {
+      entries.put(issueNumber, issue);
+      accessOrder.get(issueNumber);
+      return;
+    }
+    if (accessOrder.size() >= maximumSize) {
+      Iterator<Integer> eldest = accessOrder.keySet().iterator();
+      Integer victim = eldest.next();
+      if (sketch.frequency(issueNumber) <= sketch.frequency(victim)) {
+        rejections.increment();
+        return;
+      }
+      eldest.remove();
+      entries.remove(victim);
+      evictions.increment();
+    }
+    accessOrder.put(issueNumber, Boolean.TRUE);
+    entries.put(issueNumber, issue);
+  }
+
+  public IssueRepository getDelegate() {
+    return delegate;
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * 빈도가 낮아 캐시에 넣지 않은 횟수
+   */
+  public long getRejectionCount() {
+    return rejections.sum();
+  }
+
+  public double getHitRate() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 1.0 : (double) hitCount / total;
+  }
+
+  /**
+   * 캐시 통계를 남기고 원본 저장소를 닫음 (원본 저장소가 던진 예외는 RuntimeException 으로 감싸서 전달)
+   */
+  @Override
+  public void close() {
+    log.info("이슈 캐시 통계 - {}", this);
+    if (delegate instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) delegate).close();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("원본 저장소를 닫는 중 중단되었습니다", e);
+      } catch (Exception e) {
+        throw new RuntimeException("원본 저장소를 닫을 수 없습니다", e);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("CachingIssueRepository{size=%d/%d, hitRate=%.1f%%, hits=%d, misses=%d, evictions=%d, rejections=%d}",
+        size(), maximumSize, getHitRate() * 100, getHitCount(), getMissCount(), getEvictionCount(),
+        getRejectionCount());
+  }
+
+  /**
+   * 이슈 번호별 최근 조회 빈도 근사 (count-min sketch, 4행, 카운터 최대 15)
+   * 기록 수가 표본 크기에 도달하면 모든 카운터를 절반으로 줄임
+   */
+  private static final class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97CB3127, 0x0B9B3A95, 0x5A4F7E13, 0x3C6EF372};
+
+    private final byte[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+      // 충돌을 줄이기 위해 캐시 크기의 4배 폭 사용
+      int width = Integer.highestOneBit(Math.max(64, Math.min(maximumSize, 1 << 22) * 4) - 1) << 1;
+      this.counters = new byte[DEPTH][width];
+      this.mask = width - 1;
+      this.sampleSize = 10 * Math.max(16, maximumSize);
+    }
+
+    void increment(int key) {
+      boolean added = false;
+      for (int row = 0; row < DEPTH; row++) {
+        int index = index(key, row);
+        if (counters[row][index] < MAX_COUNT) {
+          counters[row][index]++;
+          added = true;
+        }
+      }
+      if (added && ++additions >= sampleSize) {
+        reset();
+      }
+    }
+
+    int frequency(int key) {
+      int frequency = MAX_COUNT;
+      for (int row = 0; row < DEPTH; row++) {
+        frequency = Math.min(frequency, counters[row][index(key, row)]);
+      }
+      return frequency;
+    }
+
+    private int index(int key, int row) {
+      int h = (key ^ SEEDS[row]) * 0x9E3779B9;
+      return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void reset() {
+      for (byte[] row : counters) {
+        for (int i = 0; i < row.length; i++) {
+          row[i] = (byte) (row[i] >> 1);
+        }
+      }
+      additions /= 2;
+    }
+  }
+}
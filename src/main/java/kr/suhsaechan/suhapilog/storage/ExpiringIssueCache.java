@@ -0,0 +1,64 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.util.ConcurrentIntObjectMap;
+
+/**
+ * 여러 인스턴스가 공유하는 저장소(JDBC, REDIS)용 짧은 메모리 보관소
+ *
+ * <p>다른 인스턴스가 갱신한 이슈를 ttl 안에 다시 읽도록 항목마다 보관 시각을 두고,
+ * ttl 이 지난 항목은 없는 것으로 보아 저장소에서 다시 읽게 함. ttl 이 0 이면 보관하지 않음</p>
+ */
+final class ExpiringIssueCache {
+
+  private final ConcurrentIntObjectMap<Entry> entries = new ConcurrentIntObjectMap<>();
+  private final long ttlNanos;
+
+  ExpiringIssueCache(Duration ttl) {
+    this.ttlNanos = ttl == null ? 0 : Math.max(0, ttl.toNanos());
+  }
+
+  /**
+   * ttl 안에 보관한 이슈 (없거나 만료되면 null)
+   */
+  GithubIssue get(int issueNumber) {
+    if (ttlNanos == 0) {
+      return null;
+    }
+    Entry entry = entries.get(issueNumber);
+    if (entry == null || System.nanoTime() - entry.storedAtNanos >= ttlNanos) {
+      return null;
+    }
+    return entry.issue;
+  }
+
+  void put(GithubIssue issue) {
+    if (ttlNanos > 0) {
+      entries.put(issue.getIssueNumber(), new Entry(issue, System.nanoTime()));
+    }
+  }
+
+  /**
+   * 만료 여부와 관계없이 보관한 모든 이슈 (저장소에 연결할 수 없을 때의 대체 값)
+   */
+  List<GithubIssue> values() {
+    List<GithubIssue> issues = new ArrayList<>();
+    for (Entry entry : entries.values()) {
+      issues.add(entry.issue);
+    }
+    return issues;
+  }
+
+  private static final class Entry {
+    final GithubIssue issue;
+    final long storedAtNanos;
+
+    Entry(GithubIssue issue, long storedAtNanos) {
+      this.issue = issue;
+      this.storedAtNanos = storedAtNanos;
+    }
+  }
+}
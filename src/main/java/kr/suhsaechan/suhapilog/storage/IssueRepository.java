@@ -1,6 +1,8 @@
 package kr.suhsaechan.suhapilog.storage;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import kr.suhsaechan.suhapilog.model.GithubIssue;
@@ -14,6 +16,26 @@ public interface IssueRepository {
    */
   Optional<GithubIssue> findByIssueNumber(Integer issueNumber);
 
+  /**
+   * 여러 이슈를 한 번에 조회 (저장소에 없는 이슈는 결과에서 제외)
+   */
+  default Map<Integer, GithubIssue> findAllByIssueNumbers(Collection<Integer> issueNumbers) {
+    Map<Integer, GithubIssue> found = new HashMap<>();
+    for (Integer issueNumber : issueNumbers) {
+      findByIssueNumber(issueNumber).ifPresent(issue -> found.put(issueNumber, issue));
+    }
+    return found;
+  }
+
+  /**
+   * 메모리에 보관한 값을 거치지 않고 저장소에서 이슈를 다시 읽음
+   * 여러 인스턴스가 공유하는 저장소에서 GitHub 에 다시 조회하기 전에 다른 인스턴스가 먼저 갱신했는지 확인하는 용도
+   * (기본 구현은 findByIssueNumber 와 같음)
+   */
+  default Optional<GithubIssue> reload(Integer issueNumber) {
+    return findByIssueNumber(issueNumber);
+  }
+
   /**
    * 이슈 저장
    */
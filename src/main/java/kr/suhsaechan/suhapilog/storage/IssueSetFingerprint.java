@@ -0,0 +1,48 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * 이슈 번호 집합의 SHA-256 해시 계산
+ * 저장소에 기록된 해시와 비교하여 이슈 구성이 바뀌었는지 판단하는 데 사용
+ */
+public class IssueSetFingerprint {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(IssueSetFingerprint.class);
+
+  private IssueSetFingerprint() {
+    // 유틸리티 클래스
+  }
+
+  /**
+   * 이슈 번호 집합의 해시 계산 (기존 github-issues-hash.json 과 호환되는 방식)
+   */
+  public static String of(Collection<Integer> issueNumbers) {
+    String concatenated = issueNumbers.stream().map(String::valueOf)
+        .sorted().collect(Collectors.joining());
+    return calculateHash(concatenated);
+  }
+
+  /**
+   * 문자열에서 해시 계산 (SHA-256)
+   */
+  private static String calculateHash(String input) {
+    try {
+      MessageDigest md = MessageDigest.getInstance("SHA-256");
+      byte[] hashBytes = md.digest(input.getBytes(StandardCharsets.UTF_8));
+
+      StringBuilder sb = new StringBuilder();
+      for (byte b : hashBytes) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      log.error("해시 계산에 실패했습니다: {}", e.getMessage());
+      throw new RuntimeException("해시 계산을 위한 알고리즘을 찾을 수 없습니다", e);
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * 데이터베이스 테이블에 이슈를 저장하는 리포지토리 (suhapilog.storage.type=JDBC)
+ *
+ * <p>여러 인스턴스가 같은 테이블을 공유하므로 한 인스턴스가 조회한 이슈를 다른 인스턴스는 GitHub 요청 없이 사용함.
+ * 행은 GitHub 저장소 주소(repository_url)와 이슈 번호로 구분하여 여러 서비스가 한 테이블을 함께 써도 섞이지 않음.
+ * saveAll 은 한 트랜잭션에서 UPDATE 배치를 실행한 뒤 갱신되지 않은 행만 INSERT 배치로 추가하며,
+ * 다른 인스턴스가 먼저 추가해 키가 충돌하면 트랜잭션을 되돌리고 다시 시도함.
+ * 조회한 행은 cacheTtl 동안만 메모리에 보관하여 Swagger 문서 생성 시 매번 쿼리하지 않되,
+ * 다른 인스턴스가 갱신한 행도 cacheTtl 이 지나면 다시 읽음.
+ * 이슈 구성 해시는 서비스마다 다르므로 테이블에 두지 않고 메모리에만 보관함</p>
+ */
+public class JdbcIssueRepository implements IssueRepository {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(JdbcIssueRepository.class);
+
+  public static final String DEFAULT_TABLE_NAME = "suhapilog_issue";
+  public static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(5);
+
+  // IN (...) 한 번에 넣을 최대 이슈 수 (Oracle 은 1000 개 제한)
+  static final int IN_CLAUSE_SIZE = 500;
+  private static final int MAX_UPSERT_ATTEMPTS = 3;
+  private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+  private static final String COLUMNS =
+      "issue_number, clean_title, raw_title, page_url, fetched_at, etag, last_modified, missing, failure_count";
+
+  private final DataSource dataSource;
+  private final String tableName;
+  private final String repositoryUrl;
+  private final String selectSql;
+  private final String updateSql;
+  private final String insertSql;
+  private final ExpiringIssueCache issueCache;
+  private volatile String currentHash = "";
+
+  /**
+   * @param tableName 이슈 테이블 이름
+   * @param repositoryUrl 이슈를 구분할 GitHub 저장소 주소 (suhapilog.github.base-url)
+   * @param initializeSchema 테이블이 없으면 생성
+   */
+  public JdbcIssueRepository(DataSource dataSource, String tableName, String repositoryUrl, boolean initializeSchema) {
+    this(dataSource, tableName, repositoryUrl, initializeSchema, DEFAULT_CACHE_TTL);
+  }
+
+  /**
+   * @param cacheTtl 조회한 행을 메모리에 보관하는 시간 (0 이면 매번 쿼리)
+   */
+  public JdbcIssueRepository(DataSource dataSource, String tableName, String repositoryUrl, boolean initializeSchema,
+      Duration cacheTtl) {
+    if (tableName == null || !TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+      throw new IllegalArgumentException("사용할 수 없는 테이블 이름입니다: " + tableName);
+    }
+    this.dataSource = dataSource;
+    this.tableName = tableName;
+    this.repositoryUrl = repositoryUrl == null ? "" : repositoryUrl;
+    this.issueCache = new ExpiringIssueCache(cacheTtl);
+    this.selectSql = "SELECT " + COLUMNS + " FROM " + tableName + " WHERE repository_url = ?";
+    this.updateSql = "UPDATE " + tableName + " SET clean_title = ?, raw_title = ?, page_url = ?, fetched_at = ?,"
+        + " etag = ?, last_modified = ?, missing = ?, failure_count = ? WHERE repository_url = ? AND issue_number = ?";
+    this.insertSql = "INSERT INTO " + tableName + " (repository_url, " + COLUMNS + ")"
+        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    if (initializeSchema) {
+      initializeSchema();
+    }
+  }
+
+  /**
+   * 이슈 테이블이 없으면 생성 (여러 인스턴스가 동시에 생성해도 한 번만 성공하면 됨)
+   */
+  private void initializeSchema() {
+    if (tableExists()) {
+      return;
+    }
+    String ddl = "CREATE TABLE " + tableName + " ("
+        + "repository_url VARCHAR(255) NOT NULL, "
+        + "issue_number INTEGER NOT NULL, "
+        + "clean_title VARCHAR(1024), "
+        + "raw_title VARCHAR(1024), "
+        + "page_url VARCHAR(512), "
+        + "fetched_at TIMESTAMP, "
+        + "etag VARCHAR(255), "
+        + "last_modified VARCHAR(64), "
+        + "missing SMALLINT NOT NULL, "
+        + "failure_count INTEGER NOT NULL, "
+        + "PRIMARY KEY (repository_url, issue_number))";
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(ddl);
+      log.info("이슈 테이블을 생성했습니다: {}", tableName);
+    } catch (SQLException e) {
+      if (!tableExists()) {
+        throw new RuntimeException("이슈 테이블을 생성할 수 없습니다: " + tableName, e);
+      }
+    }
+  }
+
+  private boolean tableExists() {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.executeQuery("SELECT issue_number FROM " + tableName + " WHERE 1 = 0").close();
+      return true;
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Optional<GithubIssue> findByIssueNumber(Integer issueNumber) {
+    GithubIssue cached = issueCache.get(issueNumber);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    return reload(issueNumber);
+  }
+
+  /**
+   * 메모리에 보관한 값과 관계없이 테이블에서 다시 읽음 (다른 인스턴스가 먼저 갱신했는지 확인용)
+   */
+  @Override
+  public Optional<GithubIssue> reload(Integer issueNumber) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(selectSql + " AND issue_number = ?")) {
+      statement.setString(1, repositoryUrl);
+      statement.setInt(2, issueNumber);
+      List<GithubIssue> found = readIssues(statement);
+      return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    } catch (SQLException e) {
+      log.error("이슈 {} 를 조회하는 데 실패했습니다: {}", issueNumber, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 메모리에 없는 이슈만 IN (...) 쿼리로 나누어 한 번에 조회
+   */
+  @Override
+  public Map<Integer, GithubIssue> findAllByIssueNumbers(Collection<Integer> issueNumbers) {
+    Map<Integer, GithubIssue> found = new HashMap<>();
+    List<Integer> uncached = new ArrayList<>();
+    for (Integer issueNumber : issueNumbers) {
+      GithubIssue cached = issueCache.get(issueNumber);
+      if (cached != null) {
+        found.put(issueNumber, cached);
+      } else {
+        uncached.add(issueNumber);
+      }
+    }
+    if (uncached.isEmpty()) {
+      return found;
+    }
+    int cachedCount = found.size();
+
+    try (Connection connection = dataSource.getConnection()) {
+      for (int from = 0; from < uncached.size(); from += IN_CLAUSE_SIZE) {
+        List<Integer> chunk = uncached.subList(from, Math.min(from + IN_CLAUSE_SIZE, uncached.size()));
+        StringBuilder sql = new StringBuilder(selectSql).append(" AND issue_number IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+          sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+          statement.setString(1, repositoryUrl);
+          for (int i = 0; i < chunk.size(); i++) {
+            statement.setInt(i + 2, chunk.get(i));
+          }
+          readIssues(statement).forEach(issue -> found.put(issue.getIssueNumber(), issue));
+        }
+      }
+      log.debug("이슈 {}개 중 {}개를 데이터베이스에서 로드했습니다", uncached.size(), found.size() - cachedCount);
+    } catch (SQLException e) {
+      log.error("이슈를 일괄 조회하는 데 실패했습니다: {}", e.getMessage());
+    }
+    return found;
+  }
+
+  @Override
+  public GithubIssue save(GithubIssue issue) {
+    upsert(List.of(issue));
+    return issue;
+  }
+
+  @Override
+  public Collection<GithubIssue> findAll() {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(selectSql)) {
+      statement.setString(1, repositoryUrl);
+      return readIssues(statement);
+    } catch (SQLException e) {
+      log.error("이슈 목록을 조회하는 데 실패했습니다: {}", e.getMessage());
+      return issueCache.values();
+    }
+  }
+
+  @Override
+  public void saveAll(Set<Integer> issueNumbers, Collection<GithubIssue> issues) {
+    if (!issues.isEmpty()) {
+      upsert(issues);
+    }
+    this.currentHash = IssueSetFingerprint.of(issueNumbers);
+  }
+
+  @Override
+  public String getCurrentHash() {
+    return currentHash;
+  }
+
+  /**
+   * UPDATE 배치 후 갱신되지 않은 행만 INSERT 배치 (한 트랜잭션)
+   * 다른 인스턴스가 같은 행을 먼저 추가해 INSERT 가 실패하면 되돌린 뒤 다시 시도
+   */
+  private void upsert(Collection<GithubIssue> issues) {
+    for (int attempt = 1; attempt <= MAX_UPSERT_ATTEMPTS; attempt++) {
+      try (Connection connection = dataSource.getConnection()) {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+          int inserted = upsert(connection, issues);
+          connection.commit();
+          issues.forEach(issueCache::put);
+          log.debug("이슈 {}개를 저장했습니다 (추가 {}개)", issues.size(), inserted);
+          return;
+        } catch (BatchUpdateException e) {
+          connection.rollback();
+          if (attempt == MAX_UPSERT_ATTEMPTS) {
+            throw e;
+          }
+          log.debug("다른 인스턴스와 동시에 저장하여 다시 시도합니다 ({}/{}): {}", attempt, MAX_UPSERT_ATTEMPTS,
+              e.getMessage());
+        } catch (SQLException | RuntimeException e) {
+          connection.rollback();
+          throw e;
+        } finally {
+          connection.setAutoCommit(autoCommit);
+        }
+      } catch (SQLException e) {
+        log.error("이슈 {}개를 저장하는 데 실패했습니다: {}", issues.size(), e.getMessage());
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return 새로 추가한 행 수
+   */
+  private int upsert(Connection connection, Collection<GithubIssue> issues) throws SQLException {
+    List<GithubIssue> ordered = new ArrayList<>(issues);
+    List<GithubIssue> absent = new ArrayList<>();
+    try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+      for (GithubIssue issue : ordered) {
+        bindUpdate(update, issue);
+        update.addBatch();
+      }
+      int[] counts = update.executeBatch();
+      for (int i = 0; i < ordered.size(); i++) {
+        int count = i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO;
+        if (count == Statement.SUCCESS_NO_INFO) {
+          // 배치 결과에 갱신 건수를 알려주지 않는 드라이버는 해당 행만 다시 실행하여 확인
+          bindUpdate(update, ordered.get(i));
+          count = update.executeUpdate();
+        }
+        if (count == 0) {
+          absent.add(ordered.get(i));
+        }
+      }
+    }
+    if (absent.isEmpty()) {
+      return 0;
+    }
+
+    try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+      for (GithubIssue issue : absent) {
+        insert.setString(1, repositoryUrl);
+        insert.setInt(2, issue.getIssueNumber());
+        bindValues(insert, issue, 3);
+        insert.addBatch();
+      }
+      insert.executeBatch();
+    }
+    return absent.size();
+  }
+
+  private void bindUpdate(PreparedStatement update, GithubIssue issue) throws SQLException {
+    int next = bindValues(update, issue, 1);
+    update.setString(next, repositoryUrl);
+    update.setInt(next + 1, issue.getIssueNumber());
+  }
+
+  /**
+   * 이슈 번호를 제외한 값을 index 부터 바인딩
+   *
+   * @return 다음 파라미터 위치
+   */
+  private static int bindValues(PreparedStatement statement, GithubIssue issue, int index) throws SQLException {
+    statement.setString(index++, issue.getCleanTitle());
+    statement.setString(index++, issue.getRawTitle());
+    statement.setString(index++, issue.getPageUrl());
+    statement.setTimestamp(index++, issue.getFetchedAt() == null ? null : Timestamp.valueOf(issue.getFetchedAt()));
+    statement.setString(index++, issue.getEtag());
+    statement.setString(index++, issue.getLastModified());
+    statement.setInt(index++, issue.isMissing() ? 1 : 0);
+    statement.setInt(index++, issue.getFailureCount());
+    return index;
+  }
+
+  /**
+   * 조회 결과를 이슈로 변환하고 메모리에 보관
+   */
+  private List<GithubIssue> readIssues(PreparedStatement statement) throws SQLException {
+    List<GithubIssue> issues = new ArrayList<>();
+    try (ResultSet rs = statement.executeQuery()) {
+      while (rs.next()) {
+        Timestamp fetchedAt = rs.getTimestamp("fetched_at");
+        GithubIssue issue = GithubIssue.builder()
+            .issueNumber(rs.getInt("issue_number"))
+            .cleanTitle(rs.getString("clean_title"))
+            .rawTitle(rs.getString("raw_title"))
+            .pageUrl(rs.getString("page_url"))
+            .fetchedAt(fetchedAt == null ? null : fetchedAt.toLocalDateTime())
+            .etag(rs.getString("etag"))
+            .lastModified(rs.getString("last_modified"))
+            .missing(rs.getInt("missing") != 0)
+            .failureCount(rs.getInt("failure_count"))
+            .build();
+        issueCache.put(issue);
+        issues.add(issue);
+      }
+    }
+    return issues;
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+}
@@ -0,0 +1,423 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.util.ConcurrentIntObjectMap;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import kr.suhsaechan.suhapilog.util.SuhExecutors;
+
+/**
+ * 변경을 저널 파일에 추가 기록하는 이슈 리포지토리 (suhapilog.storage.type=JOURNAL)
+ *
+ * <p>저장할 때마다 전체 파일을 다시 쓰지 않고 변경된 이슈 한 건을 github-issues.journal 에 한 줄(JSON)로 추가함.
+ * 시작 시 마지막 스냅샷(github-issues.json, JSON 모드와 같은 형식)을 읽은 뒤 저널을 순서대로 다시 적용하며,
+ * 저널이 compactThreshold 건을 넘으면 백그라운드에서 스냅샷을 새로 만들고(임시 파일 + 이름 변경) 저널을 비움.
+ * 종료 중 끊긴 마지막 줄은 버리고 중간의 손상된 줄은 건너뛰므로 어느 시점에 종료돼도 저장된 이슈를 모두 잃는 일은 없음</p>
+ */
+public class JournalIssueRepository implements IssueRepository, AutoCloseable {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(JournalIssueRepository.class);
+
+  private static final String SNAPSHOT_FILE = "github-issues.json";
+  private static final String JOURNAL_FILE = "github-issues.journal";
+  // 압축 중인 저널 (스냅샷 교체 전 종료되면 다음 시작 시 스냅샷과 저널 사이에 다시 적용)
+  private static final String COMPACTING_FILE = "github-issues.journal.compacting";
+  private static final String HASH_FILE = "github-issues-hash.json";
+
+  private final ObjectReader recordReader;
+  private final ObjectWriter recordWriter;
+  private final ObjectReader snapshotReader;
+  private final ObjectWriter snapshotWriter;
+  private final ObjectWriter hashWriter;
+  private final ObjectMapper objectMapper;
+  private final Path storageLocation;
+  private final int compactThreshold;
+  private final ConcurrentIntObjectMap<GithubIssue> issueCache = new ConcurrentIntObjectMap<>();
+  private volatile String currentHash = "";
+
+  // 저널 추가 기록과 저널 교체는 이 잠금 안에서만 수행
+  private final Object journalLock = new Object();
+  private FileChannel journal;
+  private int journalRecords;
+  private final AtomicBoolean compacting = new AtomicBoolean();
+  private volatile ExecutorService compactor;
+  private volatile boolean closed;
+
+  /**
+   * @param compactThreshold 저널이 이 건수를 넘으면 스냅샷으로 압축
+   */
+  public JournalIssueRepository(String storagePath, int compactThreshold) {
+    this.objectMapper = new ObjectMapper();
+    this.objectMapper.registerModule(new JavaTimeModule());
+    this.recordReader = objectMapper.readerFor(GithubIssue.class);
+    this.recordWriter = objectMapper.writerFor(GithubIssue.class);
+    this.snapshotReader = objectMapper.readerFor(new TypeReference<List<GithubIssue>>() {});
+    this.snapshotWriter = objectMapper.writerFor(new TypeReference<List<GithubIssue>>() {})
+        .with(SerializationFeature.INDENT_OUTPUT);
+    this.hashWriter = objectMapper.writer();
+    this.compactThreshold = Math.max(1, compactThreshold);
+
+    this.storageLocation = Paths.get(storagePath).toAbsolutePath().normalize();
+    try {
+      Files.createDirectories(this.storageLocation);
+    } catch (IOException e) {
+      throw new RuntimeException("저장소 디렉토리를 생성할 수 없습니다: " + this.storageLocation, e);
+    }
+
+    loadSnapshot();
+    boolean interruptedCompaction = replay(storageLocation.resolve(COMPACTING_FILE)) >= 0;
+    this.journalRecords = Math.max(0, replay(storageLocation.resolve(JOURNAL_FILE)));
+    loadHash();
+    openJournal();
+    log.debug("{} GitHub 이슈를 로드했습니다 (저널 {}건)", issueCache.size(), journalRecords);
+
+    if (interruptedCompaction || journalRecords >= this.compactThreshold) {
+      requestCompaction();
+    }
+  }
+
+  /**
+   * 마지막 스냅샷 로딩
+   */
+  private void loadSnapshot() {
+    Path filePath = storageLocation.resolve(SNAPSHOT_FILE);
+    if (Files.exists(filePath)) {
+      try {
+        List<GithubIssue> issues = snapshotReader.readValue(filePath.toFile());
+        issues.forEach(issue -> issueCache.put(issue.getIssueNumber(), issue));
+      } catch (IOException e) {
+        log.error("GitHub 이슈 스냅샷을 로드하는 데 실패했습니다: {}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 저널을 순서대로 다시 적용
+   * 줄바꿈으로 끝나지 않은 마지막 줄이 읽을 수 없으면 기록 중 끊긴 것이므로 잘라내고,
+   * 중간의 읽을 수 없는 줄은 건너뛴 뒤 다음 줄부터 계속 적용함 (다음 압축 때 사라짐)
+   *
+   * @return 적용한 기록 수 (파일이 없으면 -1)
+   */
+  private int replay(Path file) {
+    if (!Files.exists(file)) {
+      return -1;
+    }
+    byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(file);
+    } catch (IOException e) {
+      log.error("저널을 읽는 데 실패했습니다 ({}): {}", file.getFileName(), e.getMessage());
+      return 0;
+    }
+
+    int records = 0;
+    int skipped = 0;
+    int lineStart = 0;
+    while (lineStart < bytes.length) {
+      int lineEnd = lineStart;
+      while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+        lineEnd++;
+      }
+      boolean terminated = lineEnd < bytes.length;
+      String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+      if (!line.isBlank()) {
+        GithubIssue issue = null;
+        try {
+          issue = recordReader.readValue(line);
+        } catch (IOException e) {
+          if (!terminated) {
+            truncate(file, lineStart);
+            return records;
+          }
+          skipped++;
+        }
+        if (issue != null) {
+          issueCache.put(issue.getIssueNumber(), issue);
+          records++;
+        }
+      }
+      if (!terminated) {
+        // 마지막 기록은 온전하지만 줄바꿈 전에 종료된 경우 - 다음 기록과 붙지 않도록 줄바꿈 추가
+        appendNewline(file);
+      }
+      lineStart = lineEnd + 1;
+    }
+    if (skipped > 0) {
+      log.warn("저널 {} 에서 읽을 수 없는 기록 {}건을 건너뛰었습니다", file.getFileName(), skipped);
+    }
+    return records;
+  }
+
+  private void truncate(Path file, long validBytes) {
+    log.warn("저널 {} 의 마지막 기록이 완전하지 않아 버립니다 ({}바이트 이후)", file.getFileName(), validBytes);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(validBytes);
+    } catch (IOException e) {
+      log.error("저널을 정리하는 데 실패했습니다 ({}): {}", file.getFileName(), e.getMessage());
+    }
+  }
+
+  private void appendNewline(Path file) {
+    try {
+      Files.write(file, new byte[] {'\n'}, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      log.error("저널을 정리하는 데 실패했습니다 ({}): {}", file.getFileName(), e.getMessage());
+    }
+  }
+
+  /**
+   * 저장된 해시 값 로딩
+   */
+  private void loadHash() {
+    Path filePath = storageLocation.resolve(HASH_FILE);
+    if (Files.exists(filePath)) {
+      try {
+        Map<String, String> hashData = objectMapper.readValue(
+            filePath.toFile(), new TypeReference<Map<String, String>>() {});
+        this.currentHash = hashData.getOrDefault("hash", "");
+      } catch (IOException e) {
+        log.error("해시 데이터를 로드하는 데 실패했습니다: {}", e.getMessage());
+      }
+    }
+  }
+
+  private void openJournal() {
+    try {
+      journal = FileChannel.open(storageLocation.resolve(JOURNAL_FILE),
+          StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new RuntimeException("저널 파일을 열 수 없습니다: " + storageLocation.resolve(JOURNAL_FILE), e);
+    }
+  }
+
+  /**
+   * 메모리 반영과 저널 추가 기록을 한 잠금 안에서 수행 (기록 수와 관계없이 추가한 만큼만 쓰기)
+   * 동시에 같은 이슈를 저장해도 저널의 기록 순서가 메모리에 반영된 순서와 같음
+   *
+   * @param onlyChanged true 면 메모리에 이미 같은 객체가 있는 이슈는 기록하지 않음
+   */
+  private void putAndAppend(Collection<GithubIssue> issues, boolean onlyChanged) {
+    if (issues.isEmpty()) {
+      return;
+    }
+    boolean compact;
+    synchronized (journalLock) {
+      if (closed) {
+        // 종료 중 늦게 도착한 저장은 닫힌 저널에 쓰지 않음 (close() 의 압축이 이미 끝났거나 진행 중)
+        log.debug("저장소가 닫혀 이슈 {}개를 기록하지 않습니다", issues.size());
+        return;
+      }
+      int appended = 0;
+      try {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256 * issues.size());
+        for (GithubIssue issue : issues) {
+          GithubIssue previous = issueCache.put(issue.getIssueNumber(), issue);
+          if (onlyChanged && previous == issue) {
+            continue;
+          }
+          recordWriter.writeValue(buffer, issue);
+          buffer.write('\n');
+          appended++;
+        }
+        if (appended == 0) {
+          return;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+          journal.write(bytes);
+        }
+        journalRecords += appended;
+      } catch (IOException e) {
+        log.error("GitHub 이슈를 저널에 기록하는 데 실패했습니다: {}", e.getMessage());
+        return;
+      }
+      compact = journalRecords >= compactThreshold;
+    }
+    if (compact) {
+      requestCompaction();
+    }
+  }
+
+  /**
+   * 백그라운드 압축 요청 (이미 진행 중이면 무시)
+   */
+  private void requestCompaction() {
+    if (closed || !compacting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      compactor().execute(() -> {
+        try {
+          compact();
+        } finally {
+          compacting.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      compacting.set(false);
+    }
+  }
+
+  /**
+   * 저널을 스냅샷으로 압축
+   * 저널을 압축 중 파일로 옮기고 새 저널로 바꾼 뒤(잠금 안), 잠금 밖에서 스냅샷을 기록하므로
+   * 압축하는 동안에도 저장은 멈추지 않음
+   */
+  void compact() {
+    Path journalFile = storageLocation.resolve(JOURNAL_FILE);
+    Path compactingFile = storageLocation.resolve(COMPACTING_FILE);
+    List<GithubIssue> issues;
+    synchronized (journalLock) {
+      try {
+        if (!Files.exists(compactingFile)) {
+          journal.close();
+          Files.move(journalFile, compactingFile);
+          journal = FileChannel.open(journalFile,
+              StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+          journalRecords = 0;
+        }
+      } catch (IOException e) {
+        log.error("저널을 교체하는 데 실패했습니다: {}", e.getMessage());
+        if (!journal.isOpen()) {
+          openJournal();
+        }
+        return;
+      }
+      // 이 시점까지의 변경은 모두 압축 중 파일(또는 이전 스냅샷)에 있음
+      issues = issueCache.values();
+    }
+
+    try {
+      StorageFiles.writeAtomically(storageLocation.resolve(SNAPSHOT_FILE), snapshotWriter, issues);
+      Files.deleteIfExists(compactingFile);
+      log.debug("저널을 압축했습니다 (이슈 {}개)", issues.size());
+    } catch (IOException e) {
+      log.error("GitHub 이슈 스냅샷을 저장하는 데 실패했습니다: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 해시 값 저장
+   */
+  private void saveHash(String hash) {
+    try {
+      Map<String, String> hashData = new HashMap<>();
+      hashData.put("hash", hash);
+      hashData.put("lastUpdated", LocalDateTime.now().toString());
+
+      StorageFiles.writeAtomically(storageLocation.resolve(HASH_FILE), hashWriter, hashData);
+      this.currentHash = hash;
+      log.debug("새로운 해시 값 저장: {}", hash);
+    } catch (Exception e) {
+      log.error("해시 값을 저장하는 데 실패했습니다: {}", e.getMessage());
+    }
+  }
+
+  private ExecutorService compactor() {
+    ExecutorService executor = compactor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = compactor;
+        if (executor == null) {
+          executor = Executors.newSingleThreadExecutor(SuhExecutors.daemonThreadFactory("suhapilog-journal-compactor"));
+          compactor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  @Override
+  public Optional<GithubIssue> findByIssueNumber(Integer issueNumber) {
+    return Optional.ofNullable(issueCache.get(issueNumber));
+  }
+
+  @Override
+  public GithubIssue save(GithubIssue issue) {
+    putAndAppend(List.of(issue), false);
+    return issue;
+  }
+
+  @Override
+  public Collection<GithubIssue> findAll() {
+    return issueCache.values();
+  }
+
+  @Override
+  public void saveAll(Set<Integer> issueNumbers, Collection<GithubIssue> issues) {
+    // 실제로 바뀐 이슈만 저널에 기록
+    putAndAppend(issues, true);
+
+    // 이슈 번호로부터 새 해시 계산 후 달라졌을 때만 저장 (닫힌 뒤에는 이슈와 함께 기록하지 않음)
+    String hash = IssueSetFingerprint.of(issueNumbers);
+    if (!closed && !hash.equals(this.currentHash)) {
+      saveHash(hash);
+    }
+  }
+
+  @Override
+  public String getCurrentHash() {
+    return this.currentHash;
+  }
+
+  /**
+   * 진행 중인 압축을 기다린 뒤 저널을 스냅샷으로 압축하고 닫음 (이후의 저장은 기록하지 않음)
+   */
+  @Override
+  public void close() {
+    closed = true;
+    ExecutorService executor = compactor;
+    if (executor != null) {
+      executor.shutdown();
+      try {
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    synchronized (journalLock) {
+      if (journalRecords > 0 || Files.exists(storageLocation.resolve(COMPACTING_FILE))) {
+        compact();
+      }
+      try {
+        journal.close();
+      } catch (IOException e) {
+        log.debug("저널을 닫는 데 실패했습니다: {}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 현재 저널 기록 수 (압축 후 0)
+   */
+  public int getJournalRecords() {
+    synchronized (journalLock) {
+      return journalRecords;
+    }
+  }
+}
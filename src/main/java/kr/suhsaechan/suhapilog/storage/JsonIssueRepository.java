@@ -2,45 +2,77 @@ package kr.suhsaechan.suhapilog.storage;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.util.ConcurrentIntObjectMap;
 import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import kr.suhsaechan.suhapilog.util.SuhExecutors;
 
 /**
  * GitHub 이슈 정보를 JSON 파일로 저장하고 조회하는 리포지토리
+ *
+ * <p>flushInterval 이 0 보다 크면 지연 쓰기(write-behind) 방식으로 동작함. 저장 요청은 메모리에만 반영하고
+ * 변경 표시만 남기며, 하나의 쓰기 스레드가 flushInterval 마다 최대 한 번 파일 전체를 기록함.
+ * 종료 시 {@link #close()} 에서 남은 변경을 기록함</p>
  */
-public class JsonIssueRepository implements IssueRepository {
+public class JsonIssueRepository implements IssueRepository, AutoCloseable {
   private static final SuhApiLogger log = SuhApiLogger.getLogger(JsonIssueRepository.class);
 
   private static final String ISSUES_FILE = "github-issues.json";
   private static final String HASH_FILE = "github-issues-hash.json";
 
   private final ObjectMapper objectMapper;
+  private final ObjectWriter issuesWriter;
+  private final ObjectWriter hashWriter;
   private final Path storageLocation;
-  private final Map<Integer, GithubIssue> issueCache = new ConcurrentHashMap<>();
-  private String currentHash = "";
+  private final ConcurrentIntObjectMap<GithubIssue> issueCache = new ConcurrentIntObjectMap<>();
+  private volatile String currentHash = "";
+
+  // 지연 쓰기 간격 (0 이면 저장할 때마다 바로 기록)
+  private final long flushIntervalNanos;
+  // 파일에 아직 기록하지 않은 이슈 변경이 있는지 여부
+  private final AtomicBoolean issuesDirty = new AtomicBoolean();
+  // 파일에 아직 기록하지 않은 해시 값
+  private final AtomicReference<String> pendingHash = new AtomicReference<>();
+  // 기록 작업이 이미 예약되어 있는지 여부 (변경이 여러 번 있어도 한 번만 예약)
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private volatile ScheduledExecutorService writer;
+  private volatile boolean closed;
 
   public JsonIssueRepository(String storagePath) {
+    this(storagePath, Duration.ZERO);
+  }
+
+  /**
+   * @param flushInterval 지연 쓰기 간격 (null 또는 0 이면 저장할 때마다 바로 기록)
+   */
+  public JsonIssueRepository(String storagePath, Duration flushInterval) {
     this.objectMapper = new ObjectMapper();
     this.objectMapper.registerModule(new JavaTimeModule());
+    this.issuesWriter = objectMapper.writerFor(new TypeReference<List<GithubIssue>>() {})
+        .with(SerializationFeature.INDENT_OUTPUT);
+    this.hashWriter = objectMapper.writer();
+    this.flushIntervalNanos = flushInterval == null || flushInterval.isNegative() ? 0 : flushInterval.toNanos();
 
     this.storageLocation = Paths.get(storagePath).toAbsolutePath().normalize();
     initializeStorage();
@@ -99,42 +131,102 @@ public class JsonIssueRepository implements IssueRepository {
   }
 
   /**
-   * 모든 이슈를 파일에 저장
+   * 남은 변경을 파일에 기록 (쓰기 스레드와 종료 시 호출, 동시에 기록하지 않도록 동기화)
    */
-  private void saveIssues() {
-    try {
-      List<GithubIssue> issues = new ArrayList<>(issueCache.values());
+  public synchronized void flush() {
+    // 예약 해제를 먼저 해야 기록 중 들어온 변경이 다음 기록으로 예약됨
+    flushScheduled.set(false);
+    if (issuesDirty.getAndSet(false) && !writeIssues()) {
+      // 실패한 변경은 다음 기록 때 다시 시도
+      issuesDirty.set(true);
+    }
+    String hash = pendingHash.getAndSet(null);
+    if (hash != null && !writeHash(hash)) {
+      pendingHash.compareAndSet(null, hash);
+    }
+  }
 
-      objectMapper.registerModule(new JavaTimeModule());
-      objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+  /**
+   * 남은 변경을 기록하고 쓰기 스레드 종료 (이후 저장은 바로 기록됨)
+   */
+  @Override
+  public void close() {
+    closed = true;
+    ScheduledExecutorService executor = writer;
+    if (executor != null) {
+      executor.shutdown();
+    }
+    flush();
+  }
 
-      String json = objectMapper.writeValueAsString(issues);
+  /**
+   * 변경 기록 요청 (지연 쓰기면 flushInterval 뒤에 한 번만 기록되도록 예약)
+   */
+  private void requestFlush() {
+    if (flushIntervalNanos == 0 || closed) {
+      flush();
+      return;
+    }
+    if (flushScheduled.compareAndSet(false, true)) {
+      try {
+        writer().schedule(this::flush, flushIntervalNanos, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        // close() 와 겹친 경우
+        flush();
+      }
+    }
+  }
 
-      Files.writeString(this.storageLocation.resolve(ISSUES_FILE), json);
+  /**
+   * 모든 이슈를 파일에 기록 (임시 파일에 쓴 뒤 교체하여 기록 도중 종료돼도 기존 파일 유지)
+   */
+  private boolean writeIssues() {
+    try {
+      List<GithubIssue> issues = issueCache.values();
+      StorageFiles.writeAtomically(this.storageLocation.resolve(ISSUES_FILE), issuesWriter, issues);
       log.debug("{} GitHub 이슈를 저장했습니다", issues.size());
+      return true;
     } catch (Exception e) {
       log.error("GitHub 이슈를 저장하는 데 실패했습니다: {}", e.getMessage());
+      return false;
     }
   }
 
   /**
-   * 해시 값 저장
+   * 해시 값 기록
    */
-  private void saveHash(String hash) {
+  private boolean writeHash(String hash) {
     try {
       Map<String, String> hashData = new HashMap<>();
       hashData.put("hash", hash);
       hashData.put("lastUpdated", LocalDateTime.now().toString());
 
-      String json = objectMapper.writeValueAsString(hashData);
-      Files.writeString(this.storageLocation.resolve(HASH_FILE), json);
-      this.currentHash = hash;
+      StorageFiles.writeAtomically(this.storageLocation.resolve(HASH_FILE), hashWriter, hashData);
       log.debug("새로운 해시 값 저장: {}", hash);
+      return true;
     } catch (Exception e) {
       log.error("해시 값을 저장하는 데 실패했습니다: {}", e.getMessage());
+      return false;
     }
   }
 
+  private ScheduledExecutorService writer() {
+    ScheduledExecutorService executor = writer;
+    if (executor == null) {
+      synchronized (this) {
+        executor = writer;
+        if (executor == null) {
+          ScheduledThreadPoolExecutor created =
+              new ScheduledThreadPoolExecutor(1, SuhExecutors.daemonThreadFactory("suhapilog-issue-writer"));
+          created.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+          executor = created;
+          writer = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
   @Override
   public Optional<GithubIssue> findByIssueNumber(Integer issueNumber) {
     return Optional.ofNullable(issueCache.get(issueNumber));
@@ -143,48 +235,44 @@ public class JsonIssueRepository implements IssueRepository {
   @Override
   public GithubIssue save(GithubIssue issue) {
     issueCache.put(issue.getIssueNumber(), issue);
-    saveIssues();
+    issuesDirty.set(true);
+    requestFlush();
     return issue;
   }
 
   @Override
   public Collection<GithubIssue> findAll() {
-    return new ArrayList<>(issueCache.values());
+    return issueCache.values();
   }
 
   @Override
   public void saveAll(Set<Integer> issueNumbers, Collection<GithubIssue> issues) {
-    issues.forEach(issue -> issueCache.put(issue.getIssueNumber(), issue));
-    saveIssues();
+    // 실제로 바뀐 이슈가 있을 때만 파일 기록
+    boolean changed = false;
+    for (GithubIssue issue : issues) {
+      GithubIssue previous = issueCache.put(issue.getIssueNumber(), issue);
+      if (previous != issue) {
+        changed = true;
+      }
+    }
+    if (changed) {
+      issuesDirty.set(true);
+    }
 
-    // 이슈 번호로부터 새 해시 계산 및 저장
-    String concatenated = issueNumbers.stream().map(String::valueOf)
-        .sorted().collect(Collectors.joining());
-    String hash = calculateHash(concatenated);
-    saveHash(hash);
+    // 이슈 번호로부터 새 해시 계산 후 달라졌을 때만 저장 (이슈와 함께 기록)
+    String hash = IssueSetFingerprint.of(issueNumbers);
+    if (!hash.equals(this.currentHash)) {
+      this.currentHash = hash;
+      pendingHash.set(hash);
+      changed = true;
+    }
+    if (changed) {
+      requestFlush();
+    }
   }
 
   @Override
   public String getCurrentHash() {
     return this.currentHash;
   }
-
-  /**
-   * 문자열에서 해시 계산 (MD5)
-   */
-  private String calculateHash(String input) {
-    try {
-      MessageDigest md = MessageDigest.getInstance("SHA-256");
-      byte[] hashBytes = md.digest(input.getBytes(StandardCharsets.UTF_8));
-
-      StringBuilder sb = new StringBuilder();
-      for (byte b : hashBytes) {
-        sb.append(String.format("%02x", b));
-      }
-      return sb.toString();
-    } catch (NoSuchAlgorithmException e) {
-      log.error("해시 계산에 실패했습니다: {}", e.getMessage());
-      throw new RuntimeException("해시 계산을 위한 알고리즘을 찾을 수 없습니다", e);
-    }
-  }
-}
\ No newline at end of file
+}
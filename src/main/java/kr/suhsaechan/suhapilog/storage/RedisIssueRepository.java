@@ -0,0 +1,299 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * Redis 호환 키-값 저장소에 이슈를 해시로 저장하는 리포지토리 (suhapilog.storage.type=REDIS)
+ *
+ * <p>이슈 하나를 해시 키 하나(keyPrefix + 저장소 주소 + ":" + 이슈 번호)에 필드별로 저장하므로
+ * 여러 인스턴스와 여러 서비스가 한 서버를 공유해도 섞이지 않음.
+ * findAllByIssueNumbers 는 메모리에 없는 이슈의 HGETALL 을 한 번에 파이프라인으로 보내고,
+ * saveAll 은 이슈마다 HSET 과 PEXPIRE 를 파이프라인으로 묶어 왕복 1회로 기록함.
+ * ttl 이 지난 이슈는 서버에서 사라지고 다음 동기화에서 다시 조회됨.
+ * 조회한 이슈는 cacheTtl 동안만 메모리에 보관하여 다른 인스턴스가 갱신한 이슈도 그 뒤에는 다시 읽으며,
+ * 이슈 구성 해시는 서비스마다 다르므로 메모리에만 보관함.
+ * 서버에 연결할 수 없으면 오류를 기록하고 저장되지 않은 것으로 처리함</p>
+ */
+public class RedisIssueRepository implements IssueRepository, AutoCloseable {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(RedisIssueRepository.class);
+
+  public static final String DEFAULT_KEY_PREFIX = "suhapilog:issue:";
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(2);
+  private static final int SCAN_COUNT = 500;
+
+  private static final String CLEAN_TITLE = "cleanTitle";
+  private static final String RAW_TITLE = "rawTitle";
+  private static final String PAGE_URL = "pageUrl";
+  private static final String FETCHED_AT = "fetchedAt";
+  private static final String ETAG = "etag";
+  private static final String LAST_MODIFIED = "lastModified";
+  private static final String MISSING = "missing";
+  private static final String FAILURE_COUNT = "failureCount";
+
+  private final RespClient client;
+  private final String keyPrefix;
+  private final long ttlMillis;
+  private final ExpiringIssueCache issueCache;
+  private volatile String currentHash = "";
+
+  /**
+   * @param url redis://[[사용자]:비밀번호@]호스트[:포트][/DB 번호]
+   * @param keyPrefix 키 접두사
+   * @param repositoryUrl 이슈를 구분할 GitHub 저장소 주소 (suhapilog.github.base-url)
+   * @param ttl 저장한 이슈의 만료 시간 (0 이면 만료 없음)
+   */
+  public RedisIssueRepository(String url, String keyPrefix, String repositoryUrl, Duration ttl) {
+    this(url, keyPrefix, repositoryUrl, ttl, DEFAULT_TIMEOUT, JdbcIssueRepository.DEFAULT_CACHE_TTL);
+  }
+
+  /**
+   * @param timeout 연결과 응답 대기 제한 시간
+   * @param cacheTtl 조회한 이슈를 메모리에 보관하는 시간 (0 이면 매번 조회)
+   */
+  public RedisIssueRepository(String url, String keyPrefix, String repositoryUrl, Duration ttl, Duration timeout,
+      Duration cacheTtl) {
+    this(new RespClient(url, timeout == null ? DEFAULT_TIMEOUT : timeout), keyPrefix, repositoryUrl, ttl, cacheTtl);
+  }
+
+  RedisIssueRepository(RespClient client, String keyPrefix, String repositoryUrl, Duration ttl) {
+    this(client, keyPrefix, repositoryUrl, ttl, JdbcIssueRepository.DEFAULT_CACHE_TTL);
+  }
+
+  RedisIssueRepository(RespClient client, String keyPrefix, String repositoryUrl, Duration ttl, Duration cacheTtl) {
+    this.client = client;
+    this.issueCache = new ExpiringIssueCache(cacheTtl);
+    this.keyPrefix = (keyPrefix == null ? DEFAULT_KEY_PREFIX : keyPrefix) + repositoryKey(repositoryUrl) + ":";
+    this.ttlMillis = ttl == null ? 0 : Math.max(0, ttl.toMillis());
+    log.debug("Redis 이슈 저장소 사용: {} (키 {}*)", client, this.keyPrefix);
+  }
+
+  /**
+   * 저장소 주소에서 스킴과 끝의 / 를 뺀 키 구분자
+   */
+  private static String repositoryKey(String repositoryUrl) {
+    if (repositoryUrl == null) {
+      return "";
+    }
+    String key = repositoryUrl.replaceFirst("^[a-zA-Z]+://", "");
+    while (key.endsWith("/")) {
+      key = key.substring(0, key.length() - 1);
+    }
+    return key;
+  }
+
+  @Override
+  public Optional<GithubIssue> findByIssueNumber(Integer issueNumber) {
+    GithubIssue cached = issueCache.get(issueNumber);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    return reload(issueNumber);
+  }
+
+  /**
+   * 메모리에 보관한 값과 관계없이 서버에서 다시 읽음 (다른 인스턴스가 먼저 갱신했는지 확인용)
+   */
+  @Override
+  public Optional<GithubIssue> reload(Integer issueNumber) {
+    Map<Integer, GithubIssue> found = new HashMap<>();
+    load(List.of(issueNumber), found);
+    return Optional.ofNullable(found.get(issueNumber));
+  }
+
+  /**
+   * 메모리에 없는 이슈의 HGETALL 을 한 번의 파이프라인으로 조회
+   */
+  @Override
+  public Map<Integer, GithubIssue> findAllByIssueNumbers(Collection<Integer> issueNumbers) {
+    Map<Integer, GithubIssue> found = new HashMap<>();
+    List<Integer> uncached = new ArrayList<>();
+    for (Integer issueNumber : issueNumbers) {
+      GithubIssue cached = issueCache.get(issueNumber);
+      if (cached != null) {
+        found.put(issueNumber, cached);
+      } else {
+        uncached.add(issueNumber);
+      }
+    }
+    if (!uncached.isEmpty()) {
+      load(uncached, found);
+    }
+    return found;
+  }
+
+  /**
+   * 이슈들의 HGETALL 을 한 번의 파이프라인으로 보내 found 에 추가
+   */
+  private void load(List<Integer> uncached, Map<Integer, GithubIssue> found) {
+    List<List<String>> commands = new ArrayList<>(uncached.size());
+    for (Integer issueNumber : uncached) {
+      commands.add(List.of("HGETALL", key(issueNumber)));
+    }
+
+    try {
+      List<Object> replies = client.pipeline(commands);
+      int loaded = 0;
+      for (int i = 0; i < uncached.size(); i++) {
+        GithubIssue issue = decode(uncached.get(i), replies.get(i));
+        if (issue != null) {
+          issueCache.put(issue);
+          found.put(issue.getIssueNumber(), issue);
+          loaded++;
+        }
+      }
+      log.debug("이슈 {}개 중 {}개를 Redis 에서 로드했습니다", uncached.size(), loaded);
+    } catch (IOException e) {
+      log.error("Redis 에서 이슈를 조회하는 데 실패했습니다: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public GithubIssue save(GithubIssue issue) {
+    write(List.of(issue));
+    return issue;
+  }
+
+  /**
+   * 키 접두사로 SCAN 한 뒤 모든 키를 파이프라인으로 조회
+   */
+  @Override
+  public Collection<GithubIssue> findAll() {
+    List<Integer> issueNumbers = new ArrayList<>();
+    String pattern = escapeGlob(keyPrefix) + "*";
+    try {
+      String cursor = "0";
+      do {
+        List<Object> reply = client.pipeline(List.of(
+            List.of("SCAN", cursor, "MATCH", pattern, "COUNT", String.valueOf(SCAN_COUNT))));
+        List<?> page = (List<?>) reply.get(0);
+        cursor = (String) page.get(0);
+        for (Object key : (List<?>) page.get(1)) {
+          try {
+            issueNumbers.add(Integer.parseInt(((String) key).substring(keyPrefix.length())));
+          } catch (NumberFormatException ignored) {
+            // 다른 용도로 같은 접두사를 쓰는 키
+          }
+        }
+      } while (!"0".equals(cursor));
+    } catch (IOException | RuntimeException e) {
+      log.error("Redis 이슈 목록을 조회하는 데 실패했습니다: {}", e.getMessage());
+      return issueCache.values();
+    }
+    return findAllByIssueNumbers(issueNumbers).values();
+  }
+
+  @Override
+  public void saveAll(Set<Integer> issueNumbers, Collection<GithubIssue> issues) {
+    if (!issues.isEmpty()) {
+      write(issues);
+    }
+    this.currentHash = IssueSetFingerprint.of(issueNumbers);
+  }
+
+  @Override
+  public String getCurrentHash() {
+    return currentHash;
+  }
+
+  /**
+   * 이슈마다 HSET (+ PEXPIRE) 을 묶어 한 번의 파이프라인으로 기록
+   * 값이 없는 필드도 빈 문자열로 기록하여 이전 값이 남지 않게 함
+   */
+  private void write(Collection<GithubIssue> issues) {
+    List<List<String>> commands = new ArrayList<>(issues.size() * 2);
+    for (GithubIssue issue : issues) {
+      String key = key(issue.getIssueNumber());
+      commands.add(List.of("HSET", key,
+          CLEAN_TITLE, nullToEmpty(issue.getCleanTitle()),
+          RAW_TITLE, nullToEmpty(issue.getRawTitle()),
+          PAGE_URL, nullToEmpty(issue.getPageUrl()),
+          FETCHED_AT, issue.getFetchedAt() == null ? "" : issue.getFetchedAt().toString(),
+          ETAG, nullToEmpty(issue.getEtag()),
+          LAST_MODIFIED, nullToEmpty(issue.getLastModified()),
+          MISSING, issue.isMissing() ? "1" : "0",
+          FAILURE_COUNT, String.valueOf(issue.getFailureCount())));
+      if (ttlMillis > 0) {
+        commands.add(List.of("PEXPIRE", key, String.valueOf(ttlMillis)));
+      }
+    }
+    try {
+      client.pipeline(commands);
+      issues.forEach(issueCache::put);
+      log.debug("이슈 {}개를 Redis 에 저장했습니다", issues.size());
+    } catch (IOException e) {
+      log.error("Redis 에 이슈 {}개를 저장하는 데 실패했습니다: {}", issues.size(), e.getMessage());
+    }
+  }
+
+  /**
+   * HGETALL 응답(필드, 값 반복)을 이슈로 변환 (키가 없으면 빈 목록 → null)
+   */
+  private static GithubIssue decode(Integer issueNumber, Object reply) {
+    if (!(reply instanceof List) || ((List<?>) reply).isEmpty()) {
+      return null;
+    }
+    List<?> pairs = (List<?>) reply;
+    Map<String, String> fields = new HashMap<>();
+    for (int i = 0; i + 1 < pairs.size(); i += 2) {
+      fields.put((String) pairs.get(i), (String) pairs.get(i + 1));
+    }
+    String fetchedAt = emptyToNull(fields.get(FETCHED_AT));
+    String failureCount = emptyToNull(fields.get(FAILURE_COUNT));
+    try {
+      return GithubIssue.builder()
+          .issueNumber(issueNumber)
+          .cleanTitle(emptyToNull(fields.get(CLEAN_TITLE)))
+          .rawTitle(emptyToNull(fields.get(RAW_TITLE)))
+          .pageUrl(emptyToNull(fields.get(PAGE_URL)))
+          .fetchedAt(fetchedAt == null ? null : LocalDateTime.parse(fetchedAt))
+          .etag(emptyToNull(fields.get(ETAG)))
+          .lastModified(emptyToNull(fields.get(LAST_MODIFIED)))
+          .missing("1".equals(fields.get(MISSING)))
+          .failureCount(failureCount == null ? 0 : Integer.parseInt(failureCount))
+          .build();
+    } catch (RuntimeException e) {
+      log.warn("Redis 에 저장된 이슈 {} 를 읽을 수 없어 무시합니다: {}", issueNumber, e.getMessage());
+      return null;
+    }
+  }
+
+  private String key(Integer issueNumber) {
+    return keyPrefix + issueNumber;
+  }
+
+  private static String escapeGlob(String value) {
+    return value.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+  }
+
+  private static String nullToEmpty(String value) {
+    return value == null ? "" : value;
+  }
+
+  private static String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  String getKeyPrefix() {
+    return keyPrefix;
+  }
+
+  long getRoundTrips() {
+    return client.getRoundTrips();
+  }
+
+  @Override
+  public void close() {
+    client.close();
+  }
+}
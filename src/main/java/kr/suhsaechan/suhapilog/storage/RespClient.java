@@ -0,0 +1,306 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * Redis 호환 저장소용 최소 RESP2 클라이언트 (RedisIssueRepository 전용)
+ *
+ * <p>연결 하나를 공유하며 명령 목록을 한 번에 전송한 뒤 응답을 순서대로 읽는 파이프라인만 지원함.
+ * 연결은 처음 사용할 때 맺고, 입출력 오류가 나면 닫은 뒤 다음 호출에서 다시 연결함.
+ * 서버 오류 응답(-ERR)은 모든 응답을 읽은 뒤 예외로 알려 연결 상태를 유지함</p>
+ */
+final class RespClient implements AutoCloseable {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(RespClient.class);
+
+  private static final int DEFAULT_PORT = 6379;
+  private static final byte[] CRLF = {'\r', '\n'};
+
+  private final String host;
+  private final int port;
+  private final boolean ssl;
+  private final SSLSocketFactory sslSocketFactory;
+  private final String username;
+  private final String password;
+  private final int database;
+  private final int timeoutMillis;
+
+  // 아래 필드는 this 잠금 안에서만 사용
+  private Socket socket;
+  private InputStream in;
+  private OutputStream out;
+  private long roundTrips;
+
+  /**
+   * @param url redis://[[사용자]:비밀번호@]호스트[:포트][/DB 번호] (TLS 는 rediss://)
+   */
+  RespClient(String url, Duration timeout) {
+    this(url, timeout, (SSLSocketFactory) SSLSocketFactory.getDefault());
+  }
+
+  /**
+   * @param sslSocketFactory rediss:// 연결에 사용할 소켓 팩토리 (신뢰할 인증서 지정용)
+   */
+  RespClient(String url, Duration timeout, SSLSocketFactory sslSocketFactory) {
+    URI uri = URI.create(url);
+    if (!"redis".equals(uri.getScheme()) && !"rediss".equals(uri.getScheme())) {
+      throw new IllegalArgumentException("redis:// 또는 rediss:// 주소가 필요합니다: " + url);
+    }
+    if (uri.getHost() == null) {
+      throw new IllegalArgumentException("Redis 호스트가 없습니다: " + url);
+    }
+    this.host = uri.getHost();
+    this.port = uri.getPort() > 0 ? uri.getPort() : DEFAULT_PORT;
+    this.ssl = "rediss".equals(uri.getScheme());
+    this.sslSocketFactory = sslSocketFactory;
+
+    String userInfo = uri.getUserInfo();
+    if (userInfo == null || userInfo.isEmpty()) {
+      this.username = null;
+      this.password = null;
+    } else if (userInfo.contains(":")) {
+      String user = userInfo.substring(0, userInfo.indexOf(':'));
+      this.username = user.isEmpty() ? null : user;
+      this.password = userInfo.substring(userInfo.indexOf(':') + 1);
+    } else {
+      this.username = null;
+      this.password = userInfo;
+    }
+
+    String path = uri.getPath() == null ? "" : uri.getPath().replace("/", "");
+    try {
+      this.database = path.isEmpty() ? 0 : Integer.parseInt(path);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Redis DB 번호가 올바르지 않습니다: " + url, e);
+    }
+    this.timeoutMillis = (int) Math.max(1, Math.min(Integer.MAX_VALUE, timeout.toMillis()));
+  }
+
+  /**
+   * 명령을 모두 전송한 뒤 응답을 순서대로 읽음 (왕복 1회)
+   *
+   * @return 명령별 응답 (문자열, Long, null 또는 List)
+   */
+  synchronized List<Object> pipeline(List<List<String>> commands) throws IOException {
+    if (commands.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<Object> replies = new ArrayList<>(commands.size());
+    String error = null;
+    try {
+      connect();
+      for (List<String> command : commands) {
+        writeCommand(command);
+      }
+      out.flush();
+      roundTrips++;
+      for (int i = 0; i < commands.size(); i++) {
+        Object reply = readReply();
+        if (reply instanceof ErrorReply && error == null) {
+          error = ((ErrorReply) reply).message;
+        }
+        replies.add(reply);
+      }
+    } catch (IOException | RuntimeException e) {
+      // 응답을 끝까지 읽지 못한 연결은 남은 응답 때문에 다음 명령과 어긋나므로 다시 쓰지 않음
+      disconnect();
+      throw e;
+    }
+    if (error != null) {
+      throw new IOException("Redis 오류 응답: " + error);
+    }
+    return replies;
+  }
+
+  synchronized long getRoundTrips() {
+    return roundTrips;
+  }
+
+  private void connect() throws IOException {
+    if (socket != null) {
+      return;
+    }
+    Socket plain = new Socket();
+    try {
+      plain.connect(new InetSocketAddress(host, port), timeoutMillis);
+      plain.setSoTimeout(timeoutMillis);
+      plain.setTcpNoDelay(true);
+      Socket connected = ssl ? startTls(plain) : plain;
+      this.socket = connected;
+      this.in = new BufferedInputStream(connected.getInputStream());
+      this.out = new BufferedOutputStream(connected.getOutputStream());
+    } catch (IOException e) {
+      plain.close();
+      throw e;
+    }
+
+    List<List<String>> handshake = new ArrayList<>();
+    if (password != null) {
+      handshake.add(username != null ? List.of("AUTH", username, password) : List.of("AUTH", password));
+    }
+    if (database != 0) {
+      handshake.add(List.of("SELECT", String.valueOf(database)));
+    }
+    for (List<String> command : handshake) {
+      writeCommand(command);
+    }
+    out.flush();
+    for (int i = 0; i < handshake.size(); i++) {
+      Object reply = readReply();
+      if (reply instanceof ErrorReply) {
+        disconnect();
+        throw new IOException("Redis 연결 초기화 실패: " + ((ErrorReply) reply).message);
+      }
+    }
+    log.debug("Redis 연결됨: {}:{} (DB {})", host, port, database);
+  }
+
+  /**
+   * TLS 핸드셰이크 (인증서가 접속한 호스트 이름과 맞는지도 확인하여 중간자 공격 차단)
+   */
+  private Socket startTls(Socket plain) throws IOException {
+    SSLSocket sslSocket = (SSLSocket) sslSocketFactory.createSocket(plain, host, port, true);
+    SSLParameters parameters = sslSocket.getSSLParameters();
+    parameters.setEndpointIdentificationAlgorithm("HTTPS");
+    sslSocket.setSSLParameters(parameters);
+    sslSocket.startHandshake();
+    return sslSocket;
+  }
+
+  private void writeCommand(List<String> command) throws IOException {
+    writeLine('*', command.size());
+    for (String argument : command) {
+      byte[] bytes = argument.getBytes(StandardCharsets.UTF_8);
+      writeLine('$', bytes.length);
+      out.write(bytes);
+      out.write(CRLF);
+    }
+  }
+
+  private void writeLine(char type, long value) throws IOException {
+    out.write(type);
+    out.write(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+    out.write(CRLF);
+  }
+
+  private Object readReply() throws IOException {
+    int type = in.read();
+    if (type < 0) {
+      throw new EOFException("Redis 연결이 끊어졌습니다");
+    }
+    String line = readLine();
+    switch (type) {
+      case '+':
+        return line;
+      case '-':
+        return new ErrorReply(line);
+      case ':':
+        return parseLong(line);
+      case '$': {
+        int length = parseInt(line);
+        if (length < 0) {
+          return null;
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length || in.read() != '\r' || in.read() != '\n') {
+          throw new EOFException("Redis 응답이 잘렸습니다");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+      }
+      case '*': {
+        int count = parseInt(line);
+        if (count < 0) {
+          return null;
+        }
+        List<Object> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          elements.add(readReply());
+        }
+        return elements;
+      }
+      default:
+        throw new IOException("알 수 없는 Redis 응답 형식: " + (char) type);
+    }
+  }
+
+  /**
+   * 응답의 숫자를 읽을 수 없으면 프로토콜 오류(IOException)로 처리
+   */
+  private static long parseLong(String line) throws IOException {
+    try {
+      return Long.parseLong(line);
+    } catch (NumberFormatException e) {
+      throw new IOException("Redis 응답의 숫자를 읽을 수 없습니다: " + line, e);
+    }
+  }
+
+  private static int parseInt(String line) throws IOException {
+    try {
+      return Integer.parseInt(line);
+    } catch (NumberFormatException e) {
+      throw new IOException("Redis 응답의 길이를 읽을 수 없습니다: " + line, e);
+    }
+  }
+
+  private String readLine() throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream(16);
+    int b;
+    while ((b = in.read()) != '\r') {
+      if (b < 0) {
+        throw new EOFException("Redis 연결이 끊어졌습니다");
+      }
+      line.write(b);
+    }
+    if (in.read() != '\n') {
+      throw new IOException("Redis 응답 줄 끝이 올바르지 않습니다");
+    }
+    return line.toString(StandardCharsets.UTF_8);
+  }
+
+  private void disconnect() {
+    if (socket != null) {
+      try {
+        socket.close();
+      } catch (IOException ignored) {
+        // 이미 끊긴 연결
+      }
+    }
+    socket = null;
+    in = null;
+    out = null;
+  }
+
+  @Override
+  public synchronized void close() {
+    disconnect();
+  }
+
+  @Override
+  public String toString() {
+    return (ssl ? "rediss://" : "redis://") + host + ":" + port + "/" + database;
+  }
+
+  private static final class ErrorReply {
+    final String message;
+
+    ErrorReply(String message) {
+      this.message = message;
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 저장소 파일 기록 유틸리티
+ */
+final class StorageFiles {
+
+  private StorageFiles() {
+    // 유틸리티 클래스
+  }
+
+  /**
+   * 임시 파일에 쓴 뒤 교체하여 기록 (기록 도중 종료돼도 기존 파일 유지)
+   */
+  static void writeAtomically(Path target, ObjectWriter objectWriter, Object value) throws IOException {
+    Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+    try (OutputStream out = Files.newOutputStream(temp)) {
+      objectWriter.writeValue(out, value);
+    }
+    try {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
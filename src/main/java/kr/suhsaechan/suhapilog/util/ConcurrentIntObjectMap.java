@@ -0,0 +1,164 @@
+package kr.suhsaechan.suhapilog.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * int 키 전용 동시성 맵 (이슈 번호 → 이슈)
+ *
+ * <p>키를 박싱하지 않고 int 배열에 그대로 저장하는 개방 주소법(선형 탐사) 해시 테이블.
+ * 읽기는 잠금 없이 수행되어 쓰기 중에도 막히지 않으며, 쓰기는 하나씩 직렬화됨.
+ * 새 항목은 값을 먼저 기록한 뒤 키를 기록하므로 키를 본 읽기는 항상 값도 봄.
+ * 테이블이 절반 이상 차면 두 배 크기의 새 테이블로 복사한 뒤 교체함.
+ * 저장소 용도로만 사용하므로 삭제는 지원하지 않음</p>
+ */
+public class ConcurrentIntObjectMap<V> {
+
+  // 빈 슬롯 표시 (키 0 은 별도 필드에 저장)
+  private static final int FREE = 0;
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private static final class Table<V> {
+    final AtomicIntegerArray keys;
+    final AtomicReferenceArray<V> values;
+    final int mask;
+
+    Table(int capacity) {
+      this.keys = new AtomicIntegerArray(capacity);
+      this.values = new AtomicReferenceArray<>(capacity);
+      this.mask = capacity - 1;
+    }
+  }
+
+  private volatile Table<V> table;
+  private volatile V zeroKeyValue;
+  private volatile int size;
+
+  public ConcurrentIntObjectMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param expectedSize 예상 항목 수 (이 수만큼은 테이블 확장 없이 저장)
+   */
+  public ConcurrentIntObjectMap(int expectedSize) {
+    this.table = new Table<>(tableSizeFor(Math.max(expectedSize, 1) * 2));
+  }
+
+  /**
+   * 키에 해당하는 값 조회 (잠금 없음)
+   */
+  public V get(int key) {
+    if (key == FREE) {
+      return zeroKeyValue;
+    }
+    Table<V> current = table;
+    int index = hash(key) & current.mask;
+    while (true) {
+      int slotKey = current.keys.get(index);
+      if (slotKey == key) {
+        return current.values.get(index);
+      }
+      if (slotKey == FREE) {
+        return null;
+      }
+      index = (index + 1) & current.mask;
+    }
+  }
+
+  /**
+   * 값 저장
+   *
+   * @return 이전 값 (없으면 null)
+   */
+  public synchronized V put(int key, V value) {
+    if (value == null) {
+      throw new NullPointerException("value");
+    }
+    if (key == FREE) {
+      V previous = zeroKeyValue;
+      zeroKeyValue = value;
+      if (previous == null) {
+        size++;
+      }
+      return previous;
+    }
+
+    Table<V> current = table;
+    int index = hash(key) & current.mask;
+    while (true) {
+      int slotKey = current.keys.get(index);
+      if (slotKey == key) {
+        return current.values.getAndSet(index, value);
+      }
+      if (slotKey == FREE) {
+        // 값을 먼저 기록해야 키를 본 읽기가 null 을 받지 않음
+        current.values.set(index, value);
+        current.keys.set(index, key);
+        size++;
+        if (size * 2 > current.keys.length()) {
+          table = resize(current);
+        }
+        return null;
+      }
+      index = (index + 1) & current.mask;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * 현재 값 목록 (복사본)
+   */
+  public List<V> values() {
+    Table<V> current = table;
+    List<V> values = new ArrayList<>(size);
+    V zero = zeroKeyValue;
+    if (zero != null) {
+      values.add(zero);
+    }
+    for (int i = 0; i < current.keys.length(); i++) {
+      if (current.keys.get(i) != FREE) {
+        values.add(current.values.get(i));
+      }
+    }
+    return values;
+  }
+
+  private static <V> Table<V> resize(Table<V> current) {
+    Table<V> resized = new Table<>(current.keys.length() * 2);
+    for (int i = 0; i < current.keys.length(); i++) {
+      int key = current.keys.get(i);
+      if (key != FREE) {
+        int index = hash(key) & resized.mask;
+        while (resized.keys.get(index) != FREE) {
+          index = (index + 1) & resized.mask;
+        }
+        resized.values.set(index, current.values.get(i));
+        resized.keys.set(index, key);
+      }
+    }
+    return resized;
+  }
+
+  /**
+   * 연속된 이슈 번호가 한쪽에 몰리지 않도록 비트를 섞음
+   */
+  private static int hash(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private static int tableSizeFor(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+    return size < 0 ? 1 << 30 : size;
+  }
+}
@@ -0,0 +1,143 @@
+package kr.suhsaechan.suhapilog.util;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합치는 유틸리티
+ *
+ * <p>키별로 진행 중인 호출이 하나만 존재하며, 그동안 들어온 같은 키의 호출은 새로 실행하지 않고
+ * 진행 중인 호출의 결과(또는 예외)를 함께 받음. 호출이 끝나면 키가 제거되므로 결과를 캐시하지는 않음</p>
+ */
+public class SingleFlight<K, V> {
+
+  @FunctionalInterface
+  public interface Call<V> {
+    V call() throws Exception;
+  }
+
+  @FunctionalInterface
+  public interface BatchCall<K, V> {
+    Map<K, V> call(Set<K> keys) throws Exception;
+  }
+
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * 현재 스레드에서 실행 (같은 키의 호출이 진행 중이면 실행하지 않고 그 결과를 기다림)
+   *
+   * @throws Exception 호출이 던진 예외 (다른 스레드의 호출에 합류한 경우에도 같은 예외)
+   */
+  public V execute(K key, Call<V> call) throws Exception {
+    CompletableFuture<V> created = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+    if (existing != null) {
+      return await(existing);
+    }
+
+    try {
+      V value = call.call();
+      created.complete(value);
+      return value;
+    } catch (Throwable e) {
+      created.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, created);
+    }
+  }
+
+  /**
+   * executor 에서 실행 (같은 키의 호출이 진행 중이면 그 결과를 반환)
+   */
+  public CompletableFuture<V> submit(K key, Executor executor, Call<V> call) {
+    CompletableFuture<V> created = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+    if (existing != null) {
+      return existing;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          created.complete(call.call());
+        } catch (Throwable e) {
+          created.completeExceptionally(e);
+        } finally {
+          inFlight.remove(key, created);
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlight.remove(key, created);
+      created.completeExceptionally(e);
+    }
+    return created;
+  }
+
+  /**
+   * 여러 키를 executor 에서 한 번의 호출로 실행
+   * 이미 진행 중인 키는 그 결과를 반환하고, 나머지 키만 모아 call 에 전달함
+   * call 의 결과에 없는 키는 null 로 완료됨
+   */
+  public Map<K, CompletableFuture<V>> submitAll(Collection<K> keys, Executor executor, BatchCall<K, V> call) {
+    Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+    Map<K, CompletableFuture<V>> claimed = new LinkedHashMap<>();
+    for (K key : keys) {
+      CompletableFuture<V> created = new CompletableFuture<>();
+      CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+      futures.put(key, existing != null ? existing : created);
+      if (existing == null) {
+        claimed.put(key, created);
+      }
+    }
+    if (claimed.isEmpty()) {
+      return futures;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          Map<K, V> values = call.call(new LinkedHashSet<>(claimed.keySet()));
+          claimed.forEach((key, created) -> created.complete(values.get(key)));
+        } catch (Throwable e) {
+          claimed.values().forEach(created -> created.completeExceptionally(e));
+        } finally {
+          claimed.forEach(inFlight::remove);
+        }
+      });
+    } catch (RuntimeException e) {
+      claimed.forEach(inFlight::remove);
+      claimed.values().forEach(created -> created.completeExceptionally(e));
+    }
+    return futures;
+  }
+
+  /**
+   * 같은 키의 호출이 진행 중인지 확인
+   */
+  public boolean isInFlight(K key) {
+    return inFlight.containsKey(key);
+  }
+
+  private static <V> V await(CompletableFuture<V> future) throws Exception {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package kr.suhsaechan.suhapilog.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라이브러리 내부 작업용 ExecutorService 생성 유틸리티
+ * Java 21 이상에서는 가상 스레드를, 그 이하에서는 데몬 스레드 고정 풀을 사용
+ */
+public class SuhExecutors {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(SuhExecutors.class);
+
+  private SuhExecutors() {
+    // 유틸리티 클래스
+  }
+
+  /**
+   * I/O 작업용 Executor 생성
+   * 가상 스레드 Executor 는 스레드 수 제한이 없으므로 호출 측에서 동시 실행 수를 제한해야 함
+   *
+   * @param namePrefix  스레드 이름 접두사
+   * @param poolSize    가상 스레드를 사용할 수 없을 때의 고정 풀 크기
+   */
+  public static ExecutorService newIoExecutor(String namePrefix, int poolSize) {
+    ExecutorService virtualExecutor = newVirtualThreadExecutor();
+    if (virtualExecutor != null) {
+      log.debug("{} - 가상 스레드 Executor 사용", namePrefix);
+      return virtualExecutor;
+    }
+    log.debug("{} - 고정 스레드 풀 사용 (크기: {})", namePrefix, poolSize);
+    return Executors.newFixedThreadPool(Math.max(1, poolSize), daemonThreadFactory(namePrefix));
+  }
+
+  /**
+   * 데몬 스레드를 생성하는 ThreadFactory (애플리케이션 종료를 막지 않음)
+   */
+  public static ThreadFactory daemonThreadFactory(String namePrefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Executors.newVirtualThreadPerTaskExecutor() 호출 (Java 17 컴파일 호환을 위해 리플렉션 사용)
+   */
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (NoSuchMethodException e) {
+      return null;
+    } catch (Exception e) {
+      log.debug("가상 스레드 Executor 생성 실패: {}", e.getMessage());
+      return null;
+    }
+  }
+}
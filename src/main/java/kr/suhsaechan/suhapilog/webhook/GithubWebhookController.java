@@ -0,0 +1,56 @@
+package kr.suhsaechan.suhapilog.webhook;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import java.io.IOException;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * GitHub issues 웹훅 수신 엔드포인트 (suhapilog.webhook.enabled=true 일 때만 등록)
+ * 이 패키지가 컴포넌트 스캔 대상이어도 웹훅을 켜지 않았으면 등록되지 않도록 같은 조건을 둠
+ */
+@Hidden
+@RestController
+@ConditionalOnProperty(prefix = "suhapilog.webhook", name = "enabled", havingValue = "true")
+public class GithubWebhookController {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(GithubWebhookController.class);
+
+  private final GithubWebhookHandler webhookHandler;
+
+  public GithubWebhookController(GithubWebhookHandler webhookHandler) {
+    this.webhookHandler = webhookHandler;
+  }
+
+  @PostMapping(path = "${suhapilog.webhook.path:/suhapilog/webhook/github}")
+  public ResponseEntity<String> receive(
+      @RequestHeader(value = GithubWebhookHandler.EVENT_HEADER, required = false) String event,
+      @RequestHeader(value = GithubWebhookHandler.SIGNATURE_HEADER, required = false) String signature,
+      @RequestBody(required = false) byte[] body) {
+
+    byte[] payload = body != null ? body : new byte[0];
+    if (!webhookHandler.isValidSignature(payload, signature)) {
+      log.warn("서명이 올바르지 않은 웹훅 요청을 거부했습니다 (event: {})", event);
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("invalid signature");
+    }
+
+    try {
+      switch (webhookHandler.handle(event, payload)) {
+        case UPDATED:
+          return ResponseEntity.ok("updated");
+        case PONG:
+          return ResponseEntity.ok("pong");
+        default:
+          return ResponseEntity.status(HttpStatus.ACCEPTED).body("ignored");
+      }
+    } catch (IOException e) {
+      log.warn("웹훅 본문을 읽을 수 없습니다: {}", e.getMessage());
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("invalid payload");
+    }
+  }
+}
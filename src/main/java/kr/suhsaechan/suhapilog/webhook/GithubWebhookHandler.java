@@ -0,0 +1,128 @@
+package kr.suhsaechan.suhapilog.webhook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.service.GithubIssueService;
+import kr.suhsaechan.suhapilog.util.SuhApiLogger;
+
+/**
+ * GitHub issues 웹훅 처리기
+ *
+ * <p>X-Hub-Signature-256 서명을 검증한 뒤 issues 이벤트의 제목을 저장된 이슈에 반영함.
+ * 저장소에 있는 이슈만 갱신하므로 @ApiLog 에서 참조하지 않는 이슈는 저장되지 않음</p>
+ */
+public class GithubWebhookHandler {
+  private static final SuhApiLogger log = SuhApiLogger.getLogger(GithubWebhookHandler.class);
+
+  public static final String SIGNATURE_HEADER = "X-Hub-Signature-256";
+  public static final String EVENT_HEADER = "X-GitHub-Event";
+  private static final String SIGNATURE_PREFIX = "sha256=";
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  public enum Result {
+    // 이슈가 갱신됨
+    UPDATED,
+    // 처리 대상이 아님 (다른 이벤트, 다른 저장소, 저장되지 않은 이슈)
+    IGNORED,
+    // ping 이벤트 (웹훅 등록 확인)
+    PONG
+  }
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final GithubIssueService githubIssueService;
+  private final byte[] secret;
+
+  public GithubWebhookHandler(GithubIssueService githubIssueService, String secret) {
+    if (secret == null || secret.isEmpty()) {
+      throw new IllegalStateException("suhapilog.webhook.secret 이 설정되지 않았습니다 (서명 없는 웹훅은 받지 않습니다)");
+    }
+    this.githubIssueService = githubIssueService;
+    this.secret = secret.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * X-Hub-Signature-256 서명 검증 (sha256=HMAC-SHA256(secret, body) 16진수, 상수 시간 비교)
+   */
+  public boolean isValidSignature(byte[] body, String signatureHeader) {
+    if (signatureHeader == null || !signatureHeader.startsWith(SIGNATURE_PREFIX)) {
+      return false;
+    }
+    byte[] expected = (SIGNATURE_PREFIX + sign(body)).getBytes(StandardCharsets.US_ASCII);
+    byte[] actual = signatureHeader.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+    return MessageDigest.isEqual(expected, actual);
+  }
+
+  /**
+   * 본문의 HMAC-SHA256 서명 (16진수)
+   */
+  public String sign(byte[] body) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+      byte[] digest = mac.doFinal(body);
+      StringBuilder hex = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return hex.toString();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("웹훅 서명 계산 실패", e);
+    }
+  }
+
+  /**
+   * 서명이 검증된 웹훅 처리
+   *
+   * @param event X-GitHub-Event 헤더 값
+   * @throws IOException 본문이 올바른 JSON 이 아닌 경우
+   */
+  public Result handle(String event, byte[] body) throws IOException {
+    if ("ping".equals(event)) {
+      return Result.PONG;
+    }
+    if (!"issues".equals(event)) {
+      return Result.IGNORED;
+    }
+
+    JsonNode payload = objectMapper.readTree(body);
+    String action = payload.path("action").asText("");
+    JsonNode issue = payload.path("issue");
+    int issueNumber = issue.path("number").asInt(0);
+    String htmlUrl = issue.path("html_url").asText("");
+    if (issueNumber <= 0 || !isTrackedRepository(issueNumber, htmlUrl)) {
+      log.debug("다른 저장소의 웹훅 무시: {}", htmlUrl);
+      return Result.IGNORED;
+    }
+
+    Optional<GithubIssue> updated;
+    if ("deleted".equals(action) || "transferred".equals(action)) {
+      updated = githubIssueService.markCachedIssueMissing(issueNumber);
+    } else {
+      // edited, closed, reopened 등 제목이 포함된 모든 이벤트는 현재 제목으로 갱신
+      updated = githubIssueService.updateCachedIssue(issueNumber, issue.path("title").asText(""), htmlUrl);
+    }
+
+    if (updated.isPresent()) {
+      log.info("웹훅으로 이슈 {} 갱신 ({}): {}", issueNumber, action, updated.get().getCleanTitle());
+      return Result.UPDATED;
+    }
+    return Result.IGNORED;
+  }
+
+  /**
+   * 이슈 URL 이 설정된 저장소(suhapilog.github.base-url)의 이슈인지 확인
+   */
+  private boolean isTrackedRepository(int issueNumber, String htmlUrl) {
+    String expected = githubIssueService.formatIssueBaseUrl(githubIssueService.getIssueBaseUrl(), issueNumber);
+    return expected.equalsIgnoreCase(htmlUrl);
+  }
+}
@@ -0,0 +1,68 @@
+package kr.suhsaechan.suhapilog.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import kr.suhsaechan.suhapilog.service.ApiLogOpenApiCustomizer;
+import kr.suhsaechan.suhapilog.service.ApiLogOperationCustomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springdoc.core.customizers.GlobalOpenApiCustomizer;
+import org.springdoc.core.customizers.GlobalOperationCustomizer;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * SpringDoc 클래스 유무 조합별로 변경 이력 커스터마이저가 빠짐없이 등록되는지 확인
+ */
+class SuhApiLogAutoConfigurationTest {
+
+  @TempDir
+  Path storage;
+
+  private ApplicationContextRunner runner() {
+    return new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(SuhApiLogAutoConfiguration.class))
+        .withPropertyValues(
+            "suhapilog.github.base-url=https://github.com/Cassiiopeia/suh-api-log/issues/",
+            "suhapilog.storage.path=" + storage);
+  }
+
+  @Test
+  void 두_인터페이스가_모두_있으면_일괄_렌더링() {
+    runner().run(context -> {
+      assertThat(context).hasSingleBean(ApiLogOperationCustomizer.class);
+      assertThat(context).hasSingleBean(ApiLogOpenApiCustomizer.class);
+      assertThat(context).doesNotHaveBean("operationCustomizer");
+    });
+  }
+
+  @Test
+  void GlobalOpenApiCustomizer_가_없으면_Operation_마다_렌더링() {
+    runner().withClassLoader(new FilteredClassLoader(GlobalOpenApiCustomizer.class))
+        .run(context -> {
+          assertThat(context).hasSingleBean(ApiLogOperationCustomizer.class);
+          assertThat(context).doesNotHaveBean(ApiLogOpenApiCustomizer.class);
+          assertThat(context).doesNotHaveBean("operationCustomizer");
+        });
+  }
+
+  @Test
+  void GlobalOperationCustomizer_가_없으면_프록시_구현_등록() {
+    runner().withClassLoader(new FilteredClassLoader(GlobalOperationCustomizer.class))
+        .run(context -> {
+          assertThat(context).doesNotHaveBean(ApiLogOperationCustomizer.class);
+          assertThat(context).hasBean("operationCustomizer");
+        });
+  }
+
+  @Test
+  void batch_prefetch_를_끄면_후처리_커스터마이저_제외() {
+    runner().withPropertyValues("suhapilog.swagger.batch-prefetch=false")
+        .run(context -> {
+          assertThat(context).hasSingleBean(ApiLogOperationCustomizer.class);
+          assertThat(context).doesNotHaveBean(ApiLogOpenApiCustomizer.class);
+        });
+  }
+}
@@ -0,0 +1,113 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 GitHub GraphQL API 스텁 서버 (오프라인 테스트용)
+ * 쿼리의 별칭(iN: issueOrPullRequest(number: N))을 읽어 등록된 이슈만 응답하고 나머지는 null 과 오류로 응답
+ * (오류 유형은 기본 NOT_FOUND, error 로 지정한 이슈는 지정한 유형)
+ */
+class GithubApiStubServer implements AutoCloseable {
+
+  private static final Pattern ALIAS_PATTERN = Pattern.compile("(\\w+): issueOrPullRequest\\(number: (\\d+)\\)");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<Integer, String> issueTitles = new ConcurrentHashMap<>();
+  private final Map<Integer, String> errorTypes = new ConcurrentHashMap<>();
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final HttpServer server;
+  private volatile String lastAuthorization;
+
+  GithubApiStubServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/graphql", this::handle);
+    server.start();
+  }
+
+  GithubApiStubServer issue(int issueNumber, String title) {
+    issueTitles.put(issueNumber, title);
+    return this;
+  }
+
+  /**
+   * 이슈를 지정한 유형의 오류로 응답 (FORBIDDEN 등)
+   */
+  GithubApiStubServer error(int issueNumber, String type) {
+    errorTypes.put(issueNumber, type);
+    return this;
+  }
+
+  String getApiUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + "/graphql";
+  }
+
+  int getRequestCount() {
+    return requestCount.get();
+  }
+
+  String getLastAuthorization() {
+    return lastAuthorization;
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requestCount.incrementAndGet();
+    lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+
+    JsonNode request;
+    try (InputStream in = exchange.getRequestBody()) {
+      request = objectMapper.readTree(in);
+    }
+    String owner = request.path("variables").path("owner").asText();
+    String name = request.path("variables").path("name").asText();
+
+    ObjectNode response = objectMapper.createObjectNode();
+    ObjectNode repository = response.putObject("data").putObject("repository");
+    ArrayNode errors = objectMapper.createArrayNode();
+    Matcher matcher = ALIAS_PATTERN.matcher(request.path("query").asText());
+    while (matcher.find()) {
+      int issueNumber = Integer.parseInt(matcher.group(2));
+      String title = issueTitles.get(issueNumber);
+      if (title == null) {
+        repository.putNull(matcher.group(1));
+        ObjectNode error = errors.addObject()
+            .put("type", errorTypes.getOrDefault(issueNumber, "NOT_FOUND"))
+            .put("message", "Could not resolve to an issue or pull request with the number of " + issueNumber + ".");
+        error.putArray("path").add("repository").add(matcher.group(1));
+        continue;
+      }
+      repository.putObject(matcher.group(1))
+          .put("number", issueNumber)
+          .put("title", title)
+          .put("url", "https://github.com/" + owner + "/" + name + "/issues/" + issueNumber);
+    }
+    if (errors.size() > 0) {
+      response.set("errors", errors);
+    }
+
+    byte[] body = objectMapper.writeValueAsBytes(response);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+}
@@ -0,0 +1,114 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.service.GithubIssueService;
+import kr.suhsaechan.suhapilog.storage.JsonIssueRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GithubGraphQlIssueFetcherTest {
+
+  @Test
+  void 여러_이슈를_묶음_요청으로_조회() throws Exception {
+    try (GithubApiStubServer server = new GithubApiStubServer()) {
+      Map<Integer, String> issueUrls = new LinkedHashMap<>();
+      for (int issueNumber = 1; issueNumber <= 250; issueNumber++) {
+        server.issue(issueNumber, "[기능] 이슈 " + issueNumber);
+        issueUrls.put(issueNumber, "https://github.com/owner/repo/issues/" + issueNumber);
+      }
+      GithubGraphQlIssueFetcher fetcher = GithubGraphQlIssueFetcher.forIssueBaseUrl(
+          "https://github.com/owner/repo/issues", server.getApiUrl(), "test-token", 100);
+
+      Map<Integer, IssueFetchResult> results = fetcher.fetchAll(issueUrls);
+
+      // 250개 이슈를 100개씩 3번의 요청으로 조회
+      assertEquals(3, server.getRequestCount());
+      assertEquals(250, results.size());
+      assertEquals("[기능] 이슈 42", results.get(42).getRawTitle());
+      assertEquals("https://github.com/owner/repo/issues/42", results.get(42).getPageUrl());
+      assertEquals("bearer test-token", server.getLastAuthorization());
+    }
+  }
+
+  @Test
+  void 존재하지_않는_이슈는_notFound_로_표시() throws Exception {
+    try (GithubApiStubServer server = new GithubApiStubServer().issue(1, "첫 번째").issue(3, "세 번째")) {
+      GithubGraphQlIssueFetcher fetcher = GithubGraphQlIssueFetcher.forIssueBaseUrl(
+          "https://github.com/owner/repo", server.getApiUrl(), "test-token", 100);
+
+      Map<Integer, String> issueUrls = new LinkedHashMap<>();
+      issueUrls.put(1, "");
+      issueUrls.put(2, "");
+      issueUrls.put(3, "");
+      Map<Integer, IssueFetchResult> results = fetcher.fetchAll(issueUrls);
+
+      assertEquals(1, server.getRequestCount());
+      assertEquals(3, results.size());
+      assertTrue(results.get(2).isNotFound());
+      assertFalse(results.get(3).isNotFound());
+      assertEquals("세 번째", fetcher.fetch(3, "").getRawTitle());
+      IssueFetchException notFound = assertThrows(IssueFetchException.class, () -> fetcher.fetch(2, ""));
+      assertFalse(notFound.isRetryable());
+    }
+  }
+
+  @Test
+  void NOT_FOUND_가_아닌_오류는_다시_시도할_수_있는_실패() throws Exception {
+    try (GithubApiStubServer server = new GithubApiStubServer().issue(1, "첫 번째").error(2, "FORBIDDEN")) {
+      GithubGraphQlIssueFetcher fetcher = GithubGraphQlIssueFetcher.forIssueBaseUrl(
+          "https://github.com/owner/repo", server.getApiUrl(), "test-token", 100);
+
+      Map<Integer, String> issueUrls = new LinkedHashMap<>();
+      issueUrls.put(1, "");
+      issueUrls.put(2, "");
+      Map<Integer, IssueFetchResult> results = fetcher.fetchAll(issueUrls);
+
+      // 권한 오류 등은 존재하지 않는 것으로 단정하지 않고 결과에서 제외
+      assertEquals(1, results.size());
+      assertFalse(results.containsKey(2));
+      IOException failure = assertThrows(IOException.class, () -> fetcher.fetch(2, ""));
+      assertFalse(failure instanceof IssueFetchException);
+    }
+  }
+
+  @Test
+  void 렌더링_중_캐시에_없는_이슈들은_한_번의_요청으로_조회(@TempDir Path storage) throws Exception {
+    try (GithubApiStubServer server = new GithubApiStubServer()
+        .issue(1, "[기능] 첫 번째").issue(2, "[기능] 두 번째").issue(3, "[기능] 세 번째")) {
+      String baseUrl = "https://github.com/owner/repo/issues";
+      GithubIssueService service = new GithubIssueService(new JsonIssueRepository(storage.toString()), baseUrl, "",
+          new ApiChangeLogProperties(),
+          GithubGraphQlIssueFetcher.forIssueBaseUrl(baseUrl, server.getApiUrl(), "test-token", 100));
+
+      Map<Integer, GithubIssue> resolved = service.resolveIssues(Set.of(1, 2, 3),
+          System.nanoTime() + TimeUnit.SECONDS.toNanos(5));
+
+      assertEquals(1, server.getRequestCount());
+      assertEquals(3, resolved.size());
+      assertEquals("두 번째", resolved.get(2).getCleanTitle());
+    }
+  }
+
+  @Test
+  void 이슈_URL에서_저장소_추출() {
+    assertArrayEquals(new String[]{"owner", "repo"},
+        GithubGraphQlIssueFetcher.parseRepository("https://github.com/owner/repo/issues/"));
+    assertArrayEquals(new String[]{"owner", "repo"},
+        GithubGraphQlIssueFetcher.parseRepository("https://github.com/owner/repo"));
+    assertThrows(IllegalArgumentException.class,
+        () -> GithubGraphQlIssueFetcher.parseRepository("https://github.com/owner"));
+  }
+}
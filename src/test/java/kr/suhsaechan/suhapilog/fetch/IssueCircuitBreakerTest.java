@@ -0,0 +1,105 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class IssueCircuitBreakerTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @Test
+  void 실패_비율이_기준을_넘으면_열리고_시험_요청으로_닫힘() throws Exception {
+    IssueCircuitBreaker circuitBreaker = new IssueCircuitBreaker(50, 100, Duration.ofSeconds(5), 4, 10,
+        Duration.ofMillis(500));
+    AtomicInteger calls = new AtomicInteger();
+    AtomicBoolean failing = new AtomicBoolean(false);
+    CircuitBreakingIssueFetcher fetcher = new CircuitBreakingIssueFetcher((issueNumber, issueUrl) -> {
+      calls.incrementAndGet();
+      if (failing.get()) {
+        throw new IOException("connect timed out");
+      }
+      return new IssueFetchResult(issueNumber, "제목", issueUrl);
+    }, circuitBreaker);
+
+    fetcher.fetch(1, "");
+    fetcher.fetch(2, "");
+    failing.set(true);
+    assertThrows(IOException.class, () -> fetcher.fetch(3, ""));
+    assertThrows(IOException.class, () -> fetcher.fetch(4, ""));
+    // 4번 중 2번 실패 (50%) -> 열림
+    assertEquals(IssueCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+    // 열려 있는 동안은 요청하지 않고 바로 실패
+    IssueFetchException rejected = assertThrows(IssueFetchException.class, () -> fetcher.fetch(5, ""));
+    assertEquals(0, rejected.getStatusCode());
+    assertEquals(4, calls.get());
+
+    Thread.sleep(600);
+    assertEquals(IssueCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    // 시험 요청 실패 -> 다시 열림
+    assertThrows(IOException.class, () -> fetcher.fetch(6, ""));
+    assertTrue(circuitBreaker.isOpen());
+
+    Thread.sleep(600);
+    // 시험 요청 성공 -> 닫힘
+    failing.set(false);
+    assertEquals("제목", fetcher.fetch(7, "").getRawTitle());
+    assertEquals(IssueCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+  }
+
+  @Test
+  void 느린_요청_비율이_기준을_넘으면_열림() {
+    IssueCircuitBreaker circuitBreaker = new IssueCircuitBreaker(50, 50, Duration.ofSeconds(1), 4, 10,
+        Duration.ofSeconds(30));
+    long slow = TimeUnit.SECONDS.toNanos(2);
+
+    for (int i = 0; i < 2; i++) {
+      circuitBreaker.onSuccess(acquire(circuitBreaker), FAST);
+    }
+    circuitBreaker.onSuccess(acquire(circuitBreaker), slow);
+    assertFalse(circuitBreaker.isOpen());
+    circuitBreaker.onSuccess(acquire(circuitBreaker), slow);
+
+    assertTrue(circuitBreaker.isOpen());
+    assertEquals(IssueCircuitBreaker.REJECTED, circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  void 이전_상태에서_보낸_요청의_늦은_결과는_반영하지_않음() {
+    IssueCircuitBreaker circuitBreaker = new IssueCircuitBreaker(50, 100, Duration.ofSeconds(5), 2, 10,
+        Duration.ZERO);
+    // 닫혀 있을 때 보낸 요청이 끝나기 전에 다른 요청이 실패하여 회로가 열림
+    long lateCall = acquire(circuitBreaker);
+    circuitBreaker.onFailure(acquire(circuitBreaker), FAST);
+    circuitBreaker.onFailure(acquire(circuitBreaker), FAST);
+    assertEquals(IssueCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    long probe = acquire(circuitBreaker);
+
+    // 늦게 끝난 요청의 성공은 시험 요청의 결과가 아니므로 회로를 닫지 않음
+    circuitBreaker.onSuccess(lateCall, FAST);
+    assertEquals(IssueCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    assertEquals(IssueCircuitBreaker.REJECTED, circuitBreaker.tryAcquire());
+
+    circuitBreaker.onSuccess(probe, FAST);
+    assertEquals(IssueCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    // 닫힌 뒤에도 이전 세대의 실패는 통계에 넣지 않음
+    circuitBreaker.onFailure(lateCall, FAST);
+    assertEquals(0, circuitBreaker.getFailureRate());
+  }
+
+  private static long acquire(IssueCircuitBreaker circuitBreaker) {
+    long generation = circuitBreaker.tryAcquire();
+    assertNotEquals(IssueCircuitBreaker.REJECTED, generation);
+    return generation;
+  }
+}
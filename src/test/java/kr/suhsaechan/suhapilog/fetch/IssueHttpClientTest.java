@@ -0,0 +1,96 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class IssueHttpClientTest {
+
+  @Test
+  void 속도_제한_응답이면_재시도_시점까지_요청_보류() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      requests.incrementAndGet();
+      exchange.getResponseHeaders().set("Retry-After", "120");
+      exchange.sendResponseHeaders(429, -1);
+      exchange.close();
+    });
+    server.start();
+
+    try {
+      IssueHttpClient httpClient = new IssueHttpClient(null, Duration.ofSeconds(2), null, null,
+          new RequestRateLimiter(0, 1));
+      StreamingIssueFetcher fetcher = new StreamingIssueFetcher(httpClient);
+      String issueUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/owner/repo/issues/1";
+
+      IssueFetchException limited = assertThrows(IssueFetchException.class, () -> fetcher.fetch(1, issueUrl));
+      assertTrue(limited.isRateLimited());
+      assertEquals(Duration.ofSeconds(120), limited.getRetryAfter());
+
+      // 정지 시간이 응답 제한 시간보다 길면 요청을 보내지 않고 바로 실패 (재시도 대상)
+      IssueFetchException held = assertThrows(IssueFetchException.class, () -> fetcher.fetch(2, issueUrl));
+      assertEquals(0, held.getStatusCode());
+      assertTrue(held.getRetryAfter().toSeconds() > 100);
+      assertEquals(1, requests.get());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  void 본문_수신이_멈추면_응답_제한_시간에_실패() throws Exception {
+    CountDownLatch stalled = new CountDownLatch(1);
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      // 헤더와 본문 일부만 보내고 멈춤
+      exchange.sendResponseHeaders(200, 0);
+      OutputStream out = exchange.getResponseBody();
+      out.write("<html><head>".getBytes(StandardCharsets.UTF_8));
+      out.flush();
+      try {
+        stalled.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.close();
+    });
+    server.start();
+
+    try {
+      IssueHttpClient httpClient = new IssueHttpClient(null, Duration.ofMillis(500), null, null);
+      StreamingIssueFetcher fetcher = new StreamingIssueFetcher(httpClient);
+      String issueUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/owner/repo/issues/1";
+
+      long start = System.nanoTime();
+      assertThrows(HttpTimeoutException.class, () -> fetcher.fetch(1, issueUrl));
+      long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+      assertTrue(elapsedMillis < 2000, "elapsed " + elapsedMillis + "ms");
+    } finally {
+      stalled.countDown();
+      server.stop(0);
+    }
+  }
+
+  @Test
+  void 토큰_버킷이_요청_속도를_제한() throws Exception {
+    RequestRateLimiter rateLimiter = new RequestRateLimiter(20, 1);
+    long start = System.nanoTime();
+    for (int i = 0; i < 6; i++) {
+      assertEquals(0, rateLimiter.acquire(Duration.ofSeconds(5)));
+    }
+    // 첫 요청 이후 5번은 50ms 간격
+    long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+    assertTrue(elapsedMillis >= 200, "elapsed " + elapsedMillis + "ms");
+  }
+}
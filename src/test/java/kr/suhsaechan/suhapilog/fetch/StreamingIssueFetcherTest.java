@@ -0,0 +1,59 @@
+package kr.suhsaechan.suhapilog.fetch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class StreamingIssueFetcherTest {
+
+  private static final String ETAG = "W/\"issue-7-v1\"";
+
+  @Test
+  void ETag가_같으면_본문_없이_304() throws Exception {
+    AtomicInteger bodiesSent = new AtomicInteger();
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/owner/repo/issues/7", exchange -> {
+      if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return;
+      }
+      byte[] body = "<html><head><title>[버그] 목록 정렬 오류 · Issue #7 · owner/repo</title></head><body></body></html>"
+          .getBytes(StandardCharsets.UTF_8);
+      bodiesSent.incrementAndGet();
+      exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+      exchange.getResponseHeaders().set("ETag", ETAG);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+
+    try {
+      String issueUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/owner/repo/issues/7";
+      StreamingIssueFetcher fetcher = new StreamingIssueFetcher();
+
+      IssueFetchResult first = fetcher.fetch(7, issueUrl);
+      assertFalse(first.isNotModified());
+      assertEquals("[버그] 목록 정렬 오류 · Issue #7 · owner/repo", first.getRawTitle());
+      assertEquals(ETAG, first.getEtag());
+
+      IssueFetchResult second = fetcher.revalidate(7, issueUrl, first.getEtag(), first.getLastModified());
+      assertTrue(second.isNotModified());
+      assertNull(second.getRawTitle());
+      assertEquals(ETAG, second.getEtag());
+      assertEquals(1, bodiesSent.get());
+    } finally {
+      server.stop(0);
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package kr.suhsaechan.suhapilog.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchResult;
+import kr.suhsaechan.suhapilog.model.ApiLogIndexEntry;
+import kr.suhsaechan.suhapilog.processor.ApiLogIndexProcessor;
+import kr.suhsaechan.suhapilog.storage.JsonIssueRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApiLogIndexLoaderTest {
+
+  private static final String BASE_URL = "https://github.com/owner/repo/issues";
+
+  private static final String CONTROLLER_SOURCE = String.join("\n",
+      "package com.example;",
+      "",
+      "import kr.suhsaechan.suhapilog.annotation.ApiLog;",
+      "",
+      "public class OrderController {",
+      "",
+      "  @ApiLog(date = \"2025-06-01\", author = \"서새찬\", issueNumber = 21,",
+      "      description = \"탭\\t줄바꿈\\n역슬래시\\\\ 포함\")",
+      "  public void create(java.util.List<String> items, int count) {",
+      "  }",
+      "",
+      "  @ApiLog(date = \"2025-06-02\", author = \"서새찬\", issueNumber = 22, description = \"첫 수정\")",
+      "  @ApiLog(date = \"2025-06-03\", author = \"서새찬\", issueNumber = 23, description = \"두 번째 수정\")",
+      "  public void update() {",
+      "  }",
+      "",
+      "  public static class Nested {",
+      "    @ApiLog(date = \"2025-06-04\", author = \"서새찬\", issueNumber = 24, description = \"중첩\")",
+      "    public void nested() {",
+      "    }",
+      "  }",
+      "}",
+      "");
+
+  private static final String OTHER_CONTROLLER_SOURCE = String.join("\n",
+      "package com.example.other;",
+      "",
+      "import kr.suhsaechan.suhapilog.annotation.ApiLog;",
+      "",
+      "public class ListController {",
+      "",
+      "  @ApiLog(date = \"2025-06-05\", author = \"서새찬\", issueNumber = 31, description = \"목록\")",
+      "  public void list() {",
+      "  }",
+      "}",
+      "");
+
+  @TempDir
+  Path workDir;
+
+  @Test
+  void 프로세서가_기록한_인덱스를_읽어_동기화() throws Exception {
+    Path classes = compile("indexed", "com/example/OrderController.java", CONTROLLER_SOURCE, true);
+
+    List<ApiLogIndexEntry> entries;
+    // 상위 로더를 두지 않아 이 테스트에서 컴파일한 인덱스만 읽음
+    try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null)) {
+      entries = ApiLogIndexLoader.load(loader);
+    }
+    assertEquals(4, entries.size());
+
+    Map<Integer, ApiLogIndexEntry> byIssue = entries.stream()
+        .collect(Collectors.toMap(ApiLogIndexEntry::getIssueNumber, Function.identity()));
+    ApiLogIndexEntry create = byIssue.get(21);
+    assertEquals("com.example.OrderController#create(java.util.List,int)", create.getMethodSignature());
+    assertEquals("탭\t줄바꿈\n역슬래시\\ 포함", create.getDescription());
+    assertEquals("서새찬", create.getAuthor());
+    assertEquals("2025-06-01", create.getDate());
+    assertEquals("com.example.OrderController#update()", byIssue.get(22).getMethodSignature());
+    assertEquals("두 번째 수정", byIssue.get(23).getDescription());
+    assertEquals("com.example.OrderController$Nested", byIssue.get(24).getDeclaringClass());
+
+    Set<Integer> fetched = ConcurrentHashMap.newKeySet();
+    GithubIssueService service = new GithubIssueService(new JsonIssueRepository(workDir.resolve("storage").toString()),
+        BASE_URL, "", new ApiChangeLogProperties(), (issueNumber, issueUrl) -> {
+          fetched.add(issueNumber);
+          return new IssueFetchResult(issueNumber, "[기능추가] 이슈 " + issueNumber, issueUrl);
+        });
+    new ChangelogProcessor(service).syncIssuesFromIndex(entries);
+
+    assertEquals(Set.of(21, 22, 23, 24), new TreeSet<>(fetched));
+    assertEquals("이슈 24", service.getOrFetchIssue(24).getCleanTitle());
+  }
+
+  @Test
+  void 인덱스가_없는_루트에도_있는_패키지는_포함하지_않는_패키지로_봄() throws Exception {
+    Path indexed = jar(compile("indexed", "com/example/OrderController.java", CONTROLLER_SOURCE, true));
+    Path notIndexed = compile("not-indexed", "com/example/other/ListController.java", OTHER_CONTROLLER_SOURCE, false);
+    assertFalse(Files.exists(notIndexed.resolve(ApiLogIndexLoader.INDEX_LOCATION)));
+
+    try (URLClassLoader loader = new URLClassLoader(
+        new URL[]{indexed.toUri().toURL(), notIndexed.toUri().toURL()}, null)) {
+      assertEquals(List.of("com.example", "com.example.other", "org.library"),
+          ApiLogIndexLoader.uncoveredPackages(loader, List.of("com.example", "com.example.other", "org.library")));
+    }
+
+    // 인덱스가 있는 루트만 있으면 그 루트가 처리한 패키지를 포함함
+    try (URLClassLoader loader = new URLClassLoader(new URL[]{indexed.toUri().toURL()}, null)) {
+      assertTrue(ApiLogIndexLoader.uncoveredPackages(loader, List.of("com.example")).isEmpty());
+      // 이름만 같은 다른 패키지는 포함하지 않음
+      assertEquals(List.of("com.ex"), ApiLogIndexLoader.uncoveredPackages(loader, List.of("com.ex")));
+    }
+  }
+
+  /**
+   * 소스 하나를 컴파일하고 클래스 출력 디렉토리를 반환
+   *
+   * @param withProcessor ApiLogIndexProcessor 적용 여부
+   */
+  private Path compile(String name, String sourcePath, String sourceCode, boolean withProcessor) throws Exception {
+    Path source = workDir.resolve(name).resolve("src").resolve(sourcePath);
+    Files.createDirectories(source.getParent());
+    Files.writeString(source, sourceCode, StandardCharsets.UTF_8);
+    Path classes = Files.createDirectories(workDir.resolve(name).resolve("classes"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      List<String> options = new ArrayList<>(List.of(
+          "-classpath", System.getProperty("java.class.path"),
+          "-encoding", "UTF-8",
+          "-d", classes.toString()));
+      options.addAll(withProcessor
+          ? List.of("-processor", ApiLogIndexProcessor.class.getName())
+          : List.of("-proc:none"));
+      boolean compiled = compiler.getTask(null, fileManager, null, options, null,
+          fileManager.getJavaFileObjects(source)).call();
+      assertTrue(compiled, "컴파일 실패");
+    }
+    assertEquals(withProcessor, Files.exists(classes.resolve(ApiLogIndexLoader.INDEX_LOCATION)));
+    return classes;
+  }
+
+  /**
+   * 클래스 출력 디렉토리를 디렉토리 항목을 포함한 jar 로 묶음
+   */
+  private Path jar(Path classes) throws Exception {
+    Path jar = classes.resolveSibling("classes.jar");
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+        Stream<Path> files = Files.walk(classes)) {
+      for (Path file : (Iterable<Path>) files.sorted()::iterator) {
+        if (file.equals(classes)) {
+          continue;
+        }
+        String entryName = classes.relativize(file).toString().replace('\\', '/');
+        if (Files.isDirectory(file)) {
+          out.putNextEntry(new JarEntry(entryName + "/"));
+        } else {
+          out.putNextEntry(new JarEntry(entryName));
+          Files.copy(file, out);
+        }
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
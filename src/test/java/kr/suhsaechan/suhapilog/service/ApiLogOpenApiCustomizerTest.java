@@ -0,0 +1,117 @@
+package kr.suhsaechan.suhapilog.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.controller.TestController;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchResult;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.storage.JsonIssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.method.HandlerMethod;
+
+class ApiLogOpenApiCustomizerTest {
+
+  private static final String BASE_URL = "https://github.com/Cassiiopeia/suh-api-log/issues";
+
+  @TempDir
+  Path storage;
+
+  private final AtomicInteger fetchCalls = new AtomicInteger();
+  private final Set<Integer> fetchedIssues = ConcurrentHashMap.newKeySet();
+  private JsonIssueRepository repository;
+  private ApiLogOperationCustomizer operationCustomizer;
+  private ApiLogOpenApiCustomizer openApiCustomizer;
+
+  @BeforeEach
+  void setUp() {
+    repository = new JsonIssueRepository(storage.toString());
+    repository.save(issue(1, "로그인 API 개선"));
+    GithubIssueService service = new GithubIssueService(repository, BASE_URL, "", new ApiChangeLogProperties(),
+        (issueNumber, issueUrl) -> {
+          fetchCalls.incrementAndGet();
+          fetchedIssues.add(issueNumber);
+          return new IssueFetchResult(issueNumber, "[기능추가] 테스트 API " + issueNumber, issueUrl);
+        });
+    SwaggerIntegration swaggerIntegration = new ChangelogProcessor(service).getSwaggerIntegration();
+    openApiCustomizer = new ApiLogOpenApiCustomizer(swaggerIntegration);
+    operationCustomizer = new ApiLogOperationCustomizer(swaggerIntegration, openApiCustomizer);
+  }
+
+  @Test
+  void 캐시에_없는_변경_이력은_문서_후처리에서_한_번에_렌더링() throws Exception {
+    Operation test = new Operation();
+    Operation test2 = new Operation().description("기존 설명");
+    OpenAPI openApi = document(test, test2);
+
+    operationCustomizer.customize(test, handler("test"));
+    operationCustomizer.customize(test2, handler("test2"));
+    // 렌더링을 미루고 표시만 남김
+    assertNull(test.getDescription());
+    assertNotNull(test2.getExtensions().get(ApiLogOpenApiCustomizer.DEFERRED_EXTENSION));
+
+    openApiCustomizer.customise(openApi);
+
+    assertTrue(test.getDescription().contains("로그인 API 개선"));
+    assertTrue(test2.getDescription().startsWith("기존 설명"));
+    assertTrue(test2.getDescription().contains("테스트 API 3"));
+    assertNull(test.getExtensions());
+    assertNull(test2.getExtensions());
+    // 저장소에 없는 이슈 3만 한 번 조회
+    assertEquals(Set.of(3), fetchedIssues);
+    assertEquals(1, fetchCalls.get());
+  }
+
+  @Test
+  void 렌더링된_변경_이력은_다음_문서_생성에서_바로_사용() throws Exception {
+    repository.save(issue(3, "테스트 API 3"));
+    Operation first = new Operation();
+    operationCustomizer.customize(first, handler("test2"));
+    openApiCustomizer.customise(document(first));
+
+    Operation second = new Operation();
+    operationCustomizer.customize(second, handler("test2"));
+
+    assertNull(second.getExtensions());
+    assertEquals(first.getDescription(), second.getDescription());
+    assertEquals(0, fetchCalls.get());
+  }
+
+  private static GithubIssue issue(int issueNumber, String title) {
+    return GithubIssue.builder()
+        .issueNumber(issueNumber)
+        .cleanTitle(title)
+        .rawTitle("[기능개선] " + title)
+        .pageUrl(BASE_URL + "/" + issueNumber)
+        .fetchedAt(LocalDateTime.now())
+        .build();
+  }
+
+  private static HandlerMethod handler(String name) throws NoSuchMethodException {
+    Method method = TestController.class.getMethod(name);
+    return new HandlerMethod(new TestController(), method);
+  }
+
+  private static OpenAPI document(Operation... operations) {
+    Paths paths = new Paths();
+    for (int i = 0; i < operations.length; i++) {
+      paths.addPathItem("/path" + i, new PathItem().get(operations[i]));
+    }
+    return new OpenAPI().paths(paths);
+  }
+}
@@ -0,0 +1,155 @@
+package kr.suhsaechan.suhapilog.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchException;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchResult;
+import kr.suhsaechan.suhapilog.fetch.IssueFetcher;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.storage.JsonIssueRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IssueNegativeCacheTest {
+
+  private static final String BASE_URL = "https://github.com/owner/repo/issues";
+
+  @Test
+  void 존재하지_않는_이슈는_다시_조회하지_않음(@TempDir Path storage) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    GithubIssueService service = new GithubIssueService(new JsonIssueRepository(storage.toString()), BASE_URL,
+        "", new ApiChangeLogProperties(), (issueNumber, issueUrl) -> {
+          calls.incrementAndGet();
+          throw new IssueFetchException("HTTP 404 - " + issueUrl, 404, null);
+        });
+
+    GithubIssue first = service.getOrFetchIssue(404);
+    GithubIssue second = service.getOrFetchIssue(404);
+
+    assertEquals(1, calls.get());
+    assertTrue(first.isMissing());
+    assertEquals(GithubIssueService.NOT_FOUND_TITLE, second.getCleanTitle());
+
+    // 저장소와 함께 기록이 유지되므로 재시작 후에도 조회하지 않음
+    GithubIssueService restarted = new GithubIssueService(new JsonIssueRepository(storage.toString()), BASE_URL,
+        "", new ApiChangeLogProperties(), (issueNumber, issueUrl) -> {
+          calls.incrementAndGet();
+          throw new IssueFetchException("HTTP 404 - " + issueUrl, 404, null);
+        });
+    assertTrue(restarted.getOrFetchIssue(404).isMissing());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void 연속_실패가_기준에_도달하면_기록(@TempDir Path storage) throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    GithubIssueService service = new GithubIssueService(new JsonIssueRepository(storage.toString()), BASE_URL,
+        "", new ApiChangeLogProperties(), (issueNumber, issueUrl) -> {
+          calls.incrementAndGet();
+          throw new IOException("connection reset");
+        });
+
+    assertThrows(RuntimeException.class, () -> service.getOrFetchIssue(7));
+    assertThrows(RuntimeException.class, () -> service.getOrFetchIssue(7));
+    GithubIssue recorded = service.getOrFetchIssue(7);
+    service.getOrFetchIssue(7);
+
+    assertEquals(3, calls.get());
+    assertEquals(GithubIssueService.UNAVAILABLE_TITLE, recorded.getCleanTitle());
+    assertEquals(3, recorded.getFailureCount());
+  }
+
+  @Test
+  void 이미_가져온_제목은_404로_덮어쓰지_않음(@TempDir Path storage) throws Exception {
+    JsonIssueRepository repository = new JsonIssueRepository(storage.toString());
+    repository.save(GithubIssue.builder()
+        .issueNumber(5)
+        .rawTitle("[기능추가] 기존 제목")
+        .cleanTitle("기존 제목")
+        .fetchedAt(LocalDateTime.now().minusDays(30))
+        .build());
+    GithubIssueService service = new GithubIssueService(repository, BASE_URL, "", new ApiChangeLogProperties(),
+        (issueNumber, issueUrl) -> {
+          throw new IssueFetchException("HTTP 404 - " + issueUrl, 404, null);
+        });
+
+    assertThrows(IssueFetchException.class, () -> service.fetchAndSaveIssue(5));
+
+    GithubIssue kept = repository.findByIssueNumber(5).orElseThrow();
+    assertFalse(kept.isMissing());
+    assertEquals("기존 제목", kept.getCleanTitle());
+  }
+
+  @Test
+  void 일괄_조회는_NOT_FOUND_만_찾을_수_없는_이슈로_기록(@TempDir Path storage) {
+    JsonIssueRepository repository = new JsonIssueRepository(storage.toString());
+    GithubIssueService service = new GithubIssueService(repository, BASE_URL, "", new ApiChangeLogProperties(),
+        new IssueFetcher() {
+          @Override
+          public IssueFetchResult fetch(Integer issueNumber, String issueUrl) throws IOException {
+            throw new IOException("timeout");
+          }
+
+          @Override
+          public int getBatchSize() {
+            return 100;
+          }
+
+          @Override
+          public Map<Integer, IssueFetchResult> fetchAll(Map<Integer, String> issueUrls) {
+            // 1 은 정상, 2 는 NOT_FOUND, 3 은 다른 오류로 결과에서 빠짐
+            Map<Integer, IssueFetchResult> results = new LinkedHashMap<>();
+            results.put(1, new IssueFetchResult(1, "[기능추가] 첫 번째", issueUrls.get(1)));
+            results.put(2, IssueFetchResult.notFound(2));
+            return results;
+          }
+        });
+
+    service.syncIssues(Set.of(1, 2, 3));
+
+    assertEquals("첫 번째", repository.findByIssueNumber(1).orElseThrow().getCleanTitle());
+    assertEquals(GithubIssueService.NOT_FOUND_TITLE, repository.findByIssueNumber(2).orElseThrow().getCleanTitle());
+    // 다시 시도할 수 있는 실패는 한 번으로 기록하지 않음
+    assertTrue(repository.findByIssueNumber(3).isEmpty());
+  }
+
+  @Test
+  void 기록을_끄면_실패는_기록하지_않고_웹훅이_남긴_기록은_만료되지_않음(@TempDir Path storage) throws Exception {
+    ApiChangeLogProperties properties = new ApiChangeLogProperties();
+    properties.getGithub().setNegativeCacheTtl(Duration.ZERO);
+    JsonIssueRepository repository = new JsonIssueRepository(storage.toString());
+    AtomicInteger calls = new AtomicInteger();
+    GithubIssueService service = new GithubIssueService(repository, BASE_URL, "", properties,
+        (issueNumber, issueUrl) -> {
+          calls.incrementAndGet();
+          if (issueNumber == 404) {
+            throw new IssueFetchException("HTTP 404 - " + issueUrl, 404, null);
+          }
+          return new IssueFetchResult(issueNumber, "[기능추가] 삭제될 이슈", issueUrl);
+        });
+
+    assertThrows(RuntimeException.class, () -> service.getOrFetchIssue(404));
+    assertTrue(repository.findByIssueNumber(404).isEmpty());
+
+    // 웹훅이 삭제된 이슈로 표시한 기록은 다시 조회하지 않음
+    service.getOrFetchIssue(7);
+    GithubIssue deleted = service.markCachedIssueMissing(7).orElseThrow();
+    assertFalse(service.isStale(deleted));
+    int callsBefore = calls.get();
+    assertEquals(GithubIssueService.NOT_FOUND_TITLE, service.getOrFetchIssue(7).getCleanTitle());
+    assertFalse(service.isFetchPending(7));
+    assertEquals(callsBefore, calls.get());
+  }
+}
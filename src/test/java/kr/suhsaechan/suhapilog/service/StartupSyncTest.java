@@ -0,0 +1,83 @@
+package kr.suhsaechan.suhapilog.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchResult;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.storage.JsonIssueRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StartupSyncTest {
+
+  private static final String BASE_URL = "https://github.com/owner/repo/issues";
+  // 같은 초 안의 기록도 구분할 수 있도록 파일 수정 시각을 과거로 고정
+  private static final FileTime BEFORE_RESTART = FileTime.from(Instant.parse("2025-01-01T00:00:00Z"));
+
+  @TempDir
+  Path storage;
+
+  @Test
+  void 이슈_구성이_그대로면_재시작_시_조회와_파일_기록_없음() throws Exception {
+    Set<Integer> issueNumbers = Set.of(1, 2, 3);
+    JsonIssueRepository previousRun = new JsonIssueRepository(storage.toString());
+    List<GithubIssue> issues = new ArrayList<>();
+    for (int issueNumber : issueNumbers) {
+      issues.add(GithubIssue.builder()
+          .issueNumber(issueNumber)
+          .cleanTitle("이슈 " + issueNumber)
+          .rawTitle("[기능추가] 이슈 " + issueNumber)
+          .pageUrl(BASE_URL + "/" + issueNumber)
+          .fetchedAt(LocalDateTime.now())
+          .build());
+    }
+    previousRun.saveAll(issueNumbers, issues);
+    previousRun.close();
+    Map<Path, FileTime> before = pinModifiedTimes();
+
+    AtomicInteger fetches = new AtomicInteger();
+    GithubIssueService restarted = new GithubIssueService(new JsonIssueRepository(storage.toString()), BASE_URL, "",
+        new ApiChangeLogProperties(), (issueNumber, issueUrl) -> {
+          fetches.incrementAndGet();
+          return new IssueFetchResult(issueNumber, "[기능추가] 이슈 " + issueNumber, issueUrl);
+        });
+    restarted.syncIssues(issueNumbers);
+
+    assertEquals(0, fetches.get());
+    assertEquals(before, modifiedTimes());
+
+    // 새 이슈가 추가되면 그 이슈만 조회하고 기록함
+    restarted.syncIssues(Set.of(1, 2, 3, 4));
+    assertEquals(1, fetches.get());
+  }
+
+  private Map<Path, FileTime> pinModifiedTimes() throws Exception {
+    for (Path file : modifiedTimes().keySet()) {
+      Files.setLastModifiedTime(file, BEFORE_RESTART);
+    }
+    return modifiedTimes();
+  }
+
+  private Map<Path, FileTime> modifiedTimes() throws Exception {
+    Map<Path, FileTime> times = new TreeMap<>();
+    try (Stream<Path> files = Files.list(storage)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        times.put(file, Files.getLastModifiedTime(file));
+      }
+    }
+    return times;
+  }
+}
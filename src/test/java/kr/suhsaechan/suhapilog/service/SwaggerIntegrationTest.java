@@ -0,0 +1,166 @@
+package kr.suhsaechan.suhapilog.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.suhsaechan.suhapilog.annotation.ApiLog;
+import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.storage.JsonIssueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+
+class SwaggerIntegrationTest {
+
+  private static final String BASE_URL = "https://github.com/Cassiiopeia/suh-api-log/issues";
+  private static final Duration RENDER_DEADLINE = Duration.ofHours(1);
+
+  @TempDir
+  Path storage;
+
+  // 멈춘 GitHub 요청을 테스트가 끝날 때 풀어줌
+  private final CountDownLatch stalled = new CountDownLatch(1);
+
+  @AfterEach
+  void tearDown() {
+    stalled.countDown();
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void 조회가_멈춰도_문서_생성_요청_전체가_마감_시각_한_번만_기다림() throws Exception {
+    ApiChangeLogProperties properties = new ApiChangeLogProperties();
+    properties.getSwagger().setRenderDeadline(RENDER_DEADLINE);
+    GithubIssueService service = new GithubIssueService(new JsonIssueRepository(storage.toString()), BASE_URL, "",
+        properties, (issueNumber, issueUrl) -> {
+          try {
+            stalled.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          throw new IOException("GitHub 에 연결할 수 없음");
+        });
+    AtomicLong clock = new AtomicLong();
+    service.setNanoClock(clock::get);
+    SwaggerIntegration swaggerIntegration = new SwaggerIntegration(service);
+
+    RequestAttributes request = new ServletRequestAttributes(new MockHttpServletRequest());
+    RequestContextHolder.setRequestAttributes(request);
+    long deadline = swaggerIntegration.requestRenderDeadline();
+    assertEquals(RENDER_DEADLINE.toNanos(), deadline);
+
+    // 첫 렌더링이 마감 시각까지 기다린 뒤: 같은 요청의 나머지 메서드는 기다리지 않음
+    // (메서드마다 새 마감 시각을 쓰면 각각 RENDER_DEADLINE 만큼 멈춤)
+    clock.set(deadline);
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+      RequestContextHolder.setRequestAttributes(request);
+      try {
+        for (String method : new String[]{"first", "second", "third", "fourth", "fifth"}) {
+          String table = swaggerIntegration.getChangelogTable(handler(method));
+          assertTrue(table.contains(GithubIssueService.PENDING_PLACEHOLDER_TITLE));
+        }
+      } finally {
+        RequestContextHolder.resetRequestAttributes();
+      }
+    });
+
+    // 다음 문서 생성 요청은 새 마감 시각을 사용
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    assertEquals(deadline + RENDER_DEADLINE.toNanos(), swaggerIntegration.requestRenderDeadline());
+  }
+
+  @Test
+  void 제목이_바뀌면_그_이슈를_참조하는_캐시만_무효화() throws Exception {
+    JsonIssueRepository repository = new JsonIssueRepository(storage.toString());
+    for (int issueNumber : new int[]{21, 22, 23}) {
+      repository.save(GithubIssue.builder()
+          .issueNumber(issueNumber)
+          .cleanTitle("이슈 " + issueNumber)
+          .rawTitle("[기능추가] 이슈 " + issueNumber)
+          .pageUrl(BASE_URL + "/" + issueNumber)
+          .fetchedAt(LocalDateTime.now())
+          .build());
+    }
+    GithubIssueService service = new GithubIssueService(repository, BASE_URL, "", new ApiChangeLogProperties(),
+        (issueNumber, issueUrl) -> {
+          throw new IOException("저장소에 있는 이슈는 조회하지 않음");
+        });
+    SwaggerIntegration swaggerIntegration = new SwaggerIntegration(service);
+    Method first = CachedController.class.getMethod("first");
+    Method second = CachedController.class.getMethod("second");
+    Method both = CachedController.class.getMethod("both");
+    swaggerIntegration.renderChangelogTables(List.of(first, second, both));
+    assertNotNull(swaggerIntegration.getCachedChangelogTable(first));
+    assertNotNull(swaggerIntegration.getCachedChangelogTable(second));
+    assertNotNull(swaggerIntegration.getCachedChangelogTable(both));
+
+    service.updateCachedIssue(21, "[기능추가] 바뀐 제목", BASE_URL + "/21");
+
+    assertNull(swaggerIntegration.getCachedChangelogTable(first));
+    assertNull(swaggerIntegration.getCachedChangelogTable(both));
+    assertTrue(swaggerIntegration.getCachedChangelogTable(second).contains("이슈 22"));
+    assertTrue(swaggerIntegration.getChangelogTable(
+        new HandlerMethod(new CachedController(), both)).contains("바뀐 제목"));
+    assertNotNull(swaggerIntegration.getCachedChangelogTable(both));
+  }
+
+  private static HandlerMethod handler(String name) throws NoSuchMethodException {
+    return new HandlerMethod(new StalledController(), StalledController.class.getMethod(name));
+  }
+
+  static class CachedController {
+
+    @ApiLog(date = "2025-06-01", author = "서새찬", issueNumber = 21, description = "첫 번째 API")
+    public void first() {
+    }
+
+    @ApiLog(date = "2025-06-01", author = "서새찬", issueNumber = 22, description = "두 번째 API")
+    public void second() {
+    }
+
+    @ApiLog(date = "2025-06-01", author = "서새찬", issueNumber = 23, description = "세 번째 API")
+    @ApiLog(date = "2025-06-02", author = "서새찬", issueNumber = 21, description = "세 번째 API 수정")
+    public void both() {
+    }
+  }
+
+  static class StalledController {
+
+    @ApiLog(date = "2025-06-01", author = "서새찬", issueNumber = 11, description = "첫 번째 API")
+    public void first() {
+    }
+
+    @ApiLog(date = "2025-06-01", author = "서새찬", issueNumber = 12, description = "두 번째 API")
+    public void second() {
+    }
+
+    @ApiLog(date = "2025-06-01", author = "서새찬", issueNumber = 13, description = "세 번째 API")
+    public void third() {
+    }
+
+    @ApiLog(date = "2025-06-01", author = "서새찬", issueNumber = 14, description = "네 번째 API")
+    public void fourth() {
+    }
+
+    @ApiLog(date = "2025-06-01", author = "서새찬", issueNumber = 15, description = "다섯 번째 API")
+    public void fifth() {
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import static kr.suhsaechan.suhapilog.storage.TestIssues.issue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinaryIssueRepositoryTest {
+
+  @TempDir
+  Path storage;
+
+  @Test
+  void 저장한_이슈를_다시_열어_조회() throws Exception {
+    LocalDateTime fetchedAt = LocalDateTime.of(2025, 2, 11, 3, 12, 45, 123_000_000);
+    BinaryIssueRepository repository = new BinaryIssueRepository(storage.toString(), Duration.ofHours(1));
+    for (int i = 500; i >= 1; i--) {
+      repository.save(issue(i, "이슈 " + i, fetchedAt));
+    }
+    repository.save(GithubIssue.builder().issueNumber(777).cleanTitle("이슈를 찾을 수 없음").missing(true)
+        .failureCount(3).build());
+    repository.close();
+
+    BinaryIssueRepository reopened = new BinaryIssueRepository(storage.toString());
+    assertEquals(501, reopened.findAll().size());
+
+    GithubIssue found = reopened.findByIssueNumber(250).get();
+    assertEquals("이슈 250", found.getCleanTitle());
+    assertEquals("[기능] 이슈 250", found.getRawTitle());
+    assertEquals("\"etag-250\"", found.getEtag());
+    assertNull(found.getLastModified());
+    assertEquals(fetchedAt, found.getFetchedAt());
+
+    GithubIssue missing = reopened.findByIssueNumber(777).get();
+    assertTrue(missing.isMissing());
+    assertEquals(3, missing.getFailureCount());
+    assertNull(missing.getFetchedAt());
+    assertTrue(reopened.findByIssueNumber(501).isEmpty());
+  }
+
+  @Test
+  void 기존_파일과_새_이슈를_합쳐_기록() throws Exception {
+    BinaryIssueRepository repository = new BinaryIssueRepository(storage.toString());
+    repository.save(issue(10, "열", null));
+    repository.save(issue(30, "삼십", null));
+    repository.save(issue(20, "이십", null));
+    repository.save(issue(10, "바뀐 열", null));
+
+    BinaryIssueRepository reopened = new BinaryIssueRepository(storage.toString());
+    assertEquals(3, reopened.findAll().size());
+    assertEquals("바뀐 열", reopened.findByIssueNumber(10).get().getCleanTitle());
+    assertEquals("이십", reopened.findByIssueNumber(20).get().getCleanTitle());
+    assertEquals("삼십", reopened.findByIssueNumber(30).get().getCleanTitle());
+  }
+
+  @Test
+  void JSON_저장소를_가져옴() throws Exception {
+    JsonIssueRepository json = new JsonIssueRepository(storage.toString());
+    json.save(issue(1, "JSON 이슈", LocalDateTime.now()));
+
+    BinaryIssueRepository repository = new BinaryIssueRepository(storage.toString());
+
+    assertEquals("JSON 이슈", repository.findByIssueNumber(1).get().getCleanTitle());
+    assertTrue(Files.exists(storage.resolve("github-issues.1.bin")));
+  }
+
+  @Test
+  void 매핑한_파일을_덮어쓰지_않고_새_세대_파일에_기록() throws Exception {
+    BinaryIssueRepository repository = new BinaryIssueRepository(storage.toString());
+    repository.save(issue(1, "하나", null));
+    assertTrue(Files.exists(storage.resolve("github-issues.1.bin")));
+
+    repository.save(issue(2, "둘", null));
+    assertTrue(Files.exists(storage.resolve("github-issues.2.bin")));
+    assertFalse(Files.exists(storage.resolve("github-issues.1.bin")));
+    assertEquals("하나", repository.findByIssueNumber(1).get().getCleanTitle());
+
+    BinaryIssueRepository reopened = new BinaryIssueRepository(storage.toString());
+    reopened.save(issue(3, "셋", null));
+    assertTrue(Files.exists(storage.resolve("github-issues.3.bin")));
+    assertEquals(3, new BinaryIssueRepository(storage.toString()).findAll().size());
+  }
+
+  @Test
+  void 세대_번호가_없는_이전_파일을_읽고_새_세대로_옮김() throws Exception {
+    BinaryIssueRepository repository = new BinaryIssueRepository(storage.toString());
+    repository.save(issue(1, "이전 형식", null));
+    Files.move(storage.resolve("github-issues.1.bin"), storage.resolve("github-issues.bin"));
+
+    BinaryIssueRepository reopened = new BinaryIssueRepository(storage.toString());
+    assertEquals("이전 형식", reopened.findByIssueNumber(1).get().getCleanTitle());
+
+    reopened.save(issue(2, "새 형식", null));
+    assertTrue(Files.exists(storage.resolve("github-issues.1.bin")));
+    assertFalse(Files.exists(storage.resolve("github-issues.bin")));
+    assertEquals(2, new BinaryIssueRepository(storage.toString()).findAll().size());
+  }
+
+  @Test
+  void 색인의_항목_위치가_손상된_최신_파일은_건너뛰고_이전_세대를_읽음() throws Exception {
+    BinaryIssueRepository repository = new BinaryIssueRepository(storage.toString());
+    repository.save(issue(1, "정상", null));
+
+    ByteBuffer corrupt = ByteBuffer.allocate(64);
+    corrupt.putInt(0x53414C42).putInt(1).putInt(1);
+    corrupt.putInt(1).putInt(9_999);
+    Files.write(storage.resolve("github-issues.2.bin"), corrupt.array());
+
+    BinaryIssueRepository reopened = new BinaryIssueRepository(storage.toString());
+    assertEquals("정상", reopened.findByIssueNumber(1).get().getCleanTitle());
+
+    // 다음 기록은 손상된 파일과 겹치지 않는 세대로 함
+    reopened.save(issue(2, "다음", null));
+    assertTrue(Files.exists(storage.resolve("github-issues.3.bin")));
+    assertEquals(2, new BinaryIssueRepository(storage.toString()).findAll().size());
+  }
+
+  @Test
+  void 색인의_항목_위치가_손상된_파일만_있으면_빈_저장소() throws Exception {
+    ByteBuffer corrupt = ByteBuffer.allocate(64);
+    corrupt.putInt(0x53414C42).putInt(1).putInt(2);
+    corrupt.putInt(1).putInt(28);
+    corrupt.putInt(2).putInt(30);
+    Files.write(storage.resolve("github-issues.1.bin"), corrupt.array());
+
+    BinaryIssueRepository repository = new BinaryIssueRepository(storage.toString());
+
+    assertTrue(repository.findByIssueNumber(1).isEmpty());
+    assertTrue(repository.findByIssueNumber(2).isEmpty());
+    assertTrue(repository.findAll().isEmpty());
+  }
+
+  @Test
+  void 문자열_길이가_손상된_항목은_없는_이슈로_봄() throws Exception {
+    BinaryIssueRepository repository = new BinaryIssueRepository(storage.toString());
+    repository.save(issue(1, "손상될 이슈", null));
+    repository.save(issue(2, "정상 이슈", null));
+
+    // 헤더(12) + 색인 2개(16) 뒤 첫 항목의 cleanTitle 길이(고정 필드 17바이트 다음)
+    try (FileChannel channel = FileChannel.open(storage.resolve("github-issues.2.bin"), StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(4).putInt(0, Integer.MAX_VALUE), 28 + 17);
+    }
+
+    BinaryIssueRepository reopened = new BinaryIssueRepository(storage.toString());
+    assertTrue(reopened.findByIssueNumber(1).isEmpty());
+    assertEquals("정상 이슈", reopened.findByIssueNumber(2).get().getCleanTitle());
+    assertEquals(1, reopened.findAll().size());
+  }
+}
@@ -0,0 +1,74 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import static kr.suhsaechan.suhapilog.storage.TestIssues.issue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingIssueRepositoryTest {
+
+  @TempDir
+  Path storage;
+
+  @Test
+  void 최대_크기를_넘지_않고_통계를_기록() throws Exception {
+    CachingIssueRepository cache = new CachingIssueRepository(populatedStore(100), 10);
+
+    for (int i = 1; i <= 100; i++) {
+      assertTrue(cache.findByIssueNumber(i).isPresent());
+    }
+    assertTrue(cache.size() <= 10);
+    assertEquals(100, cache.getMissCount());
+
+    cache.findByIssueNumber(1);
+    cache.findByIssueNumber(1);
+    assertEquals("이슈 1", cache.findByIssueNumber(1).get().getCleanTitle());
+    assertEquals(103, cache.getHitCount() + cache.getMissCount());
+    assertTrue(cache.findByIssueNumber(1000).isEmpty());
+  }
+
+  @Test
+  void 자주_조회되는_이슈는_한_번씩_조회되는_이슈에_밀려나지_않음() throws Exception {
+    CachingIssueRepository cache = new CachingIssueRepository(populatedStore(2000), 10);
+
+    for (int round = 0; round < 5; round++) {
+      for (int hot = 1; hot <= 10; hot++) {
+        cache.findByIssueNumber(hot);
+      }
+    }
+
+    // 한 번씩만 조회되는 긴 꼬리 사이에 자주 조회되는 이슈가 계속 조회됨
+    long hitsBeforeScan = cache.getHitCount();
+    for (int cold = 11; cold <= 2000; cold++) {
+      cache.findByIssueNumber(cold);
+      cache.findByIssueNumber(1 + cold % 10);
+    }
+
+    assertEquals(hitsBeforeScan + 1990, cache.getHitCount());
+    assertTrue(cache.getRejectionCount() > 0);
+  }
+
+  @Test
+  void 저장하면_캐시와_저장소에_반영() throws Exception {
+    CachingIssueRepository cache = new CachingIssueRepository(populatedStore(5), 10);
+    cache.findByIssueNumber(3);
+
+    cache.save(issue(3, "바뀐 제목"));
+
+    assertEquals("바뀐 제목", cache.findByIssueNumber(3).get().getCleanTitle());
+    assertEquals("바뀐 제목", cache.getDelegate().findByIssueNumber(3).get().getCleanTitle());
+  }
+
+  private IssueRepository populatedStore(int count) {
+    BinaryIssueRepository store = new BinaryIssueRepository(storage.toString(), Duration.ofHours(1));
+    for (int i = 1; i <= count; i++) {
+      store.save(issue(i, "이슈 " + i));
+    }
+    store.flush();
+    return store;
+  }
+}
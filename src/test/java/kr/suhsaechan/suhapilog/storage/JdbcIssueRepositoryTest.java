@@ -0,0 +1,176 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import static kr.suhsaechan.suhapilog.storage.TestIssues.issue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.fetch.IssueFetchResult;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.service.GithubIssueService;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JdbcIssueRepositoryTest {
+
+  private static final String REPOSITORY_URL = "https://github.com/Cassiiopeia/suh-api-log/issues";
+  private static final String TABLE = JdbcIssueRepository.DEFAULT_TABLE_NAME;
+
+  private JdbcDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+  }
+
+  @Test
+  void 다른_인스턴스가_저장한_이슈를_조회() {
+    JdbcIssueRepository first = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true);
+    first.save(issue(1, "로그인 API 개선"));
+
+    // 같은 테이블을 쓰는 두 번째 인스턴스 (테이블이 이미 있어도 기동되어야 함)
+    JdbcIssueRepository second = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true);
+    GithubIssue found = second.findByIssueNumber(1).get();
+
+    assertEquals("로그인 API 개선", found.getCleanTitle());
+    assertEquals("\"etag-1\"", found.getEtag());
+    assertFalse(second.findByIssueNumber(2).isPresent());
+  }
+
+  @Test
+  void saveAll_은_있는_행은_갱신하고_없는_행만_추가() throws Exception {
+    JdbcIssueRepository repository = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true);
+    repository.save(issue(1, "이전 제목"));
+
+    GithubIssue missing = issue(3, "존재하지 않는 이슈");
+    missing.setMissing(true);
+    missing.setFailureCount(2);
+    repository.saveAll(Set.of(1, 2, 3), List.of(issue(1, "바뀐 제목"), issue(2, "새 이슈"), missing));
+
+    assertEquals(3, countRows());
+    assertEquals(IssueSetFingerprint.of(Set.of(1, 2, 3)), repository.getCurrentHash());
+
+    JdbcIssueRepository restarted = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, false);
+    assertEquals("바뀐 제목", restarted.findByIssueNumber(1).get().getCleanTitle());
+    GithubIssue reloaded = restarted.findByIssueNumber(3).get();
+    assertTrue(reloaded.isMissing());
+    assertEquals(2, reloaded.getFailureCount());
+    // 해시는 인스턴스마다 메모리에만 보관
+    assertEquals("", restarted.getCurrentHash());
+  }
+
+  @Test
+  void IN_절_크기보다_많은_이슈를_나누어_일괄_조회() {
+    JdbcIssueRepository repository = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true);
+    int total = JdbcIssueRepository.IN_CLAUSE_SIZE * 2 + 100;
+    List<GithubIssue> issues = new ArrayList<>();
+    Set<Integer> issueNumbers = new TreeSet<>();
+    for (int i = 1; i <= total; i++) {
+      issues.add(issue(i, "이슈 " + i));
+      issueNumbers.add(i);
+    }
+    repository.saveAll(issueNumbers, issues);
+
+    JdbcIssueRepository restarted = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true);
+    Set<Integer> requested = new TreeSet<>(issueNumbers);
+    requested.add(total + 1);
+    Map<Integer, GithubIssue> found = restarted.findAllByIssueNumbers(requested);
+
+    assertEquals(total, found.size());
+    assertEquals("이슈 " + total, found.get(total).getCleanTitle());
+    assertFalse(found.containsKey(total + 1));
+  }
+
+  @Test
+  void 저장소_주소가_다르면_이슈를_공유하지_않음() {
+    JdbcIssueRepository repository = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true);
+    repository.save(issue(1, "이 저장소의 이슈"));
+
+    JdbcIssueRepository other = new JdbcIssueRepository(dataSource, TABLE,
+        "https://github.com/Cassiiopeia/other/issues", true);
+    other.save(issue(1, "다른 저장소의 이슈"));
+
+    assertEquals(1, other.findAll().size());
+    assertEquals("다른 저장소의 이슈", other.findByIssueNumber(1).get().getCleanTitle());
+    JdbcIssueRepository restarted = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true);
+    assertEquals("이 저장소의 이슈", restarted.findByIssueNumber(1).get().getCleanTitle());
+  }
+
+  @Test
+  void 다른_인스턴스의_갱신은_보관_시간이_지나면_반영() throws Exception {
+    Duration cacheTtl = Duration.ofMillis(200);
+    JdbcIssueRepository first = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true, cacheTtl);
+    JdbcIssueRepository second = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true, cacheTtl);
+    first.save(issue(1, "이전 제목"));
+    assertEquals("이전 제목", first.findByIssueNumber(1).get().getCleanTitle());
+
+    second.save(issue(1, "다른 인스턴스가 바꾼 제목"));
+
+    // 보관 시간 안에는 메모리 값, 다시 읽기는 즉시, 보관 시간이 지나면 조회도 새 값
+    assertEquals("이전 제목", first.findByIssueNumber(1).get().getCleanTitle());
+    assertEquals("다른 인스턴스가 바꾼 제목", first.reload(1).get().getCleanTitle());
+    second.save(issue(1, "한 번 더 바꾼 제목"));
+    Thread.sleep(cacheTtl.toMillis() + 50);
+    assertEquals("한 번 더 바꾼 제목", first.findByIssueNumber(1).get().getCleanTitle());
+    assertEquals("한 번 더 바꾼 제목", first.findAllByIssueNumbers(List.of(1)).get(1).getCleanTitle());
+  }
+
+  @Test
+  void 만료된_이슈는_다른_인스턴스가_먼저_갱신했으면_다시_조회하지_않음() throws Exception {
+    JdbcIssueRepository first = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true,
+        Duration.ofMinutes(1));
+    JdbcIssueRepository second = new JdbcIssueRepository(dataSource, TABLE, REPOSITORY_URL, true,
+        Duration.ofMinutes(1));
+    GithubIssue stale = issue(1, "만료된 제목");
+    stale.setFetchedAt(LocalDateTime.now().minusDays(2));
+    first.save(stale);
+
+    // 다른 인스턴스가 먼저 다시 조회하여 저장
+    second.save(issue(1, "다른 인스턴스가 가져온 제목"));
+
+    ApiChangeLogProperties properties = new ApiChangeLogProperties();
+    AtomicInteger fetches = new AtomicInteger();
+    GithubIssueService service = new GithubIssueService(first, REPOSITORY_URL, "", properties,
+        (issueNumber, issueUrl) -> {
+          fetches.incrementAndGet();
+          return new IssueFetchResult(issueNumber, "[기능개선] GitHub 제목", issueUrl);
+        });
+
+    GithubIssue refreshed = service.fetchIssueInBackground(1).get(5, TimeUnit.SECONDS);
+
+    assertEquals("다른 인스턴스가 가져온 제목", refreshed.getCleanTitle());
+    assertEquals(0, fetches.get());
+  }
+
+  @Test
+  void 테이블_이름은_식별자만_허용() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new JdbcIssueRepository(dataSource, "issues; DROP TABLE users", REPOSITORY_URL, true));
+  }
+
+  private int countRows() throws Exception {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+}
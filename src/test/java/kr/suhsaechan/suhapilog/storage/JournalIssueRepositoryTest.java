@@ -0,0 +1,165 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import static kr.suhsaechan.suhapilog.storage.TestIssues.issue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalIssueRepositoryTest {
+
+  private static final String JOURNAL_FILE = "github-issues.journal";
+  private static final String SNAPSHOT_FILE = "github-issues.json";
+
+  @TempDir
+  Path storage;
+
+  @Test
+  void 저널을_다시_적용하여_복원() throws Exception {
+    JournalIssueRepository repository = new JournalIssueRepository(storage.toString(), 1000);
+    repository.save(issue(1, "첫 제목"));
+    repository.save(issue(2, "두 번째"));
+    repository.save(issue(1, "바뀐 제목"));
+
+    // close() 없이 종료된 상황
+    assertFalse(Files.exists(storage.resolve(SNAPSHOT_FILE)));
+    JournalIssueRepository restarted = new JournalIssueRepository(storage.toString(), 1000);
+
+    assertEquals(2, restarted.findAll().size());
+    assertEquals("바뀐 제목", restarted.findByIssueNumber(1).get().getCleanTitle());
+    assertEquals(3, restarted.getJournalRecords());
+  }
+
+  @Test
+  void 끊긴_마지막_기록은_버림() throws Exception {
+    JournalIssueRepository repository = new JournalIssueRepository(storage.toString(), 1000);
+    repository.save(issue(1, "온전한 기록"));
+    Files.write(storage.resolve(JOURNAL_FILE), "{\"issueNumber\":2,\"cleanTitle\":\"끊긴"
+        .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+    JournalIssueRepository restarted = new JournalIssueRepository(storage.toString(), 1000);
+    assertEquals(1, restarted.findAll().size());
+
+    // 잘라낸 뒤 추가한 기록도 다시 읽을 수 있어야 함
+    restarted.save(issue(3, "이후 기록"));
+    JournalIssueRepository again = new JournalIssueRepository(storage.toString(), 1000);
+    assertEquals(2, again.findAll().size());
+    assertEquals("이후 기록", again.findByIssueNumber(3).get().getCleanTitle());
+  }
+
+  @Test
+  void 중간의_손상된_기록은_건너뛰고_계속_적용() throws Exception {
+    JournalIssueRepository repository = new JournalIssueRepository(storage.toString(), 1000);
+    repository.save(issue(1, "첫 번째"));
+    Files.write(storage.resolve(JOURNAL_FILE), "{\"issueNumber\":2,\"clean\n"
+        .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    repository.save(issue(3, "세 번째"));
+    repository.save(issue(1, "바뀐 첫 번째"));
+    long size = Files.size(storage.resolve(JOURNAL_FILE));
+
+    JournalIssueRepository restarted = new JournalIssueRepository(storage.toString(), 1000);
+
+    // 손상된 줄 뒤의 기록도 모두 적용되고 파일은 잘리지 않음
+    assertEquals(2, restarted.findAll().size());
+    assertEquals("바뀐 첫 번째", restarted.findByIssueNumber(1).get().getCleanTitle());
+    assertEquals("세 번째", restarted.findByIssueNumber(3).get().getCleanTitle());
+    assertEquals(3, restarted.getJournalRecords());
+    assertEquals(size, Files.size(storage.resolve(JOURNAL_FILE)));
+  }
+
+  @Test
+  void 동시에_저장해도_저널_순서가_메모리와_같음() throws Exception {
+    JournalIssueRepository repository = new JournalIssueRepository(storage.toString(), 100_000);
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int thread = t;
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < 500; i++) {
+          repository.save(issue(i % 5, "스레드 " + thread + " - " + i));
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    JournalIssueRepository restarted = new JournalIssueRepository(storage.toString(), 100_000);
+    for (int issueNumber = 0; issueNumber < 5; issueNumber++) {
+      assertEquals(repository.findByIssueNumber(issueNumber).get().getCleanTitle(),
+          restarted.findByIssueNumber(issueNumber).get().getCleanTitle());
+    }
+  }
+
+  @Test
+  void 압축하면_스냅샷을_만들고_저널을_비움() throws Exception {
+    JournalIssueRepository repository = new JournalIssueRepository(storage.toString(), 1000);
+    for (int i = 1; i <= 50; i++) {
+      repository.save(issue(i, "이슈 " + i));
+    }
+    repository.compact();
+    repository.save(issue(51, "압축 후 기록"));
+
+    assertTrue(Files.exists(storage.resolve(SNAPSHOT_FILE)));
+    assertEquals(1, repository.getJournalRecords());
+
+    JournalIssueRepository restarted = new JournalIssueRepository(storage.toString(), 1000);
+    assertEquals(51, restarted.findAll().size());
+
+    // JSON 모드와 같은 스냅샷 형식
+    assertEquals(50, new JsonIssueRepository(storage.toString()).findAll().size());
+  }
+
+  @Test
+  void 기준을_넘으면_백그라운드에서_압축() throws Exception {
+    JournalIssueRepository repository = new JournalIssueRepository(storage.toString(), 10);
+    for (int i = 1; i <= 10; i++) {
+      repository.save(issue(i, "이슈 " + i));
+    }
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (repository.getJournalRecords() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    repository.close();
+
+    assertEquals(0, Files.size(storage.resolve(JOURNAL_FILE)));
+    assertEquals(10, new JournalIssueRepository(storage.toString(), 10).findAll().size());
+  }
+
+  @Test
+  void 닫은_뒤의_저장은_기록하지_않음() throws Exception {
+    JournalIssueRepository repository = new JournalIssueRepository(storage.toString(), 1000);
+    repository.save(issue(1, "닫기 전"));
+    repository.close();
+    long journalSize = Files.size(storage.resolve(JOURNAL_FILE));
+
+    repository.save(issue(2, "닫은 뒤"));
+    repository.saveAll(Set.of(1, 3), List.of(issue(3, "닫은 뒤")));
+
+    assertEquals(journalSize, Files.size(storage.resolve(JOURNAL_FILE)));
+    JournalIssueRepository restarted = new JournalIssueRepository(storage.toString(), 1000);
+    assertEquals(1, restarted.findAll().size());
+    assertEquals("닫기 전", restarted.findByIssueNumber(1).get().getCleanTitle());
+    assertEquals("", restarted.getCurrentHash());
+  }
+}
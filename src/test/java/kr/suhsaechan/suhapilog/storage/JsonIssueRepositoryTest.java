@@ -0,0 +1,73 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import static kr.suhsaechan.suhapilog.storage.TestIssues.issue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonIssueRepositoryTest {
+
+  private static final String ISSUES_FILE = "github-issues.json";
+
+  @TempDir
+  Path storage;
+
+  @Test
+  void 지연_쓰기는_종료_시_한_번에_기록() throws Exception {
+    JsonIssueRepository repository = new JsonIssueRepository(storage.toString(), Duration.ofHours(1));
+
+    for (int i = 1; i <= 300; i++) {
+      repository.save(issue(i, "이슈 " + i));
+    }
+    assertFalse(Files.exists(storage.resolve(ISSUES_FILE)));
+    assertEquals(300, repository.findAll().size());
+
+    repository.close();
+    assertTrue(Files.exists(storage.resolve(ISSUES_FILE)));
+
+    JsonIssueRepository reloaded = new JsonIssueRepository(storage.toString());
+    assertEquals(300, reloaded.findAll().size());
+    assertEquals("이슈 150", reloaded.findByIssueNumber(150).get().getCleanTitle());
+  }
+
+  @Test
+  void 지연_쓰기는_간격이_지나면_기록() throws Exception {
+    JsonIssueRepository repository = new JsonIssueRepository(storage.toString(), Duration.ofMillis(50));
+
+    List<GithubIssue> issues = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      issues.add(issue(i, "이슈 " + i));
+    }
+    repository.saveAll(Set.of(1, 2, 3), issues);
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!Files.exists(storage.resolve(ISSUES_FILE)) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Thread.sleep(100);
+
+    JsonIssueRepository reloaded = new JsonIssueRepository(storage.toString());
+    assertEquals(3, reloaded.findAll().size());
+    assertEquals(repository.getCurrentHash(), reloaded.getCurrentHash());
+    repository.close();
+  }
+
+  @Test
+  void 간격이_0이면_바로_기록() throws Exception {
+    JsonIssueRepository repository = new JsonIssueRepository(storage.toString());
+
+    repository.save(issue(1, "이슈 1"));
+
+    assertEquals(1, new JsonIssueRepository(storage.toString()).findAll().size());
+  }
+}
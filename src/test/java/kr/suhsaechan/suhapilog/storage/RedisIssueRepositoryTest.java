@@ -0,0 +1,157 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import static kr.suhsaechan.suhapilog.storage.TestIssues.issue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import org.junit.jupiter.api.Test;
+
+class RedisIssueRepositoryTest {
+
+  private static final String REPOSITORY_URL = "https://github.com/Cassiiopeia/suh-api-log/issues/";
+  private static final Duration TTL = Duration.ofDays(7);
+
+  @Test
+  void 동기화_대상을_한_번의_파이프라인으로_조회() throws Exception {
+    try (RespStubServer server = new RespStubServer()) {
+      int total = 1200;
+      List<GithubIssue> issues = new ArrayList<>();
+      Set<Integer> issueNumbers = new TreeSet<>();
+      for (int i = 1; i <= total; i++) {
+        issues.add(issue(i, "이슈 " + i));
+        issueNumbers.add(i);
+      }
+      try (RedisIssueRepository writer = repository(server.getUrl())) {
+        writer.saveAll(issueNumbers, issues);
+        // HSET 과 PEXPIRE 를 모두 한 번에 전송
+        assertEquals(1, writer.getRoundTrips());
+        assertEquals(IssueSetFingerprint.of(issueNumbers), writer.getCurrentHash());
+      }
+
+      // 다른 인스턴스
+      try (RedisIssueRepository reader = repository(server.getUrl())) {
+        Set<Integer> requested = new TreeSet<>(issueNumbers);
+        requested.add(total + 1);
+        Map<Integer, GithubIssue> found = reader.findAllByIssueNumbers(requested);
+
+        assertEquals(total, found.size());
+        assertEquals("이슈 " + total, found.get(total).getCleanTitle());
+        assertFalse(found.containsKey(total + 1));
+        assertEquals(1, reader.getRoundTrips());
+
+        // 조회한 이슈는 메모리에서 응답
+        assertEquals("이슈 1", reader.findByIssueNumber(1).get().getCleanTitle());
+        assertEquals(1, reader.getRoundTrips());
+      }
+    }
+  }
+
+  @Test
+  void 해시_필드와_만료_시간을_기록() throws Exception {
+    try (RespStubServer server = new RespStubServer();
+        RedisIssueRepository repository = repository(server.getUrl())) {
+      GithubIssue missing = issue(404, "이슈를 찾을 수 없음");
+      missing.setMissing(true);
+      missing.setFailureCount(3);
+      missing.setEtag(null);
+      repository.save(missing);
+
+      String key = repository.getKeyPrefix() + 404;
+      assertEquals("suhapilog:issue:github.com/Cassiiopeia/suh-api-log/issues:404", key);
+      assertEquals("1", server.hash(key).get("missing"));
+      assertEquals("", server.hash(key).get("etag"));
+      assertEquals(Long.valueOf(TTL.toMillis()), server.expiry(key));
+
+      try (RedisIssueRepository restarted = repository(server.getUrl())) {
+        GithubIssue reloaded = restarted.findByIssueNumber(404).get();
+        assertTrue(reloaded.isMissing());
+        assertEquals(3, reloaded.getFailureCount());
+        assertNull(reloaded.getEtag());
+        assertEquals(missing.getFetchedAt(), reloaded.getFetchedAt());
+        assertEquals(1, restarted.findAll().size());
+      }
+    }
+  }
+
+  @Test
+  void 비밀번호와_DB_번호로_연결() throws Exception {
+    try (RespStubServer server = new RespStubServer().requirePassword("s3cret");
+        RedisIssueRepository repository = new RedisIssueRepository(
+            "redis://:s3cret@127.0.0.1:" + server.getPort() + "/2", null, REPOSITORY_URL, TTL)) {
+      repository.save(issue(1, "인증된 저장"));
+
+      assertEquals(1, server.getCommandCount("AUTH"));
+      assertEquals(1, server.getCommandCount("SELECT"));
+      assertEquals(1, server.getCommandCount("HSET"));
+    }
+  }
+
+  @Test
+  void 서버에_연결할_수_없으면_없는_이슈로_처리() throws Exception {
+    int port;
+    try (RespStubServer server = new RespStubServer()) {
+      port = server.getPort();
+    }
+    try (RedisIssueRepository repository = repository("redis://127.0.0.1:" + port)) {
+      repository.save(issue(1, "저장 실패"));
+      assertFalse(repository.findAllByIssueNumbers(Set.of(2)).containsKey(2));
+    }
+  }
+
+  @Test
+  void 다른_인스턴스의_갱신은_보관_시간이_지나면_반영() throws Exception {
+    Duration cacheTtl = Duration.ofMillis(200);
+    try (RespStubServer server = new RespStubServer();
+        RedisIssueRepository first = new RedisIssueRepository(server.getUrl(), null, REPOSITORY_URL, TTL,
+            RedisIssueRepository.DEFAULT_TIMEOUT, cacheTtl);
+        RedisIssueRepository second = new RedisIssueRepository(server.getUrl(), null, REPOSITORY_URL, TTL,
+            RedisIssueRepository.DEFAULT_TIMEOUT, cacheTtl)) {
+      first.save(issue(1, "이전 제목"));
+      assertEquals("이전 제목", first.findByIssueNumber(1).get().getCleanTitle());
+
+      second.save(issue(1, "다른 인스턴스가 바꾼 제목"));
+
+      assertEquals("이전 제목", first.findByIssueNumber(1).get().getCleanTitle());
+      assertEquals("다른 인스턴스가 바꾼 제목", first.reload(1).get().getCleanTitle());
+      second.save(issue(1, "한 번 더 바꾼 제목"));
+      Thread.sleep(cacheTtl.toMillis() + 50);
+      assertEquals("한 번 더 바꾼 제목", first.findByIssueNumber(1).get().getCleanTitle());
+    }
+  }
+
+  @Test
+  void 응답이_없으면_제한_시간_안에_포기() throws Exception {
+    // 연결은 받지만 아무 응답도 보내지 않는 서버
+    try (ServerSocket silent = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        RedisIssueRepository repository = new RedisIssueRepository(
+            "redis://127.0.0.1:" + silent.getLocalPort(), null, REPOSITORY_URL, TTL, Duration.ofMillis(200),
+            Duration.ZERO)) {
+      long started = System.nanoTime();
+      assertTrue(repository.findByIssueNumber(1).isEmpty());
+      long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+      assertTrue(elapsedMillis < RedisIssueRepository.DEFAULT_TIMEOUT.toMillis(), "대기 시간: " + elapsedMillis + "ms");
+    }
+  }
+
+  @Test
+  void redis_주소만_허용() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new RedisIssueRepository("http://127.0.0.1:6379", null, REPOSITORY_URL, TTL));
+  }
+
+  private static RedisIssueRepository repository(String url) {
+    return new RedisIssueRepository(url, null, REPOSITORY_URL, TTL);
+  }
+}
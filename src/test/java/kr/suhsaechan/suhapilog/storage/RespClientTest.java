@@ -0,0 +1,74 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.List;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.TrustManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * rediss:// 연결의 인증서 호스트 이름 검증과 잘못된 응답 처리
+ * 테스트 인증서(redis/resp-stub.p12)는 localhost 에 대해서만 발급됨
+ */
+class RespClientTest {
+
+  private static final char[] PASSWORD = "changeit".toCharArray();
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private SSLContext sslContext;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    try (InputStream in = getClass().getResourceAsStream("/redis/resp-stub.p12")) {
+      keyStore.load(in, PASSWORD);
+    }
+    KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagers.init(keyStore, PASSWORD);
+    TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    trustManagers.init(keyStore);
+    sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(keyManagers.getKeyManagers(), trustManagers.getTrustManagers(), null);
+  }
+
+  @Test
+  void 인증서의_호스트_이름과_같으면_연결() throws Exception {
+    try (RespStubServer server = new RespStubServer(sslContext.getServerSocketFactory());
+        RespClient client = new RespClient("rediss://localhost:" + server.getPort(), TIMEOUT,
+            sslContext.getSocketFactory())) {
+      assertEquals(List.of("PONG"), client.pipeline(List.of(List.of("PING"))));
+    }
+  }
+
+  @Test
+  void 인증서의_호스트_이름과_다르면_거부() throws Exception {
+    // 신뢰하는 인증서라도 접속한 주소(127.0.0.1)와 인증서 이름(localhost)이 다르면 중간자로 간주
+    try (RespStubServer server = new RespStubServer(sslContext.getServerSocketFactory());
+        RespClient client = new RespClient("rediss://127.0.0.1:" + server.getPort(), TIMEOUT,
+            sslContext.getSocketFactory())) {
+      assertThrows(SSLHandshakeException.class, () -> client.pipeline(List.of(List.of("PING"))));
+      assertEquals(0, server.getCommandCount("PING"));
+    }
+  }
+
+  @Test
+  void 숫자를_읽을_수_없는_응답을_받으면_연결을_끊음() throws Exception {
+    try (RespStubServer server = new RespStubServer().malformedReplies(1);
+        RespClient client = new RespClient(server.getUrl(), TIMEOUT)) {
+      assertThrows(IOException.class, () -> client.pipeline(List.of(List.of("PING"), List.of("PING"))));
+
+      // 읽지 않은 응답이 남은 연결을 다시 쓰지 않고 새로 연결
+      assertEquals(List.of("PONG"), client.pipeline(List.of(List.of("PING"))));
+      assertEquals(2, server.getConnectionCount());
+    }
+  }
+}
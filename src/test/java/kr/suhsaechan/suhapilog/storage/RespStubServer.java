@@ -0,0 +1,291 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import javax.net.ServerSocketFactory;
+
+/**
+ * 테스트용 RESP 스텁 서버 (오프라인 테스트용)
+ * AUTH, SELECT, PING, HSET, HGETALL, PEXPIRE, PTTL, SCAN 만 지원하며 만료는 기록만 하고 적용하지 않음.
+ * 실제 서버처럼 응답을 별도 스레드에서 보내므로 클라이언트가 모든 명령을 보낸 뒤 응답을 읽어도 막히지 않음
+ */
+class RespStubServer implements AutoCloseable {
+
+  private static final byte[] END = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+  private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+  private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> commandCounts = new ConcurrentHashMap<>();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicInteger malformedReplies = new AtomicInteger();
+  private final ServerSocket serverSocket;
+  private volatile String password;
+
+  RespStubServer() throws IOException {
+    this(ServerSocketFactory.getDefault());
+  }
+
+  /**
+   * @param factory 서버 소켓 팩토리 (TLS 테스트에는 SSLServerSocketFactory)
+   */
+  RespStubServer(ServerSocketFactory factory) throws IOException {
+    serverSocket = factory.createServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::acceptLoop, "resp-stub-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  RespStubServer requirePassword(String password) {
+    this.password = password;
+    return this;
+  }
+
+  /**
+   * 다음 count 개 명령에 숫자가 아닌 정수 응답을 보냄
+   */
+  RespStubServer malformedReplies(int count) {
+    malformedReplies.set(count);
+    return this;
+  }
+
+  String getUrl() {
+    return "redis://127.0.0.1:" + serverSocket.getLocalPort();
+  }
+
+  int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  int getConnectionCount() {
+    return connections.get();
+  }
+
+  int getCommandCount(String command) {
+    AtomicInteger count = commandCounts.get(command);
+    return count == null ? 0 : count.get();
+  }
+
+  Map<String, String> hash(String key) {
+    return hashes.get(key);
+  }
+
+  Long expiry(String key) {
+    return expiries.get(key);
+  }
+
+  private void acceptLoop() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        connections.incrementAndGet();
+        Thread handler = new Thread(() -> handle(socket), "resp-stub-connection");
+        handler.setDaemon(true);
+        handler.start();
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void handle(Socket socket) {
+    BlockingQueue<byte[]> replies = new LinkedBlockingQueue<>();
+    Thread writer = new Thread(() -> writeLoop(socket, replies), "resp-stub-writer");
+    writer.setDaemon(true);
+    writer.start();
+    boolean[] authenticated = {password == null};
+    try (Socket connection = socket) {
+      InputStream in = new BufferedInputStream(connection.getInputStream());
+      while (true) {
+        List<String> command = readCommand(in);
+        if (command == null) {
+          return;
+        }
+        replies.put(execute(command, authenticated));
+      }
+    } catch (IOException | InterruptedException e) {
+      // 클라이언트 연결 종료
+    } finally {
+      writer.interrupt();
+    }
+  }
+
+  private void writeLoop(Socket socket, BlockingQueue<byte[]> replies) {
+    try {
+      OutputStream out = socket.getOutputStream();
+      while (true) {
+        byte[] reply = replies.take();
+        out.write(reply);
+        if (replies.isEmpty()) {
+          out.flush();
+        }
+      }
+    } catch (IOException | InterruptedException e) {
+      // 연결 종료
+    }
+  }
+
+  private byte[] execute(List<String> command, boolean[] authenticated) {
+    String name = command.get(0).toUpperCase();
+    commandCounts.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+    if (name.equals("AUTH")) {
+      String given = command.get(command.size() - 1);
+      authenticated[0] = given.equals(password);
+      return authenticated[0] ? simple("OK") : error("WRONGPASS invalid password");
+    }
+    if (!authenticated[0]) {
+      return error("NOAUTH Authentication required.");
+    }
+    if (malformedReplies.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+      return ":not-a-number\r\n".getBytes(StandardCharsets.US_ASCII);
+    }
+    switch (name) {
+      case "PING":
+        return simple("PONG");
+      case "SELECT":
+        return simple("OK");
+      case "HSET": {
+        Map<String, String> hash = hashes.computeIfAbsent(command.get(1), key -> new ConcurrentHashMap<>());
+        int added = 0;
+        for (int i = 2; i + 1 < command.size(); i += 2) {
+          if (hash.put(command.get(i), command.get(i + 1)) == null) {
+            added++;
+          }
+        }
+        return integer(added);
+      }
+      case "HGETALL": {
+        Map<String, String> hash = hashes.get(command.get(1));
+        List<String> pairs = new ArrayList<>();
+        if (hash != null) {
+          new LinkedHashMap<>(hash).forEach((field, value) -> {
+            pairs.add(field);
+            pairs.add(value);
+          });
+        }
+        return array(pairs);
+      }
+      case "PEXPIRE":
+        if (!hashes.containsKey(command.get(1))) {
+          return integer(0);
+        }
+        expiries.put(command.get(1), Long.parseLong(command.get(2)));
+        return integer(1);
+      case "PTTL":
+        return integer(expiries.getOrDefault(command.get(1), -1L));
+      case "SCAN": {
+        // 커서 없이 한 번에 모든 키를 돌려줌
+        Pattern pattern = Pattern.compile(globToRegex(command.get(3)));
+        List<String> keys = new ArrayList<>();
+        for (String key : hashes.keySet()) {
+          if (pattern.matcher(key).matches()) {
+            keys.add(key);
+          }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("*2\r\n".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(bulk("0"));
+        out.writeBytes(array(keys));
+        return out.toByteArray();
+      }
+      default:
+        return error("ERR unknown command '" + name + "'");
+    }
+  }
+
+  private static String globToRegex(String glob) {
+    StringBuilder regex = new StringBuilder();
+    for (int i = 0; i < glob.length(); i++) {
+      char c = glob.charAt(i);
+      if (c == '\\' && i + 1 < glob.length()) {
+        regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+      } else if (c == '*') {
+        regex.append(".*");
+      } else if (c == '?') {
+        regex.append('.');
+      } else {
+        regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+    return regex.toString();
+  }
+
+  private static List<String> readCommand(InputStream in) throws IOException {
+    String header = readLine(in);
+    if (header == null) {
+      return null;
+    }
+    int count = Integer.parseInt(header.substring(1));
+    List<String> arguments = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int length = Integer.parseInt(readLine(in).substring(1));
+      byte[] bytes = in.readNBytes(length);
+      in.readNBytes(2);
+      arguments.add(new String(bytes, StandardCharsets.UTF_8));
+    }
+    return arguments;
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = in.read()) != '\r') {
+      if (b < 0) {
+        return null;
+      }
+      line.write(b);
+    }
+    in.read();
+    return line.toString(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] simple(String value) {
+    return ("+" + value + "\r\n").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] error(String message) {
+    return ("-" + message + "\r\n").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] integer(long value) {
+    return (":" + value + "\r\n").getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private static byte[] bulk(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length + 16);
+    out.writeBytes(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    out.writeBytes(bytes);
+    out.writeBytes(END);
+    return out.toByteArray();
+  }
+
+  private static byte[] array(List<String> values) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes(("*" + values.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    for (String value : values) {
+      out.writeBytes(bulk(value));
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+  }
+}
@@ -0,0 +1,33 @@
+package kr.suhsaechan.suhapilog.storage;
+
+import java.time.LocalDateTime;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+
+/**
+ * 저장소 테스트에서 함께 쓰는 이슈 픽스처
+ */
+final class TestIssues {
+
+  static final String PAGE_URL_PREFIX = "https://github.com/owner/repo/issues/";
+
+  private TestIssues() {
+  }
+
+  /**
+   * 지금 조회한 이슈 (초 단위로 잘라 모든 저장소에서 그대로 복원됨)
+   */
+  static GithubIssue issue(int issueNumber, String title) {
+    return issue(issueNumber, title, LocalDateTime.now().withNano(0));
+  }
+
+  static GithubIssue issue(int issueNumber, String title, LocalDateTime fetchedAt) {
+    return GithubIssue.builder()
+        .issueNumber(issueNumber)
+        .cleanTitle(title)
+        .rawTitle("[기능] " + title)
+        .pageUrl(PAGE_URL_PREFIX + issueNumber)
+        .fetchedAt(fetchedAt)
+        .etag("\"etag-" + issueNumber + "\"")
+        .build();
+  }
+}
@@ -0,0 +1,69 @@
+package kr.suhsaechan.suhapilog.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentIntObjectMapTest {
+
+  @Test
+  void 저장하고_조회() {
+    ConcurrentIntObjectMap<String> map = new ConcurrentIntObjectMap<>(4);
+    for (int i = -100; i <= 1000; i++) {
+      assertNull(map.put(i, "issue-" + i));
+    }
+
+    assertEquals(1101, map.size());
+    assertEquals("issue-0", map.get(0));
+    assertEquals("issue--100", map.get(-100));
+    assertEquals("issue-777", map.get(777));
+    assertNull(map.get(1001));
+    assertEquals(1101, map.values().size());
+
+    assertEquals("issue-777", map.put(777, "updated"));
+    assertEquals("updated", map.get(777));
+    assertEquals(1101, map.size());
+  }
+
+  @Test
+  void 확장_중에도_읽기는_항상_저장된_값을_봄() throws Exception {
+    ConcurrentIntObjectMap<Integer> map = new ConcurrentIntObjectMap<>(2);
+    AtomicInteger written = new AtomicInteger();
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicInteger errors = new AtomicInteger();
+    CountDownLatch readersDone = new CountDownLatch(4);
+
+    for (int r = 0; r < 4; r++) {
+      Thread reader = new Thread(() -> {
+        while (!done.get()) {
+          int upTo = written.get();
+          for (int key = 1; key <= upTo; key++) {
+            Integer value = map.get(key);
+            if (value == null || value != key) {
+              errors.incrementAndGet();
+            }
+          }
+        }
+        readersDone.countDown();
+      });
+      reader.setDaemon(true);
+      reader.start();
+    }
+
+    for (int key = 1; key <= 20000; key++) {
+      map.put(key, key);
+      written.set(key);
+    }
+    done.set(true);
+    assertTrue(readersDone.await(10, TimeUnit.SECONDS));
+
+    assertEquals(0, errors.get());
+    assertEquals(20000, map.size());
+  }
+}
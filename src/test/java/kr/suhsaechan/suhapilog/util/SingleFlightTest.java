@@ -0,0 +1,91 @@
+package kr.suhsaechan.suhapilog.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  @Test
+  void 같은_키의_동시_호출은_한_번만_실행() throws Exception {
+    SingleFlight<Integer, String> singleFlight = new SingleFlight<>();
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      results.add(executor.submit(() -> singleFlight.execute(1, () -> {
+        calls.incrementAndGet();
+        started.countDown();
+        release.await();
+        return "이슈 1";
+      })));
+      started.await(5, TimeUnit.SECONDS);
+
+      // 첫 호출이 진행 중인 동안 들어온 호출은 실행되지 않고 결과를 기다림
+      for (int i = 0; i < 7; i++) {
+        results.add(executor.submit(() -> singleFlight.execute(1, () -> {
+          calls.incrementAndGet();
+          return "중복 조회";
+        })));
+      }
+      while (!singleFlight.isInFlight(1)) {
+        Thread.onSpinWait();
+      }
+      Thread.sleep(100);
+      release.countDown();
+
+      for (Future<String> result : results) {
+        assertEquals("이슈 1", result.get(5, TimeUnit.SECONDS));
+      }
+      assertEquals(1, calls.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void 여러_키는_진행_중인_키를_빼고_한_번에_실행() throws Exception {
+    SingleFlight<Integer, String> singleFlight = new SingleFlight<>();
+    CountDownLatch release = new CountDownLatch(1);
+    List<Set<Integer>> batches = new ArrayList<>();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      CompletableFuture<String> running = singleFlight.submit(1, executor, () -> {
+        release.await();
+        return "이슈 1";
+      });
+      Map<Integer, CompletableFuture<String>> futures = singleFlight.submitAll(List.of(1, 2, 3), executor, keys -> {
+        batches.add(keys);
+        return Map.of(2, "이슈 2");
+      });
+      release.countDown();
+
+      // 진행 중인 1번은 기존 호출의 결과를 받고, 2번과 3번만 한 번에 실행
+      assertSame(running, futures.get(1));
+      assertEquals("이슈 1", futures.get(1).get(5, TimeUnit.SECONDS));
+      assertEquals("이슈 2", futures.get(2).get(5, TimeUnit.SECONDS));
+      // 결과에 없는 키는 null 로 완료
+      assertNull(futures.get(3).get(5, TimeUnit.SECONDS));
+      assertEquals(List.of(Set.of(2, 3)), batches);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
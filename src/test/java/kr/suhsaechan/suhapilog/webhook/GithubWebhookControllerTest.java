@@ -0,0 +1,103 @@
+package kr.suhsaechan.suhapilog.webhook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import kr.suhsaechan.suhapilog.config.ApiChangeLogProperties;
+import kr.suhsaechan.suhapilog.model.GithubIssue;
+import kr.suhsaechan.suhapilog.service.GithubIssueService;
+import kr.suhsaechan.suhapilog.storage.JsonIssueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class GithubWebhookControllerTest {
+
+  private static final String BASE_URL = "https://github.com/Cassiiopeia/suh-api-log/issues";
+  private static final String PATH = "/suhapilog/webhook/github";
+  private static final String SECRET = "webhook-test-secret";
+
+  @TempDir
+  Path storage;
+
+  private GithubIssueService service;
+  private GithubWebhookHandler handler;
+  private MockMvc mockMvc;
+  private byte[] payload;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    JsonIssueRepository repository = new JsonIssueRepository(storage.toString());
+    repository.save(GithubIssue.builder()
+        .issueNumber(1)
+        .cleanTitle("로그인 API 개선")
+        .rawTitle("[기능개선] 로그인 API 개선")
+        .pageUrl(BASE_URL + "/1")
+        .fetchedAt(LocalDateTime.now())
+        .build());
+    service = new GithubIssueService(repository, BASE_URL, "", new ApiChangeLogProperties(),
+        (issueNumber, issueUrl) -> {
+          throw new AssertionError("웹훅 처리 중에는 GitHub 를 조회하지 않아야 함");
+        });
+
+    handler = new GithubWebhookHandler(service, SECRET);
+    mockMvc = MockMvcBuilders.standaloneSetup(new GithubWebhookController(handler)).build();
+    try (InputStream in = getClass().getResourceAsStream("/webhook/issues-edited.json")) {
+      payload = in.readAllBytes();
+    }
+  }
+
+  @Test
+  void 서명된_edited_이벤트로_제목_갱신() throws Exception {
+    mockMvc.perform(post(PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(GithubWebhookHandler.EVENT_HEADER, "issues")
+            .header(GithubWebhookHandler.SIGNATURE_HEADER, "sha256=" + handler.sign(payload))
+            .content(payload))
+        .andExpect(status().isOk())
+        .andExpect(content().string("updated"));
+
+    assertEquals("로그인 API 응답 형식 변경", service.getOrFetchIssue(1).getCleanTitle());
+  }
+
+  @Test
+  void 서명이_다르면_거부() throws Exception {
+    mockMvc.perform(post(PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(GithubWebhookHandler.EVENT_HEADER, "issues")
+            .header(GithubWebhookHandler.SIGNATURE_HEADER, "sha256=" + "0".repeat(64))
+            .content(payload))
+        .andExpect(status().isUnauthorized());
+
+    assertEquals("로그인 API 개선", service.getOrFetchIssue(1).getCleanTitle());
+  }
+
+  @Test
+  void 저장되지_않은_이슈는_무시() throws Exception {
+    byte[] other = new String(payload, "UTF-8")
+        .replace("\"number\": 1,", "\"number\": 2,")
+        .replace("/issues/1\"", "/issues/2\"")
+        .getBytes("UTF-8");
+
+    mockMvc.perform(post(PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(GithubWebhookHandler.EVENT_HEADER, "issues")
+            .header(GithubWebhookHandler.SIGNATURE_HEADER, "sha256=" + handler.sign(other))
+            .content(other))
+        .andExpect(status().isAccepted());
+  }
+
+  @Test
+  void 비밀값이_없으면_생성_실패() {
+    assertThrows(IllegalStateException.class, () -> new GithubWebhookHandler(service, ""));
+  }
+}
@@ -0,0 +1,214 @@
+package kr.suhsaechan.suhapilog.processor;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * @ApiLog / @ApiLogs 선언 위치를 컴파일 타임에 수집하여 META-INF/suhapilog/index 리소스로 기록하는 어노테이션 프로세서
+ *
+ * <p>런타임에는 이 인덱스를 읽어 컨트롤러 리플렉션 스캔 없이 이슈 번호를 수집합니다.</p>
+ *
+ * <p>인덱스 형식 (UTF-8, 한 줄에 @ApiLog 하나):</p>
+ * <pre>
+ * # suh-api-log index v2
+ * # covers 패키지명
+ * 선언타입 \t 메서드명 \t 파라미터타입(콤마 구분) \t 날짜 \t 작성자 \t 설명 \t 이슈번호
+ * </pre>
+ * 각 값의 역슬래시, 탭, 줄바꿈은 {@code \\}, {@code \t}, {@code \n}, {@code \r} 로 이스케이프됩니다.
+ *
+ * <p>{@code # covers} 줄은 이 컴파일에 포함된 모든 타입의 패키지로, 인덱스가 함께 기록된 클래스 출력(디렉토리 또는 jar)의
+ * 해당 패키지를 프로세서가 모두 처리했다는 표시입니다. @ApiLog 가 없는 타입도 포함하기 위해 모든 어노테이션을 대상으로 하며,
+ * 어노테이션을 소비하지 않으므로 다른 프로세서에는 영향이 없습니다.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class ApiLogIndexProcessor extends AbstractProcessor {
+
+  static final String API_LOG = "kr.suhsaechan.suhapilog.annotation.ApiLog";
+  static final String API_LOGS = "kr.suhsaechan.suhapilog.annotation.ApiLogs";
+
+  static final String INDEX_LOCATION = "META-INF/suhapilog/index";
+  static final String INDEX_HEADER = "# suh-api-log index v2";
+  static final String COVERS_PREFIX = "# covers ";
+
+  // 여러 라운드에 걸쳐 수집한 뒤 마지막 라운드에서 한 번만 기록
+  private final List<String> entries = new ArrayList<>();
+  private final Set<Element> originatingElements = new LinkedHashSet<>();
+  private final Set<String> coveredPackages = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      if (!coveredPackages.isEmpty()) {
+        writeIndex();
+      }
+      return false;
+    }
+
+    // 이 컴파일이 처리한 패키지 기록 (@ApiLog 가 없는 타입도 포함)
+    for (Element rootElement : roundEnv.getRootElements()) {
+      coveredPackages.add(processingEnv.getElementUtils().getPackageOf(rootElement).getQualifiedName().toString());
+      originatingElements.add(rootElement);
+    }
+
+    // @ApiLog 단일 선언과 @Repeatable 컨테이너(@ApiLogs) 모두 수집 (같은 메서드 중복 방지)
+    Set<Element> annotatedElements = new LinkedHashSet<>();
+    for (String annotationName : new String[]{API_LOG, API_LOGS}) {
+      TypeElement annotation = processingEnv.getElementUtils().getTypeElement(annotationName);
+      if (annotation != null) {
+        annotatedElements.addAll(roundEnv.getElementsAnnotatedWith(annotation));
+      }
+    }
+
+    for (Element element : annotatedElements) {
+      if (element.getKind() != ElementKind.METHOD) {
+        continue;
+      }
+      ExecutableElement method = (ExecutableElement) element;
+      TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+
+      for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+        String annotationName = ((TypeElement) mirror.getAnnotationType().asElement())
+            .getQualifiedName().toString();
+
+        if (API_LOG.equals(annotationName)) {
+          entries.add(toEntry(declaringType, method, mirror));
+        } else if (API_LOGS.equals(annotationName)) {
+          for (AnnotationMirror apiLog : readContainerValues(mirror)) {
+            entries.add(toEntry(declaringType, method, apiLog));
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @ApiLog 하나를 인덱스 한 줄로 변환
+   */
+  private String toEntry(TypeElement declaringType, ExecutableElement method, AnnotationMirror apiLog) {
+    Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+        processingEnv.getElementUtils().getElementValuesWithDefaults(apiLog);
+
+    String parameterTypes = method.getParameters().stream()
+        .map(VariableElement::asType)
+        .map(type -> processingEnv.getTypeUtils().erasure(type).toString())
+        .collect(Collectors.joining(","));
+
+    return String.join("\t",
+        escape(processingEnv.getElementUtils().getBinaryName(declaringType).toString()),
+        escape(method.getSimpleName().toString()),
+        escape(parameterTypes),
+        escape(stringValue(values, "date")),
+        escape(stringValue(values, "author")),
+        escape(stringValue(values, "description")),
+        stringValue(values, "issueNumber"));
+  }
+
+  /**
+   * @ApiLogs 컨테이너의 value 배열에서 @ApiLog 목록 추출
+   */
+  @SuppressWarnings("unchecked")
+  private List<AnnotationMirror> readContainerValues(AnnotationMirror container) {
+    List<AnnotationMirror> result = new ArrayList<>();
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : container.getElementValues().entrySet()) {
+      if ("value".contentEquals(entry.getKey().getSimpleName())) {
+        for (AnnotationValue value : (List<? extends AnnotationValue>) entry.getValue().getValue()) {
+          result.add((AnnotationMirror) value.getValue());
+        }
+      }
+    }
+    return result;
+  }
+
+  private String stringValue(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+      if (name.contentEquals(entry.getKey().getSimpleName())) {
+        return String.valueOf(entry.getValue().getValue());
+      }
+    }
+    return "";
+  }
+
+  /**
+   * 수집된 항목을 CLASS_OUTPUT 에 기록
+   */
+  private void writeIndex() {
+    try {
+      FileObject resource = processingEnv.getFiler().createResource(
+          StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION,
+          originatingElements.toArray(new Element[0]));
+      try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+        writer.write(INDEX_HEADER);
+        writer.write("\n");
+        for (String packageName : coveredPackages) {
+          writer.write(COVERS_PREFIX);
+          writer.write(packageName);
+          writer.write("\n");
+        }
+        for (String entry : entries) {
+          writer.write(entry);
+          writer.write("\n");
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "@ApiLog 인덱스를 기록하지 못했습니다: " + e.getMessage());
+    }
+  }
+
+  static String escape(String value) {
+    if (value == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        default:
+          sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+}